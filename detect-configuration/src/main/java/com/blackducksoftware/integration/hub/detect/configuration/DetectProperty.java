@@ -269,6 +269,10 @@ public enum DetectProperty {
     @HelpDescription("The output directory for all scan files. If not set, the scan files will be in a 'scan' subdirectory of the output path.")
     DETECT_SCAN_OUTPUT_PATH("detect.scan.output.path", "3.0.0", PropertyType.STRING, PropertyAuthority.DirectoryManager),
 
+    @HelpGroup(primary = GROUP_PATHS)
+    @HelpDescription("The number of seconds an inspector version resolved from Artifactory is reused before Artifactory is asked again. Downloaded inspectors are kept in a 'tools/artifacts' subdirectory of the output path regardless of this value.")
+    DETECT_INSPECTOR_VERSION_CACHE_TTL("detect.inspector.version.cache.ttl", "5.2.0", PropertyType.INTEGER, PropertyAuthority.None, "86400"),
+
     @HelpGroup(primary = GROUP_SBT, additional = { GROUP_PATHS })
     @HelpDescription("Depth the sbt detector will use to search for report files.")
     DETECT_SBT_REPORT_DEPTH("detect.sbt.report.search.depth", "4.3.0", PropertyType.INTEGER, PropertyAuthority.None, "3"),
@@ -358,6 +362,11 @@ public enum DetectProperty {
     @HelpDetailed("If true, these directories will be excluded from the detector search: " + DetectorSearchExcludedDirectories.DIRECTORY_NAMES)
     DETECT_DETECTOR_SEARCH_EXCLUSION_DEFAULTS("detect.detector.search.exclusion.defaults", "3.2.0", PropertyType.BOOLEAN, PropertyAuthority.None, "true"),
 
+    @HelpGroup(primary = GROUP_PATHS, additional = { GROUP_DETECTOR, SEARCH_GROUP_SEARCH })
+    @HelpDescription("The number of threads to use when searching directories for applicable detectors. A value of 1 searches one directory at a time.")
+    @HelpDetailed("If greater than 1, sibling directories are searched concurrently. Nesting and yield rules, as well as the order of the search results, are the same as a single threaded search.")
+    DETECT_DETECTOR_SEARCH_THREADS("detect.detector.search.threads", "5.2.0", PropertyType.INTEGER, PropertyAuthority.None, "1"),
+
     @Deprecated
     @DetectDeprecation(description = "This property is changing. Please use --detect.excluded.detector.types in the future.", failInVersion = DetectMajorVersion.SIX, removeInVersion = DetectMajorVersion.SEVEN)
     @HelpGroup(primary = GROUP_BOMTOOL, additional = { SEARCH_GROUP_SEARCH })
@@ -378,6 +387,20 @@ public enum DetectProperty {
     @HelpDescription("By default, all tools will be included. If you want to include only specific tools, specify the ones to include here. Exclusion rules always win.")
     DETECT_INCLUDED_DETECTOR_TYPES("detect.included.detector.types", "3.0.0", PropertyType.STRING, PropertyAuthority.None),
 
+    @HelpGroup(primary = GROUP_DETECTOR)
+    @HelpDescription("The number of applicable detectors to prepare for extraction in parallel. A value of 1 prepares one detector at a time.")
+    @HelpDetailed("Preparing a detector resolves its executables and inspectors, which may run processes or download files.")
+    DETECT_DETECTOR_PREPARATION_THREADS("detect.detector.preparation.threads", "5.2.0", PropertyType.INTEGER, PropertyAuthority.None, "1"),
+
+    @HelpGroup(primary = GROUP_DETECTOR)
+    @HelpDescription("The number of detector extractions to run in parallel. A value of 1 runs one extraction at a time.")
+    @HelpDetailed("Extractions that parse files are limited only by this value. Extractions that run a heavyweight external build (Gradle, Maven, SBT and Bitbake) are additionally limited by detect.detector.extraction.heavyweight.threads.")
+    DETECT_DETECTOR_EXTRACTION_THREADS("detect.detector.extraction.threads", "5.2.0", PropertyType.INTEGER, PropertyAuthority.None, "1"),
+
+    @HelpGroup(primary = GROUP_DETECTOR)
+    @HelpDescription("The maximum number of heavyweight detector extractions (Gradle, Maven, SBT and Bitbake) to run at the same time when extractions run in parallel.")
+    DETECT_DETECTOR_EXTRACTION_HEAVYWEIGHT_THREADS("detect.detector.extraction.heavyweight.threads", "5.2.0", PropertyType.INTEGER, PropertyAuthority.None, "1"),
+
     @HelpGroup(primary = GROUP_PROJECT_INFO, additional = { SEARCH_GROUP_PROJECT })
     @HelpDescription("An override for the name detect will use for the code location it creates. If supplied and multiple code locations are found, detect will append an index to each code location name.")
     DETECT_CODE_LOCATION_NAME("detect.code.location.name", "4.0.0", PropertyType.STRING, PropertyAuthority.None),
@@ -597,6 +620,10 @@ public enum DetectProperty {
     @HelpDescription("The path of the requirements.txt file")
     DETECT_PIP_REQUIREMENTS_PATH("detect.pip.requirements.path", "3.0.0", PropertyType.STRING, PropertyAuthority.None),
 
+    @HelpGroup(primary = GROUP_PIP)
+    @HelpDescription("If true, a single pip inspector process inspects every pip project, reading project names from setup.py itself instead of running each setup.py separately")
+    DETECT_PIP_BATCH("detect.pip.batch", "5.2.0", PropertyType.BOOLEAN, PropertyAuthority.None, "false"),
+
     @HelpGroup(primary = GROUP_GO)
     @HelpDescription("Path of the Go Dep executable")
     DETECT_GO_DEP_PATH("detect.go.dep.path", "3.0.0", PropertyType.STRING, PropertyAuthority.None),
@@ -844,6 +871,10 @@ public enum DetectProperty {
     @HelpDescription("A comma separated list of package names to extract dependencies from")
     DETECT_BITBAKE_PACKAGE_NAMES("detect.bitbake.package.names", "4.4.0", PropertyType.STRING_ARRAY, PropertyAuthority.None),
 
+    @HelpGroup(primary = GROUP_BITBAKE)
+    @HelpDescription("If true, the build environment is sourced once and the dependencies of all packages are requested in a single bitbake invocation, producing one code location for all of them")
+    DETECT_BITBAKE_BATCH("detect.bitbake.batch", "5.2.0", PropertyType.BOOLEAN, PropertyAuthority.None, "false"),
+
     @HelpGroup(primary = GROUP_CONDA)
     @HelpDescription("The path of the conda executable")
     DETECT_CONDA_PATH("detect.conda.path", "3.0.0", PropertyType.STRING, PropertyAuthority.None),
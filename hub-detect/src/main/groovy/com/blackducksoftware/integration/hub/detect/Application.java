@@ -125,7 +125,7 @@ public class Application implements ApplicationRunner {
                 DirectoryManager directoryManager = detectContext.getBean(DirectoryManager.class);
                 DetectConfiguration detectConfiguration = detectContext.getBean(DetectConfiguration.class);
                 ConnectivityManager connectivityManager = detectContext.getBean(ConnectivityManager.class);
-                ShutdownManager shutdownManager = new ShutdownManager(connectivityManager, statusManager, exitCodeManager, directoryManager, detectConfiguration, reportManager, diagnosticManager);
+                ShutdownManager shutdownManager = new ShutdownManager(connectivityManager, statusManager, exitCodeManager, directoryManager, detectConfiguration, reportManager, diagnosticManager, eventSystem);
                 logger.info("Detect shutdown begin.");
                 shutdownManager.shutdown(runResult);
                 logger.info("Detect shutdown completed.");
@@ -137,6 +137,8 @@ public class Application implements ApplicationRunner {
             logger.debug("Detect will NOT attempt to run.");
         }
 
+        //Status summaries are delivered asynchronously, they must all have arrived before detect decides how to exit.
+        eventSystem.flush();
         logger.info("All detect actions completed.");
 
         //Determine how detect should actually exit
@@ -121,9 +121,11 @@ import com.blackducksoftware.integration.hub.detect.detector.sbt.SbtResolutionCa
 import com.blackducksoftware.integration.hub.detect.detector.yarn.YarnListParser;
 import com.blackducksoftware.integration.hub.detect.detector.yarn.YarnLockDetector;
 import com.blackducksoftware.integration.hub.detect.detector.yarn.YarnLockExtractor;
+import com.blackducksoftware.integration.hub.detect.detector.yarn.YarnLockGraphTransformer;
 import com.blackducksoftware.integration.hub.detect.detector.yarn.YarnLockParser;
 import com.blackducksoftware.integration.hub.detect.util.executable.CacheableExecutableFinder;
 import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableFinder;
+import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableResolutionCache;
 import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableRunner;
 import com.blackducksoftware.integration.hub.detect.workflow.ArtifactResolver;
 import com.blackducksoftware.integration.hub.detect.workflow.file.AirGapManager;
@@ -169,6 +171,8 @@ public class DetectorBeanConfiguration {
     public ArtifactResolver artifactResolver;
     @Autowired
     public DetectInfo detectInfo;
+    @Autowired
+    public ExecutableResolutionCache executableResolutionCache;
 
     //DetectorFactory
     //This is the ONLY class that should be taken from the Configuration manually.
@@ -199,7 +203,7 @@ public class DetectorBeanConfiguration {
 
     @Bean
     public ClangExtractor clangExtractor() {
-        return new ClangExtractor(detectConfiguration, executableRunner, gson, detectFileFinder, directoryManager, clangDependenciesListFileParser(), codeLocationAssembler());
+        return new ClangExtractor(executableRunner, gson, detectFileFinder, directoryManager, clangDependenciesListFileParser(), codeLocationAssembler());
     }
 
     public List<ClangLinuxPackageManager> clangLinuxPackageManagers() {
@@ -332,7 +336,7 @@ public class DetectorBeanConfiguration {
 
     @Bean
     public NpmCliExtractor npmCliExtractor() {
-        return new NpmCliExtractor(executableRunner, npmCliDependencyFinder(), detectConfiguration);
+        return new NpmCliExtractor(executableRunner, npmCliDependencyFinder(), detectConfiguration, directoryManager);
     }
 
     @Bean
@@ -342,7 +346,7 @@ public class DetectorBeanConfiguration {
 
     @Bean
     public NpmExecutableFinder npmExecutableFinder() {
-        return new NpmExecutableFinder(directoryManager, executableFinder, executableRunner, detectConfiguration);
+        return new NpmExecutableFinder(directoryManager, executableFinder, executableRunner, detectConfiguration, executableResolutionCache);
     }
 
     @Bean
@@ -430,9 +434,14 @@ public class DetectorBeanConfiguration {
         return new YarnLockParser();
     }
 
+    @Bean
+    public YarnLockGraphTransformer yarnLockGraphTransformer() {
+        return new YarnLockGraphTransformer(externalIdFactory);
+    }
+
     @Bean
     public YarnLockExtractor yarnLockExtractor() {
-        return new YarnLockExtractor(externalIdFactory, yarnListParser(), executableRunner, detectConfiguration);
+        return new YarnLockExtractor(externalIdFactory, yarnLockParser(), yarnLockGraphTransformer(), yarnListParser(), executableRunner, detectConfiguration, gson);
     }
 
     @Bean
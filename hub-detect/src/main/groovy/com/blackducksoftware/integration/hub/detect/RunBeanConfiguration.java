@@ -23,6 +23,8 @@
  */
 package com.blackducksoftware.integration.hub.detect;
 
+import java.util.concurrent.TimeUnit;
+
 import javax.xml.parsers.DocumentBuilder;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -44,7 +46,9 @@ import com.blackducksoftware.integration.hub.detect.tool.signaturescanner.Offlin
 import com.blackducksoftware.integration.hub.detect.tool.signaturescanner.OnlineBlackDuckSignatureScanner;
 import com.blackducksoftware.integration.hub.detect.util.executable.CacheableExecutableFinder;
 import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableFinder;
+import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableResolutionCache;
 import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableRunner;
+import com.blackducksoftware.integration.hub.detect.workflow.ArtifactCache;
 import com.blackducksoftware.integration.hub.detect.workflow.ArtifactResolver;
 import com.blackducksoftware.integration.hub.detect.workflow.ConnectivityManager;
 import com.blackducksoftware.integration.hub.detect.workflow.DetectRun;
@@ -56,6 +60,7 @@ import com.blackducksoftware.integration.hub.detect.workflow.event.EventSystem;
 import com.blackducksoftware.integration.hub.detect.workflow.file.AirGapManager;
 import com.blackducksoftware.integration.hub.detect.workflow.file.AirGapOptions;
 import com.blackducksoftware.integration.hub.detect.workflow.file.DetectFileFinder;
+import com.blackducksoftware.integration.hub.detect.workflow.file.DirectoryIndex;
 import com.blackducksoftware.integration.hub.detect.workflow.file.DirectoryManager;
 import com.google.gson.Gson;
 import com.synopsys.integration.bdio.BdioTransformer;
@@ -94,9 +99,14 @@ public class RunBeanConfiguration {
         return new ExternalIdFactory();
     }
 
+    @Bean
+    public DirectoryIndex directoryIndex() {
+        return new DirectoryIndex();
+    }
+
     @Bean
     public DetectFileFinder detectFileFinder() {
-        return new DetectFileFinder();
+        return new DetectFileFinder(directoryIndex());
     }
 
     @Bean
@@ -104,9 +114,15 @@ public class RunBeanConfiguration {
         return new ConnectionManager(detectConfiguration);
     }
 
+    @Bean
+    public ArtifactCache artifactCache() {
+        final long versionTimeToLive = TimeUnit.SECONDS.toMillis(detectConfiguration.getIntegerProperty(DetectProperty.DETECT_INSPECTOR_VERSION_CACHE_TTL, PropertyAuthority.None));
+        return new ArtifactCache(directoryManager.getPermanentDirectory("artifacts"), versionTimeToLive);
+    }
+
     @Bean
     public ArtifactResolver artifactResolver() {
-        return new ArtifactResolver(connectionManager(), gson);
+        return new ArtifactResolver(connectionManager(), gson, artifactCache());
     }
 
     @Bean
@@ -134,9 +150,14 @@ public class RunBeanConfiguration {
         return new ExecutableRunner();
     }
 
+    @Bean
+    public ExecutableResolutionCache executableResolutionCache() {
+        return new ExecutableResolutionCache(directoryManager.getPermanentDirectory("executables"));
+    }
+
     @Bean
     public ExecutableFinder executableManager() {
-        return new ExecutableFinder(detectFileFinder(), detectInfo);
+        return new ExecutableFinder(detectFileFinder(), detectInfo, executableResolutionCache());
     }
 
     @Bean
@@ -182,13 +203,13 @@ public class RunBeanConfiguration {
     @Bean
     public OnlineBlackDuckSignatureScanner onlineBlackDuckSignatureScanner(BlackDuckSignatureScannerOptions blackDuckSignatureScannerOptions, ScanBatchRunner scanBatchRunner, CodeLocationCreationService codeLocationCreationService,
         BlackDuckServerConfig hubServerConfig) {
-        return new OnlineBlackDuckSignatureScanner(directoryManager, detectFileFinder(), codeLocationNameManager(), blackDuckSignatureScannerOptions, eventSystem, scanBatchRunner, codeLocationCreationService, hubServerConfig);
+        return new OnlineBlackDuckSignatureScanner(directoryManager, codeLocationNameManager(), blackDuckSignatureScannerOptions, eventSystem, scanBatchRunner, codeLocationCreationService, hubServerConfig);
     }
 
     @Lazy
     @Bean
     public OfflineBlackDuckSignatureScanner offlineBlackDuckSignatureScanner(BlackDuckSignatureScannerOptions blackDuckSignatureScannerOptions, ScanBatchRunner scanBatchRunner) {
-        return new OfflineBlackDuckSignatureScanner(directoryManager, detectFileFinder(), codeLocationNameManager(), blackDuckSignatureScannerOptions, eventSystem, scanBatchRunner);
+        return new OfflineBlackDuckSignatureScanner(directoryManager, codeLocationNameManager(), blackDuckSignatureScannerOptions, eventSystem, scanBatchRunner);
     }
 
 }
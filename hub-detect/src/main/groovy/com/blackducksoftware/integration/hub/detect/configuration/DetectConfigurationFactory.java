@@ -34,6 +34,8 @@ import com.blackducksoftware.integration.hub.detect.util.EnumUtilExtension;
 import com.blackducksoftware.integration.hub.detect.util.filter.DetectOverrideableFilter;
 import com.blackducksoftware.integration.hub.detect.workflow.DetectToolFilter;
 import com.blackducksoftware.integration.hub.detect.workflow.bdio.BdioOptions;
+import com.blackducksoftware.integration.hub.detect.workflow.extraction.ExtractionOptions;
+import com.blackducksoftware.integration.hub.detect.workflow.extraction.PreparationOptions;
 import com.blackducksoftware.integration.hub.detect.workflow.file.AirGapOptions;
 import com.blackducksoftware.integration.hub.detect.workflow.file.DirectoryOptions;
 import com.blackducksoftware.integration.hub.detect.workflow.hub.BlackduckReportOptions;
@@ -99,7 +101,19 @@ public class DetectConfigurationFactory {
         String excluded = detectConfiguration.getProperty(DetectProperty.DETECT_EXCLUDED_DETECTOR_TYPES, PropertyAuthority.None).toUpperCase();
         String included = detectConfiguration.getProperty(DetectProperty.DETECT_INCLUDED_DETECTOR_TYPES, PropertyAuthority.None).toUpperCase();
         DetectOverrideableFilter bomToolFilter = new DetectOverrideableFilter(excluded, included);
-        return new SearchOptions(directory, excludedDirectories, forceNestedSearch, maxDepth, bomToolFilter);
+        int searchThreads = detectConfiguration.getIntegerProperty(DetectProperty.DETECT_DETECTOR_SEARCH_THREADS, PropertyAuthority.None);
+        return new SearchOptions(directory, excludedDirectories, forceNestedSearch, maxDepth, bomToolFilter, searchThreads);
+    }
+
+    public PreparationOptions createPreparationOptions() {
+        int preparationThreads = detectConfiguration.getIntegerProperty(DetectProperty.DETECT_DETECTOR_PREPARATION_THREADS, PropertyAuthority.None);
+        return new PreparationOptions(preparationThreads);
+    }
+
+    public ExtractionOptions createExtractionOptions() {
+        int extractionThreads = detectConfiguration.getIntegerProperty(DetectProperty.DETECT_DETECTOR_EXTRACTION_THREADS, PropertyAuthority.None);
+        int heavyweightExtractionThreads = detectConfiguration.getIntegerProperty(DetectProperty.DETECT_DETECTOR_EXTRACTION_HEAVYWEIGHT_THREADS, PropertyAuthority.None);
+        return new ExtractionOptions(extractionThreads, heavyweightExtractionThreads);
     }
 
     public BdioOptions createBdioOptions() {
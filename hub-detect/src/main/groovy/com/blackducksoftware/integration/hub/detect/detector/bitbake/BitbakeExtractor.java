@@ -23,13 +23,15 @@
  */
 package com.blackducksoftware.integration.hub.detect.detector.bitbake;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -49,7 +51,6 @@ import com.blackducksoftware.integration.hub.detect.workflow.codelocation.Detect
 import com.blackducksoftware.integration.hub.detect.workflow.extraction.Extraction;
 import com.blackducksoftware.integration.hub.detect.workflow.file.DetectFileFinder;
 import com.blackducksoftware.integration.hub.detect.workflow.file.DirectoryManager;
-import com.paypal.digraph.parser.GraphParser;
 import com.synopsys.integration.exception.IntegrationException;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
@@ -82,31 +83,18 @@ public class BitbakeExtractor {
         final File outputDirectory = directoryManager.getExtractionOutputDirectory(extractionId);
         final File bitbakeBuildDirectory = new File(outputDirectory, "build");
         final String[] packageNames = detectConfiguration.getStringArrayProperty(DetectProperty.DETECT_BITBAKE_PACKAGE_NAMES, PropertyAuthority.None);
+        final boolean batch = detectConfiguration.getBooleanProperty(DetectProperty.DETECT_BITBAKE_BATCH, PropertyAuthority.None);
 
         final List<DetectCodeLocation> detectCodeLocations = new ArrayList<>();
-        for (final String packageName : packageNames) {
-            final File dependsFile = executeBitbakeForRecipeDependsFile(outputDirectory, bitbakeBuildDirectory, foundBuildEnvScriptPath, packageName);
-            final String targetArchitecture = executeBitbakeForTargetArchitecture(outputDirectory, foundBuildEnvScriptPath, packageName);
-
-            try {
-                if (dependsFile == null) {
-                    throw new IntegrationException(
-                        String.format("Failed to find %s. This may be due to this project being a version of The Yocto Project earlier than 2.3 (Pyro) which is the minimum version for Detect", RECIPE_DEPENDS_FILE_NAME));
-                }
-                if (StringUtils.isBlank(targetArchitecture)) {
-                    throw new IntegrationException("Failed to find a target architecture");
-                }
-
-                final InputStream recipeDependsInputStream = FileUtils.openInputStream(dependsFile);
-                final GraphParser graphParser = new GraphParser(recipeDependsInputStream);
-                final DependencyGraph dependencyGraph = graphParserTransformer.transform(graphParser, targetArchitecture);
-                final ExternalId externalId = new ExternalId(BitbakeDetector.YOCTO_FORGE);
-                final DetectCodeLocation detectCodeLocation = new DetectCodeLocation.Builder(DetectCodeLocationType.BITBAKE, sourcePath, externalId, dependencyGraph).build();
-
-                detectCodeLocations.add(detectCodeLocation);
-            } catch (final IOException | IntegrationException e) {
-                logger.error(String.format("Failed to extract a Code Location while running Bitbake against package '%s'", packageName));
-                logger.debug(e.getMessage(), e);
+        if (batch && packageNames.length > 0) {
+            final String packageList = String.join(" ", packageNames);
+            final BitbakeSession bitbakeSession = executeBitbakeSession(outputDirectory, bitbakeBuildDirectory, foundBuildEnvScriptPath, packageNames);
+            extractCodeLocation(bitbakeSession.getRecipeDependsFile(), bitbakeSession.getTargetArchitecture(), sourcePath, packageList).ifPresent(detectCodeLocations::add);
+        } else {
+            for (final String packageName : packageNames) {
+                final File dependsFile = executeBitbakeForRecipeDependsFile(outputDirectory, bitbakeBuildDirectory, foundBuildEnvScriptPath, packageName);
+                final String targetArchitecture = executeBitbakeForTargetArchitecture(outputDirectory, foundBuildEnvScriptPath, packageName);
+                extractCodeLocation(dependsFile, targetArchitecture, sourcePath, packageName).ifPresent(detectCodeLocations::add);
             }
         }
 
@@ -125,6 +113,53 @@ public class BitbakeExtractor {
         return extraction;
     }
 
+    private Optional<DetectCodeLocation> extractCodeLocation(final File dependsFile, final String targetArchitecture, final String sourcePath, final String packageNames) {
+        try {
+            if (dependsFile == null) {
+                throw new IntegrationException(
+                    String.format("Failed to find %s. This may be due to this project being a version of The Yocto Project earlier than 2.3 (Pyro) which is the minimum version for Detect", RECIPE_DEPENDS_FILE_NAME));
+            }
+            if (StringUtils.isBlank(targetArchitecture)) {
+                throw new IntegrationException("Failed to find a target architecture");
+            }
+
+            final DependencyGraph dependencyGraph;
+            try (final BufferedReader recipeDependsReader = Files.newBufferedReader(dependsFile.toPath(), StandardCharsets.UTF_8)) {
+                dependencyGraph = graphParserTransformer.transform(recipeDependsReader, targetArchitecture);
+            }
+            final ExternalId externalId = new ExternalId(BitbakeDetector.YOCTO_FORGE);
+            final DetectCodeLocation detectCodeLocation = new DetectCodeLocation.Builder(DetectCodeLocationType.BITBAKE, sourcePath, externalId, dependencyGraph).build();
+
+            return Optional.of(detectCodeLocation);
+        } catch (final IOException | IntegrationException e) {
+            logger.error(String.format("Failed to extract a Code Location while running Bitbake against package '%s'", packageNames));
+            logger.debug(e.getMessage(), e);
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Sources the build environment once and runs every bitbake command in that shell, so the bitbake server parses the layer
+     * metadata a single time. The dependency graphs of all packages are requested together and the target architecture is read from
+     * the first package only, since it is a property of the build configuration rather than of a recipe.
+     */
+    private BitbakeSession executeBitbakeSession(final File outputDirectory, final File bitbakeBuildDirectory, final String foundBuildEnvScriptPath, final String[] packageNames) {
+        final String bitbakeCommand = "bitbake -g " + String.join(" ", packageNames) + " && bitbake -c listtasks " + packageNames[0];
+        final ExecutableOutput executableOutput = runBitbake(outputDirectory, foundBuildEnvScriptPath, bitbakeCommand);
+        File recipeDependsFile = null;
+        String targetArchitecture = null;
+
+        if (executableOutput != null && executableOutput.getReturnCode() == 0) {
+            recipeDependsFile = detectFileFinder.findFile(bitbakeBuildDirectory, RECIPE_DEPENDS_FILE_NAME);
+            targetArchitecture = bitbakeListTasksParser.parseTargetArchitecture(executableOutput.getStandardOutput()).orElse(null);
+        } else if (executableOutput != null) {
+            logger.error(String.format("Executing command '%s' returned a non-zero exit code %s", bitbakeCommand, executableOutput.getReturnCode()));
+        }
+
+        return new BitbakeSession(recipeDependsFile, targetArchitecture);
+    }
+
     private File executeBitbakeForRecipeDependsFile(final File outputDirectory, final File bitbakeBuildDirectory, final String foundBuildEnvScriptPath, final String packageName) {
         final String bitbakeCommand = "bitbake -g " + packageName;
         final ExecutableOutput executableOutput = runBitbake(outputDirectory, foundBuildEnvScriptPath, bitbakeCommand);
@@ -173,4 +208,22 @@ public class BitbakeExtractor {
 
         return executableOutput;
     }
+
+    private static class BitbakeSession {
+        private final File recipeDependsFile;
+        private final String targetArchitecture;
+
+        public BitbakeSession(final File recipeDependsFile, final String targetArchitecture) {
+            this.recipeDependsFile = recipeDependsFile;
+            this.targetArchitecture = targetArchitecture;
+        }
+
+        public File getRecipeDependsFile() {
+            return recipeDependsFile;
+        }
+
+        public String getTargetArchitecture() {
+            return targetArchitecture;
+        }
+    }
 }
@@ -23,63 +23,106 @@
  */
 package com.blackducksoftware.integration.hub.detect.detector.bitbake;
 
-import java.util.Map;
+import java.io.BufferedReader;
+import java.io.IOException;
 import java.util.Optional;
 
 import org.apache.commons.lang3.StringUtils;
 
-import com.paypal.digraph.parser.GraphEdge;
-import com.paypal.digraph.parser.GraphNode;
-import com.paypal.digraph.parser.GraphParser;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.bdio.graph.builder.LazyExternalIdDependencyGraphBuilder;
 import com.synopsys.integration.bdio.model.dependencyid.DependencyId;
 import com.synopsys.integration.bdio.model.dependencyid.NameDependencyId;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
 
+/**
+ * Builds a dependency graph from a bitbake recipe-depends.dot file one statement at a time. Bitbake writes a single node or edge
+ * statement per line, so the file never has to be held in memory as a whole.
+ */
 public class GraphParserTransformer {
-    public DependencyGraph transform(final GraphParser graphParser, final String targetArchitecture) {
-        final Map<String, GraphNode> nodes = graphParser.getNodes();
-        final Map<String, GraphEdge> edges = graphParser.getEdges();
+    private static final String EDGE_OPERATOR = "->";
+    private static final String LABEL_ATTRIBUTE = "label=";
+
+    public DependencyGraph transform(final BufferedReader recipeDependsReader, final String targetArchitecture) throws IOException {
         final LazyExternalIdDependencyGraphBuilder graphBuilder = new LazyExternalIdDependencyGraphBuilder();
 
-        for (final GraphNode graphNode : nodes.values()) {
-            final String name = getNameFromNode(graphNode);
-            final DependencyId dependencyId = new NameDependencyId(name);
-            final Optional<String> version = getVersionFromNode(graphNode);
-
-            if (version.isPresent()) {
-                final ExternalId externalId = new ExternalId(BitbakeDetector.YOCTO_FORGE);
-                externalId.name = name;
-                externalId.version = version.get();
-                externalId.architecture = targetArchitecture;
-                graphBuilder.setDependencyInfo(dependencyId, name, version.get(), externalId);
+        String line;
+        while ((line = recipeDependsReader.readLine()) != null) {
+            final String statement = line.trim();
+            if (!statement.startsWith("\"")) {
+                continue;
             }
 
-            graphBuilder.addChildToRoot(dependencyId);
+            final int attributesStart = findAttributesStart(statement);
+            final String ids = attributesStart < 0 ? statement : statement.substring(0, attributesStart);
+            final int edgeOperatorIndex = ids.indexOf(EDGE_OPERATOR);
+
+            if (edgeOperatorIndex >= 0) {
+                final DependencyId node1 = new NameDependencyId(getNameFromId(ids.substring(0, edgeOperatorIndex)));
+                final DependencyId node2 = new NameDependencyId(getNameFromId(ids.substring(edgeOperatorIndex + EDGE_OPERATOR.length())));
+                graphBuilder.addChildToRoot(node1);
+                graphBuilder.addChildToRoot(node2);
+                graphBuilder.addParentWithChild(node1, node2);
+            } else {
+                final String name = getNameFromId(ids);
+                final DependencyId dependencyId = new NameDependencyId(name);
+                final Optional<String> version = getLabelAttribute(statement, attributesStart).map(this::getVersionFromLabel);
+
+                if (version.isPresent()) {
+                    final ExternalId externalId = new ExternalId(BitbakeDetector.YOCTO_FORGE);
+                    externalId.name = name;
+                    externalId.version = version.get();
+                    externalId.architecture = targetArchitecture;
+                    graphBuilder.setDependencyInfo(dependencyId, name, version.get(), externalId);
+                }
+
+                graphBuilder.addChildToRoot(dependencyId);
+            }
         }
 
-        for (final GraphEdge graphEdge : edges.values()) {
-            final DependencyId node1 = new NameDependencyId(getNameFromNode(graphEdge.getNode1()));
-            final DependencyId node2 = new NameDependencyId(getNameFromNode(graphEdge.getNode2()));
-            graphBuilder.addParentWithChild(node1, node2);
+        return graphBuilder.build();
+    }
+
+    private int findAttributesStart(final String statement) {
+        boolean quoted = false;
+        for (int i = 0; i < statement.length(); i++) {
+            final char c = statement.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == '[' && !quoted) {
+                return i;
+            }
         }
 
-        return graphBuilder.build();
+        return -1;
     }
 
-    private String getNameFromNode(final GraphNode graphNode) {
-        return graphNode.getId().replaceAll("\"", "");
+    private String getNameFromId(final String id) {
+        return id.trim().replaceAll("\"", "");
     }
 
-    private Optional<String> getVersionFromNode(final GraphNode graphNode) {
-        final Optional<String> attribute = getLabelAttribute(graphNode);
+    private Optional<String> getLabelAttribute(final String statement, final int attributesStart) {
+        if (attributesStart < 0) {
+            return Optional.empty();
+        }
 
-        return attribute.map(this::getVersionFromLabel);
-    }
+        final int labelIndex = statement.indexOf(LABEL_ATTRIBUTE, attributesStart);
+        if (labelIndex < 0) {
+            return Optional.empty();
+        }
+
+        final int quoteIndex = labelIndex + LABEL_ATTRIBUTE.length();
+        if (quoteIndex >= statement.length() || statement.charAt(quoteIndex) != '"') {
+            return Optional.empty();
+        }
+
+        final int valueStart = quoteIndex + 1;
+        final int valueEnd = statement.indexOf('"', valueStart);
+        if (valueEnd < 0) {
+            return Optional.empty();
+        }
 
-    private Optional<String> getLabelAttribute(final GraphNode graphNode) {
-        final String attribute = (String) graphNode.getAttribute("label");
+        final String attribute = statement.substring(valueStart, valueEnd);
         Optional<String> result = Optional.empty();
 
         if (StringUtils.isNotBlank(attribute)) {
@@ -26,8 +26,11 @@ package com.blackducksoftware.integration.hub.detect.detector.clang;
 import java.io.File;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.apache.commons.lang3.StringUtils;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,12 +45,15 @@ public class ApkPackageManager extends ClangLinuxPackageManager {
     private static final String INFO_SUBCOMMAND = "info";
     private static final String WHO_OWNS_OPTION = "--who-owns";
     private static final String GET_ARCHITECTURE_OPTION = "--print-arch";
+    private static final String IS_OWNED_BY = " is owned by ";
+    private static final String PACKAGE_DATABASE = "/lib/apk/db/installed";
     private static final Logger logger = LoggerFactory.getLogger(ApkPackageManager.class);
-    private String architecture = null;
+    // Extractions may run concurrently, the architecture is the same for all of them so a racing lookup is harmless
+    private volatile String architecture = null;
 
     public ApkPackageManager() {
         super(logger, PKG_MGR_NAME, PKG_MGR_NAME, Arrays.asList(Forge.ALPINE), VERSION_COMMAND_ARGS,
-            VERSION_OUTPUT_EXPECTED_TEXT, Arrays.asList(INFO_SUBCOMMAND, WHO_OWNS_OPTION));
+            VERSION_OUTPUT_EXPECTED_TEXT, Arrays.asList(INFO_SUBCOMMAND, WHO_OWNS_OPTION), new File(PACKAGE_DATABASE));
     }
 
     @Override
@@ -74,6 +80,16 @@ public class ApkPackageManager extends ClangLinuxPackageManager {
         }
     }
 
+    @Override
+    protected Optional<Map<String, String>> splitQueryPackageOutput(final List<String> queriedFilePaths, final String queryPackageOutput) {
+        return Optional.of(groupQueryPackageOutputLines(queriedFilePaths, queryPackageOutput, packageLine -> {
+            if (!packageLine.contains(IS_OWNED_BY)) {
+                return Optional.empty();
+            }
+            return Optional.of(StringUtils.substringBefore(packageLine, IS_OWNED_BY));
+        }));
+    }
+
     @Override
     public Forge getDefaultForge() {
         return Forge.ALPINE;
@@ -99,7 +115,7 @@ public class ApkPackageManager extends ClangLinuxPackageManager {
     // parse output of "apk info --who-owns pkg" --> package name+version details
     private Optional<List<String>> parseIsOwnedByOutputLine(final String packageLine) {
         // expecting a line like: /usr/include/stdlib.h is owned by musl-dev-1.1.18-r3
-        if (!packageLine.contains(" is owned by ")) {
+        if (!packageLine.contains(IS_OWNED_BY)) {
             return Optional.empty();
         }
         final String[] packageLineParts = packageLine.split("\\s+");
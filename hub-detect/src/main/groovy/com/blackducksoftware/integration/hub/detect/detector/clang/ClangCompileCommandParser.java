@@ -24,8 +24,13 @@
 package com.blackducksoftware.integration.hub.detect.detector.clang;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.text.StringTokenizer;
 import org.apache.commons.text.matcher.StringMatcherFactory;
@@ -45,6 +50,13 @@ public class ClangCompileCommandParser {
     private static final String TAB_CHAR_AS_STRING = "\t";
     private static final String ESCAPE_SEQUENCE_FOR_SPACE_CHAR = "%20";
     private static final String ESCAPE_SEQUENCE_FOR_TAB_CHAR = "%09";
+    // Options that would send the -M output somewhere other than standard output
+    private static final Set<String> DEPS_MK_REDIRECTING_OPTIONS_WITH_VALUE = new HashSet<>(Arrays.asList("-o", "-MF"));
+    // The same options given with their value joined on, as in -ofile.o or -MFfile.d
+    private static final List<String> DEPS_MK_REDIRECTING_OPTION_PREFIXES = Arrays.asList("-o", "-MF");
+    // Compiler flags that start with -o without naming an output file
+    private static final List<String> FLAGS_STARTING_WITH_OUTPUT_OPTION = Arrays.asList("-objc", "-object", "-opt-record-");
+    private static final Set<String> DEPS_MK_REDIRECTING_OPTIONS = new HashSet<>(Arrays.asList("-MD", "-MMD"));
 
     public String getCompilerCommand(final String origCompileCommand) {
         final String[] parts = origCompileCommand.trim().split("\\s+");
@@ -52,6 +64,38 @@ public class ClangCompileCommandParser {
     }
 
     public List<String> getCompilerArgsForGeneratingDepsMkFile(final String origCompileCommand, final String depsMkFilePath, final Map<String, String> optionOverrides) {
+        final List<String> argList = getCompilerArgs(origCompileCommand, optionOverrides);
+        argList.add("-M");
+        argList.add("-MF");
+        argList.add(depsMkFilePath);
+        return argList;
+    }
+
+    public List<String> getCompilerArgsForPrintingDepsMk(final String origCompileCommand) {
+        final List<String> argList = new ArrayList<>();
+        final Iterator<String> compilerArgs = getCompilerArgs(origCompileCommand, Collections.emptyMap()).iterator();
+        while (compilerArgs.hasNext()) {
+            final String compilerArg = compilerArgs.next();
+            if (DEPS_MK_REDIRECTING_OPTIONS_WITH_VALUE.contains(compilerArg)) {
+                if (compilerArgs.hasNext()) {
+                    compilerArgs.next();
+                }
+            } else if (!DEPS_MK_REDIRECTING_OPTIONS.contains(compilerArg) && !isJoinedRedirectingOption(compilerArg)) {
+                argList.add(compilerArg);
+            }
+        }
+        argList.add("-M");
+        return argList;
+    }
+
+    private boolean isJoinedRedirectingOption(final String compilerArg) {
+        if (FLAGS_STARTING_WITH_OUTPUT_OPTION.stream().anyMatch(compilerArg::startsWith)) {
+            return false;
+        }
+        return DEPS_MK_REDIRECTING_OPTION_PREFIXES.stream().anyMatch(prefix -> compilerArg.startsWith(prefix) && compilerArg.length() > prefix.length());
+    }
+
+    private List<String> getCompilerArgs(final String origCompileCommand, final Map<String, String> optionOverrides) {
         logger.trace(String.format("origCompileCommand         : %s", origCompileCommand));
         String quotesRemovedCompileCommand = escapeQuotedWhitespace(origCompileCommand.trim());
         logger.trace(String.format("quotesRemovedCompileCommand: %s", quotesRemovedCompileCommand));
@@ -78,9 +122,6 @@ public class ClangCompileCommandParser {
             lastPart = part;
             partIndex++;
         }
-        argList.add("-M");
-        argList.add("-MF");
-        argList.add(depsMkFilePath);
         return argList;
     }
 
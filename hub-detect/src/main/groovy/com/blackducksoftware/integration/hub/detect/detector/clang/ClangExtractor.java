@@ -26,9 +26,16 @@ package com.blackducksoftware.integration.hub.detect.detector.clang;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -38,9 +45,6 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.blackducksoftware.integration.hub.detect.configuration.DetectConfiguration;
-import com.blackducksoftware.integration.hub.detect.configuration.DetectProperty;
-import com.blackducksoftware.integration.hub.detect.configuration.PropertyAuthority;
 import com.blackducksoftware.integration.hub.detect.detector.ExtractionId;
 import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableRunner;
 import com.blackducksoftware.integration.hub.detect.workflow.codelocation.DetectCodeLocation;
@@ -54,11 +58,12 @@ import com.synopsys.integration.bdio.model.dependency.Dependency;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
 
 public class ClangExtractor {
+    private static final String PACKAGE_OWNERSHIP_CACHE_DIRECTORY = "clang";
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final Set<File> processedDependencyFiles = new HashSet<>(200);
     private final Set<PackageDetails> processedDependencies = new HashSet<>(40);
 
-    private final DetectConfiguration detectConfiguration;
     private final ExecutableRunner executableRunner;
     private final Gson gson;
     private final DetectFileFinder fileFinder;
@@ -67,10 +72,9 @@ public class ClangExtractor {
     private final CodeLocationAssembler codeLocationAssembler;
     private final SimpleBdioFactory bdioFactory;
 
-    public ClangExtractor(final DetectConfiguration detectConfiguration, final ExecutableRunner executableRunner, final Gson gson, final DetectFileFinder fileFinder,
+    public ClangExtractor(final ExecutableRunner executableRunner, final Gson gson, final DetectFileFinder fileFinder,
         final DirectoryManager directoryManager, final DependenciesListFileManager dependenciesListFileManager,
         final CodeLocationAssembler codeLocationAssembler) {
-        this.detectConfiguration = detectConfiguration;
         this.executableRunner = executableRunner;
         this.gson = gson;
         this.fileFinder = fileFinder;
@@ -84,18 +88,16 @@ public class ClangExtractor {
         try {
             logger.info(String.format("Analyzing %s", jsonCompilationDatabaseFile.getAbsolutePath()));
             final File rootDir = fileFinder.findContainingDir(givenDir, depth);
-            final File outputDirectory = directoryManager.getExtractionOutputDirectory(extractionId);
             logger.debug(String.format("extract() called; compileCommandsJsonFilePath: %s", jsonCompilationDatabaseFile.getAbsolutePath()));
             final Set<File> unManagedDependencyFiles = ConcurrentHashMap.newKeySet(64);
             final List<CompileCommand> compileCommands = CompileCommandsJsonFile.parseJsonCompilationDatabaseFile(gson, jsonCompilationDatabaseFile);
-            final List<Dependency> bdioComponents = compileCommands.parallelStream()
-                                                        .flatMap(compileCommandToDependencyFilePathsConverter(outputDirectory))
-                                                        .collect(Collectors.toSet()).parallelStream()
-                                                        .filter(StringUtils::isNotBlank)
-                                                        .map(File::new)
-                                                        .filter(fileIsNewPredicate())
-                                                        .flatMap(dependencyFileToLinuxPackagesConverter(rootDir, unManagedDependencyFiles, pkgMgr))
-                                                        .collect(Collectors.toSet()).parallelStream()
+            final List<DependencyFileDetails> dependencyFiles = generateDependencyFilePaths(compileCommands).parallelStream()
+                                                                    .filter(StringUtils::isNotBlank)
+                                                                    .map(File::new)
+                                                                    .filter(fileIsNewPredicate())
+                                                                    .map(dependencyFile -> new DependencyFileDetails(fileFinder.isFileUnderDir(rootDir, dependencyFile), dependencyFile))
+                                                                    .collect(Collectors.toList());
+            final List<Dependency> bdioComponents = dependencyFilesToLinuxPackages(rootDir, unManagedDependencyFiles, pkgMgr, dependencyFiles).parallelStream()
                                                         .flatMap(linuxPackageToBdioComponentsConverter(pkgMgr))
                                                         .collect(Collectors.toList());
 
@@ -107,13 +109,32 @@ public class ClangExtractor {
         }
     }
 
-    private Function<CompileCommand, Stream<String>> compileCommandToDependencyFilePathsConverter(final File workingDir) {
-        boolean cleanup = detectConfiguration == null ? true : detectConfiguration.getBooleanProperty(DetectProperty.DETECT_CLEANUP, PropertyAuthority.None);
-        return (final CompileCommand compileCommand) -> {
-            logger.info(String.format("Analyzing source file: %s", compileCommand.getFile()));
-            final Set<String> dependencyFilePaths = dependenciesListFileManager.generateDependencyFilePaths(workingDir, compileCommand, cleanup);
-            return dependencyFilePaths.stream();
-        };
+    private Set<String> generateDependencyFilePaths(final List<CompileCommand> compileCommands) throws InterruptedException, ExecutionException {
+        // Identical commands run from the same directory produce identical dependencies, so the compiler only needs to run once for them
+        final Map<String, CompileCommand> distinctCompileCommands = new LinkedHashMap<>(compileCommands.size());
+        for (final CompileCommand compileCommand : compileCommands) {
+            distinctCompileCommands.putIfAbsent(compileCommand.getDirectory() + File.pathSeparator + compileCommand.getCommand(), compileCommand);
+        }
+        logger.debug(String.format("Running the compiler for %d distinct of %d compile commands", distinctCompileCommands.size(), compileCommands.size()));
+
+        final int compilerThreads = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), distinctCompileCommands.size()));
+        final ExecutorService compilerExecutorService = Executors.newFixedThreadPool(compilerThreads);
+        try {
+            final List<Future<Set<String>>> dependencyFilePathFutures = new ArrayList<>(distinctCompileCommands.size());
+            for (final CompileCommand compileCommand : distinctCompileCommands.values()) {
+                dependencyFilePathFutures.add(compilerExecutorService.submit(() -> {
+                    logger.info(String.format("Analyzing source file: %s", compileCommand.getFile()));
+                    return dependenciesListFileManager.generateDependencyFilePaths(compileCommand);
+                }));
+            }
+            final Set<String> dependencyFilePaths = new HashSet<>();
+            for (final Future<Set<String>> dependencyFilePathFuture : dependencyFilePathFutures) {
+                dependencyFilePaths.addAll(dependencyFilePathFuture.get());
+            }
+            return dependencyFilePaths;
+        } finally {
+            compilerExecutorService.shutdownNow();
+        }
     }
 
     private Predicate<File> fileIsNewPredicate() {
@@ -131,14 +152,27 @@ public class ClangExtractor {
         };
     }
 
-    private Function<File, Stream<PackageDetails>> dependencyFileToLinuxPackagesConverter(final File sourceDir, final Set<File> unManagedDependencyFiles, final ClangLinuxPackageManager pkgMgr) {
-        return (final File f) -> {
-            logger.trace(String.format("Querying package manager for %s", f.getAbsolutePath()));
-            final DependencyFileDetails dependencyFileWithMetaData = new DependencyFileDetails(fileFinder.isFileUnderDir(sourceDir, f), f);
-            final Set<PackageDetails> linuxPackages = new HashSet<>(pkgMgr.getPackages(sourceDir, executableRunner, unManagedDependencyFiles, dependencyFileWithMetaData));
-            logger.debug(String.format("Found %d packages for %s", linuxPackages.size(), f.getAbsolutePath()));
-            return linuxPackages.stream();
-        };
+    private Set<PackageDetails> dependencyFilesToLinuxPackages(final File sourceDir, final Set<File> unManagedDependencyFiles, final ClangLinuxPackageManager pkgMgr, final List<DependencyFileDetails> dependencyFiles) {
+        final PackageOwnershipCache packageOwnershipCache = new PackageOwnershipCache(gson, directoryManager.getPermanentDirectory(PACKAGE_OWNERSHIP_CACHE_DIRECTORY), pkgMgr);
+        final Set<PackageDetails> linuxPackages = new HashSet<>();
+        final List<DependencyFileDetails> unknownDependencyFiles = new ArrayList<>();
+        for (final DependencyFileDetails dependencyFile : dependencyFiles) {
+            final Optional<List<PackageDetails>> cachedPackages = packageOwnershipCache.getPackages(dependencyFile.getFile());
+            if (cachedPackages.isPresent()) {
+                linuxPackages.addAll(cachedPackages.get());
+            } else {
+                unknownDependencyFiles.add(dependencyFile);
+            }
+        }
+        logger.debug(String.format("Package owners of %d of %d dependency files were cached; querying the package manager for the rest", dependencyFiles.size() - unknownDependencyFiles.size(), dependencyFiles.size()));
+        final Map<File, List<PackageDetails>> queriedPackages = pkgMgr.getPackages(sourceDir, executableRunner, unManagedDependencyFiles, unknownDependencyFiles);
+        for (final Map.Entry<File, List<PackageDetails>> fileAndPackages : queriedPackages.entrySet()) {
+            logger.debug(String.format("Found %d packages for %s", fileAndPackages.getValue().size(), fileAndPackages.getKey().getAbsolutePath()));
+            packageOwnershipCache.putPackages(fileAndPackages.getKey(), fileAndPackages.getValue());
+            linuxPackages.addAll(fileAndPackages.getValue());
+        }
+        packageOwnershipCache.save();
+        return linuxPackages;
     }
 
     private Function<PackageDetails, Stream<Dependency>> linuxPackageToBdioComponentsConverter(final ClangLinuxPackageManager pkgMgr) {
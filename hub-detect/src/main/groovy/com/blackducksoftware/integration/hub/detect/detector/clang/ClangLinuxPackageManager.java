@@ -25,8 +25,16 @@ package com.blackducksoftware.integration.hub.detect.detector.clang;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.slf4j.Logger;
 
@@ -36,6 +44,8 @@ import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableRu
 import com.synopsys.integration.bdio.model.Forge;
 
 public abstract class ClangLinuxPackageManager {
+    private static final int OWNER_QUERY_BATCH_SIZE = 100;
+
     private final String pkgMgrName;
     private final String pkgMgrCmdString;
     private final List<Forge> forges;
@@ -43,9 +53,10 @@ public abstract class ClangLinuxPackageManager {
     private final List<String> checkPresenceCommandArgs;
     private final String checkPresenceCommandOutputExpectedText;
     private final List<String> pkgMgrGetOwnerCmdArgs;
+    private final File packageDatabase;
 
     public ClangLinuxPackageManager(final Logger logger, final String pkgMgrName, final String pkgMgrCmdString, final List<Forge> forges, final List<String> checkPresenceCommandArgs, final String checkPresenceCommandOutputExpectedText,
-        final List<String> pkgMgrGetOwnerCmdArgs) {
+        final List<String> pkgMgrGetOwnerCmdArgs, final File packageDatabase) {
         this.logger = logger;
         this.pkgMgrName = pkgMgrName;
         this.pkgMgrCmdString = pkgMgrCmdString;
@@ -53,6 +64,7 @@ public abstract class ClangLinuxPackageManager {
         this.checkPresenceCommandArgs = checkPresenceCommandArgs;
         this.checkPresenceCommandOutputExpectedText = checkPresenceCommandOutputExpectedText;
         this.pkgMgrGetOwnerCmdArgs = pkgMgrGetOwnerCmdArgs;
+        this.packageDatabase = packageDatabase;
     }
 
     public boolean applies(File workingDirectory, final ExecutableRunner executor) {
@@ -92,10 +104,97 @@ public abstract class ClangLinuxPackageManager {
         }
     }
 
+    /**
+     * Asks the package manager who owns many files per invocation rather than one process per file. Batches are queried in parallel.
+     */
+    public Map<File, List<PackageDetails>> getPackages(File workingDirectory, final ExecutableRunner executableRunner, final Set<File> unManagedDependencyFiles, final List<DependencyFileDetails> dependencyFiles) {
+        final Map<File, List<PackageDetails>> packagesByFile = new ConcurrentHashMap<>(dependencyFiles.size());
+        final int batchCount = (dependencyFiles.size() + OWNER_QUERY_BATCH_SIZE - 1) / OWNER_QUERY_BATCH_SIZE;
+        IntStream.range(0, batchCount).parallel().forEach(batchIndex -> {
+            final int batchStart = batchIndex * OWNER_QUERY_BATCH_SIZE;
+            final List<DependencyFileDetails> batch = dependencyFiles.subList(batchStart, Math.min(batchStart + OWNER_QUERY_BATCH_SIZE, dependencyFiles.size()));
+            packagesByFile.putAll(getPackagesForBatch(workingDirectory, executableRunner, unManagedDependencyFiles, batch));
+        });
+        return packagesByFile;
+    }
+
+    private Map<File, List<PackageDetails>> getPackagesForBatch(File workingDirectory, final ExecutableRunner executableRunner, final Set<File> unManagedDependencyFiles, final List<DependencyFileDetails> batch) {
+        final Map<File, List<PackageDetails>> packagesByFile = new LinkedHashMap<>(batch.size());
+        final List<String> queriedFilePaths = batch.stream().map(dependencyFile -> dependencyFile.getFile().getAbsolutePath()).collect(Collectors.toList());
+        try {
+            final List<String> batchGetOwnerArgs = new ArrayList<>(pkgMgrGetOwnerCmdArgs);
+            batchGetOwnerArgs.addAll(queriedFilePaths);
+            final ExecutableOutput queryPackageOutput = executableRunner.executeQuietly(workingDirectory, pkgMgrCmdString, batchGetOwnerArgs);
+            logger.debug(String.format("queryPackageOutput: %s", queryPackageOutput));
+            final Optional<Map<String, String>> queryPackageOutputByFile = splitQueryPackageOutput(queriedFilePaths, queryPackageOutput.getStandardOutput());
+            if (!queryPackageOutputByFile.isPresent()) {
+                logger.debug(String.format("Unable to tell which of the %d queried files each line of the %s output belongs to; querying them one at a time", batch.size(), pkgMgrCmdString));
+                for (final DependencyFileDetails dependencyFile : batch) {
+                    packagesByFile.put(dependencyFile.getFile(), getPackages(workingDirectory, executableRunner, unManagedDependencyFiles, dependencyFile));
+                }
+                return packagesByFile;
+            }
+            for (final DependencyFileDetails dependencyFile : batch) {
+                final List<PackageDetails> dependencyDetailsList = new ArrayList<>(3);
+                final String fileQueryPackageOutput = queryPackageOutputByFile.get().get(dependencyFile.getFile().getAbsolutePath());
+                if (fileQueryPackageOutput != null) {
+                    this.addToPackageList(executableRunner, workingDirectory, dependencyDetailsList, fileQueryPackageOutput);
+                }
+                packagesByFile.put(dependencyFile.getFile(), dependencyDetailsList);
+            }
+            return packagesByFile;
+        } catch (final ExecutableRunnerException e) {
+            logger.error(String.format("Error executing %s: %s", pkgMgrCmdString, e.getMessage()));
+            for (final DependencyFileDetails dependencyFile : batch) {
+                if (!dependencyFile.isInBuildDir()) {
+                    logger.debug(String.format("%s is not managed by %s", dependencyFile.getFile().getAbsolutePath(), pkgMgrCmdString));
+                    unManagedDependencyFiles.add(dependencyFile.getFile());
+                } else {
+                    logger.debug(String.format("%s is not managed by %s, but it's in the source.dir", dependencyFile.getFile().getAbsolutePath(), pkgMgrCmdString));
+                }
+            }
+            return new LinkedHashMap<>();
+        }
+    }
+
+    /**
+     * The last time the package database changed, so that remembered file owners can be discarded once packages are installed or removed. Zero when it can not be determined.
+     */
+    public long getPackageDatabaseLastModified() {
+        if (packageDatabase == null || !packageDatabase.exists()) {
+            return 0;
+        }
+        long lastModified = packageDatabase.lastModified();
+        final File[] databaseFiles = packageDatabase.listFiles();
+        if (databaseFiles != null) {
+            for (final File databaseFile : databaseFiles) {
+                lastModified = Math.max(lastModified, databaseFile.lastModified());
+            }
+        }
+        return lastModified;
+    }
+
+    protected Map<String, String> groupQueryPackageOutputLines(final List<String> queriedFilePaths, final String queryPackageOutput, final Function<String, Optional<String>> queriedFilePathExtractor) {
+        final Set<String> queriedFilePathSet = new HashSet<>(queriedFilePaths);
+        final Map<String, String> queryPackageOutputByFile = new LinkedHashMap<>(queriedFilePaths.size());
+        for (final String packageLine : queryPackageOutput.split("\n")) {
+            final Optional<String> queriedFilePath = queriedFilePathExtractor.apply(packageLine);
+            if (queriedFilePath.isPresent() && queriedFilePathSet.contains(queriedFilePath.get())) {
+                queryPackageOutputByFile.merge(queriedFilePath.get(), packageLine + "\n", String::concat);
+            }
+        }
+        return queryPackageOutputByFile;
+    }
+
     public abstract Forge getDefaultForge();
 
     protected abstract void addToPackageList(final ExecutableRunner executableRunner, File workingDirectory, final List<PackageDetails> dependencyDetailsList, final String queryPackageOutput) throws ExecutableRunnerException;
 
+    /**
+     * Splits the output of a query for several files into the output for each file, keyed by the queried path. Empty when the output can not be attributed to individual files.
+     */
+    protected abstract Optional<Map<String, String>> splitQueryPackageOutput(final List<String> queriedFilePaths, final String queryPackageOutput);
+
     public String getPkgMgrName() {
         return pkgMgrName;
     }
@@ -24,33 +24,23 @@
 package com.blackducksoftware.integration.hub.detect.detector.clang;
 
 import java.io.File;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
 import java.util.Set;
 
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableOutput;
 import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableRunner;
 import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableRunnerException;
 
 public class DependenciesListFileManager {
-    private static final String COMPILER_OUTPUT_FILE_OPTION = "-o";
-    private static final String REPLACEMENT_OUTPUT_FILENAME = "/dev/null";
-    private static final String DEPS_MK_FILENAME_PATTERN = "deps_%s_%d.mk";
-
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
-    private static final Random random = new Random();
     private final ExecutableRunner executableRunner;
     private final ClangCompileCommandParser compileCommandParser;
 
@@ -59,42 +49,38 @@ public class DependenciesListFileManager {
         this.compileCommandParser = compileCommandParser;
     }
 
-    public Set<String> generateDependencyFilePaths(final File workingDir, final CompileCommand compileCommand, final boolean cleanup) {
+    public Set<String> generateDependencyFilePaths(final CompileCommand compileCommand) {
         final Set<String> dependencyFilePaths = new HashSet<>();
-        final Optional<File> depsMkFile = generate(workingDir, compileCommand);
-        dependencyFilePaths.addAll(parse(depsMkFile.orElse(null)));
-        if (cleanup) {
-            depsMkFile.ifPresent(File::delete);
-        }
+        // Running the compiler again would fail the same way, so a command whose dependencies could not be printed is reported and skipped
+        final Optional<String> depsDecl = print(compileCommand);
+        depsDecl.ifPresent(decl -> dependencyFilePaths.addAll(parse(decl, compileCommand.getFile())));
         return dependencyFilePaths;
     }
 
-    private Optional<File> generate(final File workingDir,
-        final CompileCommand compileCommand) {
-        final String depsMkFilename = deriveDependenciesListFilename(compileCommand);
-        final File depsMkFile = new File(workingDir, depsMkFilename);
-        Map<String, String> optionOverrides = new HashMap<>(1);
-        optionOverrides.put(COMPILER_OUTPUT_FILE_OPTION, REPLACEMENT_OUTPUT_FILENAME);
+    private Optional<String> print(final CompileCommand compileCommand) {
         try {
-            executableRunner.executeFromDirQuietly(new File(compileCommand.getDirectory()), compileCommandParser.getCompilerCommand(compileCommand.getCommand()),
-                compileCommandParser.getCompilerArgsForGeneratingDepsMkFile(compileCommand.getCommand(), depsMkFile.getAbsolutePath(), optionOverrides));
+            final ExecutableOutput depsMkOutput = executableRunner.executeFromDirQuietly(new File(compileCommand.getDirectory()), compileCommandParser.getCompilerCommand(compileCommand.getCommand()),
+                compileCommandParser.getCompilerArgsForPrintingDepsMk(compileCommand.getCommand()));
+            if (depsMkOutput == null) {
+                return Optional.empty();
+            }
+            if (StringUtils.isBlank(depsMkOutput.getStandardOutput())) {
+                logger.warn(String.format("The compiler did not print the dependencies of %s (return code %d): %s", compileCommand.getFile(), depsMkOutput.getReturnCode(), depsMkOutput.getErrorOutput()));
+                return Optional.empty();
+            }
+            return Optional.of(depsMkOutput.getStandardOutput());
         } catch (final ExecutableRunnerException e) {
-            logger.debug(String.format("Error generating dependencies file for command '%s': %s", compileCommand.getCommand(), e.getMessage()));
+            logger.warn(String.format("Error printing dependencies for command '%s': %s", compileCommand.getCommand(), e.getMessage()));
             return Optional.empty();
         }
-        return Optional.of(depsMkFile);
     }
 
-    private List<String> parse(final File depsMkFile) {
-        if (depsMkFile == null) {
-            return new ArrayList<>(0);
-        }
+    private List<String> parse(final String depsDecl, final String depsDeclSource) {
         List<String> dependencyFilePaths;
         try {
-            final String depsDecl = FileUtils.readFileToString(depsMkFile, StandardCharsets.UTF_8);
             final String[] depsDeclParts = depsDecl.split(": ");
             if (depsDeclParts.length != 2) {
-                logger.warn(String.format("Unable to parse %s contents: %s", depsMkFile.getAbsolutePath(), depsDecl));
+                logger.warn(String.format("Unable to parse %s dependencies: %s", depsDeclSource, depsDecl));
                 return new ArrayList<>(0);
             }
             String depsListString = depsDeclParts[1];
@@ -112,20 +98,9 @@ public class DependenciesListFileManager {
             }
             dependencyFilePaths = Arrays.asList(deps);
         } catch (final Exception e) {
-            logger.warn(String.format("Error getting dependency file paths from '%s': %s", depsMkFile.getAbsolutePath(), e.getMessage()));
+            logger.warn(String.format("Error getting dependency file paths from %s: %s", depsDeclSource, e.getMessage()));
             return new ArrayList<>(0);
         }
         return dependencyFilePaths;
     }
-
-    private String deriveDependenciesListFilename(final CompileCommand compileCommand) {
-        final int randomInt = random.nextInt(1000);
-        final String sourceFilenameBase = getFilenameBase(compileCommand.getFile());
-        return String.format(DEPS_MK_FILENAME_PATTERN, sourceFilenameBase, randomInt);
-    }
-
-    private String getFilenameBase(final String filePathString) {
-        final Path filePath = new File(filePathString).toPath();
-        return FilenameUtils.removeExtension(filePath.getFileName().toString());
-    }
 }
@@ -26,7 +26,11 @@ package com.blackducksoftware.integration.hub.detect.detector.clang;
 import java.io.File;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.StringUtils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,11 +46,13 @@ public class DpkgPackageManager extends ClangLinuxPackageManager {
     private static final String VERSION_OUTPUT_EXPECTED_TEXT = "package management program version";
     private static final String WHO_OWNS_OPTION = "-S";
     private static final String GET_PKG_INFO_OPTION = "-s";
+    private static final String PACKAGE_DATABASE = "/var/lib/dpkg/status";
     private static final Logger logger = LoggerFactory.getLogger(DpkgPackageManager.class);
+    private final Map<String, Optional<String>> packageVersions = new ConcurrentHashMap<>();
 
     public DpkgPackageManager() {
         super(logger, PKG_MGR_NAME, PKG_MGR_NAME, Arrays.asList(Forge.UBUNTU, Forge.DEBIAN), VERSION_COMMAND_ARGS,
-            VERSION_OUTPUT_EXPECTED_TEXT, Arrays.asList(WHO_OWNS_OPTION));
+            VERSION_OUTPUT_EXPECTED_TEXT, Arrays.asList(WHO_OWNS_OPTION), new File(PACKAGE_DATABASE));
     }
 
     @Override
@@ -68,6 +74,17 @@ public class DpkgPackageManager extends ClangLinuxPackageManager {
         }
     }
 
+    @Override
+    protected Optional<Map<String, String>> splitQueryPackageOutput(final List<String> queriedFilePaths, final String queryPackageOutput) {
+        // expecting lines like: libc6-dev:amd64: /usr/include/stdlib.h
+        return Optional.of(groupQueryPackageOutputLines(queriedFilePaths, queryPackageOutput, packageLine -> {
+            if (!valid(packageLine)) {
+                return Optional.empty();
+            }
+            return Optional.of(StringUtils.substringAfterLast(packageLine, ": "));
+        }));
+    }
+
     @Override
     public Forge getDefaultForge() {
         return Forge.UBUNTU;
@@ -78,6 +95,11 @@ public class DpkgPackageManager extends ClangLinuxPackageManager {
     }
 
     private Optional<String> getPackageVersion(final ExecutableRunner executableRunner, File workingDirectory, final String packageName) {
+        // Most headers belong to a handful of packages, so each package is only described once.
+        return packageVersions.computeIfAbsent(packageName, name -> queryPackageVersion(executableRunner, workingDirectory, name));
+    }
+
+    private Optional<String> queryPackageVersion(final ExecutableRunner executableRunner, File workingDirectory, final String packageName) {
         try {
             final ExecutableOutput packageStatusOutput = executableRunner.executeQuietly(workingDirectory, PKG_MGR_NAME, GET_PKG_INFO_OPTION, packageName);
             logger.debug(String.format("packageStatusOutput: %s", packageStatusOutput));
@@ -0,0 +1,120 @@
+/**
+ * hub-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.blackducksoftware.integration.hub.detect.detector.clang;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.blackducksoftware.integration.hub.detect.workflow.file.DetectFileUtils;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+/**
+ * Remembers which packages own which files across invocations of detect, one cache file per package manager.
+ * The whole cache is discarded when the package database has changed since it was written.
+ */
+public class PackageOwnershipCache {
+    private static final String CACHE_FILE_SUFFIX = "-package-owners.json";
+
+    private final Logger logger = LoggerFactory.getLogger(PackageOwnershipCache.class);
+    private final Gson gson;
+    private final File cacheFile;
+    private final long packageDatabaseLastModified;
+    private final Map<String, List<PackageDetails>> packagesByFile = new ConcurrentHashMap<>();
+    private boolean changed = false;
+
+    public PackageOwnershipCache(final Gson gson, final File cacheDirectory, final ClangLinuxPackageManager pkgMgr) {
+        this.gson = gson;
+        this.packageDatabaseLastModified = pkgMgr.getPackageDatabaseLastModified();
+        if (cacheDirectory == null || packageDatabaseLastModified == 0) {
+            logger.debug(String.format("Package owners for %s will not be cached", pkgMgr.getPkgMgrName()));
+            this.cacheFile = null;
+        } else {
+            this.cacheFile = new File(cacheDirectory, pkgMgr.getPkgMgrName() + CACHE_FILE_SUFFIX);
+            load();
+        }
+    }
+
+    public Optional<List<PackageDetails>> getPackages(final File dependencyFile) {
+        return Optional.ofNullable(packagesByFile.get(dependencyFile.getAbsolutePath()));
+    }
+
+    public synchronized void putPackages(final File dependencyFile, final List<PackageDetails> packages) {
+        packagesByFile.put(dependencyFile.getAbsolutePath(), new ArrayList<>(packages));
+        changed = true;
+    }
+
+    public synchronized void save() {
+        if (cacheFile == null || !changed) {
+            return;
+        }
+        final CacheContents contents = new CacheContents();
+        contents.packageDatabaseLastModified = packageDatabaseLastModified;
+        contents.packagesByFile = packagesByFile;
+        try {
+            DetectFileUtils.writeAtomically(cacheFile, outputStream -> {
+                final Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+                gson.toJson(contents, writer);
+                writer.flush();
+            });
+            changed = false;
+        } catch (final IOException e) {
+            logger.debug(String.format("Unable to write the package owner cache %s: %s", cacheFile.getAbsolutePath(), e.getMessage()));
+        }
+    }
+
+    private void load() {
+        if (!cacheFile.isFile()) {
+            return;
+        }
+        try (Reader reader = Files.newBufferedReader(cacheFile.toPath(), StandardCharsets.UTF_8)) {
+            final CacheContents contents = gson.fromJson(reader, CacheContents.class);
+            if (contents == null || contents.packagesByFile == null || contents.packageDatabaseLastModified != packageDatabaseLastModified) {
+                logger.debug(String.format("The package database has changed since %s was written; it will be rebuilt", cacheFile.getAbsolutePath()));
+                return;
+            }
+            packagesByFile.putAll(contents.packagesByFile);
+        } catch (final IOException | JsonParseException e) {
+            logger.debug(String.format("Unable to read the package owner cache %s, it will be rebuilt: %s", cacheFile.getAbsolutePath(), e.getMessage()));
+        }
+    }
+
+    private static class CacheContents {
+        private long packageDatabaseLastModified;
+        private Map<String, List<PackageDetails>> packagesByFile;
+    }
+}
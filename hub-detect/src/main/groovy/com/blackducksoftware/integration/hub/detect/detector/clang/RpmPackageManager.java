@@ -25,7 +25,10 @@ package com.blackducksoftware.integration.hub.detect.detector.clang;
 
 import java.io.File;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,12 +41,13 @@ public class RpmPackageManager extends ClangLinuxPackageManager {
     private static final List<String> VERSION_COMMAND_ARGS = Arrays.asList("--version");
     private static final String VERSION_OUTPUT_EXPECTED_TEXT = "RPM version";
     private static final String GET_PKG_INFO_OPTION = "-qf";
+    private static final String PACKAGE_DATABASE = "/var/lib/rpm";
 
     private static final Logger logger = LoggerFactory.getLogger(RpmPackageManager.class);
 
     public RpmPackageManager() {
         super(logger, PKG_MGR_NAME, PKG_MGR_NAME, Arrays.asList(Forge.CENTOS, Forge.FEDORA, Forge.REDHAT), VERSION_COMMAND_ARGS,
-            VERSION_OUTPUT_EXPECTED_TEXT, Arrays.asList(GET_PKG_INFO_OPTION));
+            VERSION_OUTPUT_EXPECTED_TEXT, Arrays.asList(GET_PKG_INFO_OPTION), new File(PACKAGE_DATABASE));
     }
 
     @Override
@@ -66,6 +70,20 @@ public class RpmPackageManager extends ClangLinuxPackageManager {
         }
     }
 
+    @Override
+    protected Optional<Map<String, String>> splitQueryPackageOutput(final List<String> queriedFilePaths, final String queryPackageOutput) {
+        // rpm prints one line per queried file, in order, but does not name the file it owns; a file owned by several packages prints several lines
+        final String[] packageLines = queryPackageOutput.split("\n");
+        if (packageLines.length != queriedFilePaths.size()) {
+            return Optional.empty();
+        }
+        final Map<String, String> queryPackageOutputByFile = new LinkedHashMap<>(queriedFilePaths.size());
+        for (int i = 0; i < packageLines.length; i++) {
+            queryPackageOutputByFile.put(queriedFilePaths.get(i), packageLines[i]);
+        }
+        return Optional.of(queryPackageOutputByFile);
+    }
+
     @Override
     public Forge getDefaultForge() {
         return Forge.CENTOS;
@@ -23,15 +23,14 @@
  */
 package com.blackducksoftware.integration.hub.detect.detector.go;
 
+import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Arrays;
 
 import org.apache.commons.io.FileUtils;
-import org.apache.commons.io.IOUtils;
-import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -58,31 +57,16 @@ public class DepPackager {
     }
 
     public DependencyGraph makeDependencyGraph(final String sourcePath, final String goDepExecutable) throws IOException {
-        final GopkgLockParser gopkgLockParser = new GopkgLockParser(externalIdFactory);
-        final String goDepContents = getGopkgLockContents(new File(sourcePath), goDepExecutable);
-        if (StringUtils.isNotBlank(goDepContents)) {
-            return gopkgLockParser.parseDepLock(goDepContents);
-        }
-        return null;
-    }
-
-    private String getGopkgLockContents(final File file, final String goDepExecutable) throws IOException {
-        String gopkgLockContents = null;
-
+        final File file = new File(sourcePath);
         final File gopkgLockFile = new File(file, "Gopkg.lock");
         if (gopkgLockFile.exists()) {
-            try (FileInputStream fis = new FileInputStream(gopkgLockFile)) {
-                gopkgLockContents = IOUtils.toString(fis, Charset.defaultCharset());
-            } catch (final Exception e) {
-                gopkgLockContents = null;
-            }
-            return gopkgLockContents;
+            return parseGopkgLock(gopkgLockFile);
         }
 
-        // by default, we won't run 'init' and 'ensure' anymore so just return an empty string
+        // by default, we won't run 'init' and 'ensure' anymore so there is no graph
         if (!detectConfiguration.getBooleanProperty(DetectProperty.DETECT_GO_RUN_DEP_INIT, PropertyAuthority.None)) {
             logger.info("Skipping Dep commands 'init' and 'ensure'");
-            return "";
+            return null;
         }
 
         final File gopkgTomlFile = new File(file, "Gopkg.toml");
@@ -112,12 +96,9 @@ public class DepPackager {
             logger.error(String.format("Failed to run %s: %s", goDepEnsureUpdateString, e.getMessage()));
         }
 
+        DependencyGraph graph = null;
         if (gopkgLockFile.exists()) {
-            try (FileInputStream fis = new FileInputStream(gopkgLockFile)) {
-                gopkgLockContents = IOUtils.toString(fis, Charset.defaultCharset());
-            } catch (final Exception e) {
-                gopkgLockContents = null;
-            }
+            graph = parseGopkgLock(gopkgLockFile);
             gopkgLockFile.delete();
             gopkgTomlFile.delete();
             FileUtils.deleteDirectory(vendorDirectory);
@@ -127,6 +108,16 @@ public class DepPackager {
             }
         }
 
-        return gopkgLockContents;
+        return graph;
+    }
+
+    private DependencyGraph parseGopkgLock(final File gopkgLockFile) {
+        final GopkgLockParser gopkgLockParser = new GopkgLockParser(externalIdFactory);
+        try (BufferedReader reader = Files.newBufferedReader(gopkgLockFile.toPath(), StandardCharsets.UTF_8)) {
+            return gopkgLockParser.parseDepLock(reader);
+        } catch (final Exception e) {
+            logger.debug(String.format("Failed to read %s: %s", gopkgLockFile.getAbsolutePath(), e.getMessage()));
+            return null;
+        }
     }
 }
@@ -24,7 +24,11 @@
 package com.blackducksoftware.integration.hub.detect.detector.go;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
+import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -42,6 +46,8 @@ import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableRu
 import com.blackducksoftware.integration.hub.detect.workflow.file.DirectoryManager;
 
 public class GoInspectorManager {
+    private static final String GO_DEP_CACHE_DIRECTORY_NAME = "go-dep";
+
     private final Logger logger = LoggerFactory.getLogger(GoInspectorManager.class);
 
     private final DirectoryManager directoryManager;
@@ -60,10 +66,12 @@ public class GoInspectorManager {
         this.detectConfiguration = detectConfiguration;
     }
 
-    public String evaluate() throws DetectorException {
+    public synchronized String evaluate() throws DetectorException {
         try {
             if (!hasResolvedInspector) {
+                // Only remember a successful install, a failed one is retried by the next detector that needs dep
                 resolvedGoDep = install();
+                hasResolvedInspector = resolvedGoDep != null;
             }
 
             return resolvedGoDep;
@@ -72,25 +80,34 @@ public class GoInspectorManager {
         }
     }
 
-    public String install() throws ExecutableRunnerException {
-        String goDepPath = detectConfiguration.getProperty(DetectProperty.DETECT_GO_DEP_PATH, PropertyAuthority.None);
-        if (StringUtils.isBlank(goDepPath)) {
-            final File goDep = getGoDepInstallLocation();
-            if (goDep.exists()) {
-                goDepPath = goDep.getAbsolutePath();
-            } else {
-                goDepPath = executableFinder.getExecutablePath(ExecutableType.GO_DEP, true, directoryManager.getSourceDirectory().getAbsolutePath());
-            }
+    public String install() throws ExecutableRunnerException, IOException {
+        final String goDepPath = detectConfiguration.getProperty(DetectProperty.DETECT_GO_DEP_PATH, PropertyAuthority.None);
+        if (StringUtils.isNotBlank(goDepPath)) {
+            return goDepPath;
+        }
+
+        // A dep the user installed wins over one detect built in an earlier run
+        final String sourcePath = directoryManager.getSourceDirectory().getAbsolutePath();
+        final String goDepOnPath = executableFinder.getExecutablePath(ExecutableType.GO_DEP, true, sourcePath);
+        if (StringUtils.isNotBlank(goDepOnPath)) {
+            return goDepOnPath;
+        }
+
+        final String goExecutable = executableFinder.getExecutablePath(ExecutableType.GO, true, sourcePath);
+        final File goDep = getGoDepInstallLocation(goExecutable);
+        if (goDep.exists()) {
+            logger.debug("Using the previously built Go Dep tool " + goDep.getAbsolutePath());
+            return goDep.getAbsolutePath();
         }
-        if (StringUtils.isBlank(goDepPath)) {
-            final String goExecutable = executableFinder.getExecutablePath(ExecutableType.GO, true, directoryManager.getSourceDirectory().getAbsolutePath());
-            goDepPath = installGoDep(goExecutable);
+
+        if (StringUtils.isBlank(goExecutable)) {
+            logger.debug("The Go Dep tool can not be built without the go executable.");
+            return null;
         }
-        return goDepPath;
+        return installGoDep(goExecutable, goDep);
     }
 
-    private String installGoDep(final String goExecutable) throws ExecutableRunnerException {
-        final File goDep = getGoDepInstallLocation();
+    private String installGoDep(final String goExecutable, final File goDep) throws ExecutableRunnerException, IOException {
         final File installDirectory = goDep.getParentFile();
         installDirectory.mkdirs();
         logger.debug("Retrieving the Go Dep tool");
@@ -103,17 +120,59 @@ public class GoInspectorManager {
             "github.com/golang/dep/cmd/dep"));
         executableRunner.execute(getGoDep);
 
+        // Build next to the final location and move it into place, so a concurrent or interrupted build never leaves a partial binary behind
+        final File partialGoDep = new File(installDirectory, goDep.getName() + "." + UUID.randomUUID() + ".part");
         logger.debug("Building the Go Dep tool in " + installDirectory.getAbsolutePath());
         final Executable buildGoDep = new Executable(installDirectory, goExecutable, Arrays.asList(
             "build",
+            "-o",
+            partialGoDep.getAbsolutePath(),
             "github.com/golang/dep/cmd/dep"));
-        executableRunner.execute(buildGoDep);
+        try {
+            executableRunner.execute(buildGoDep);
+            if (!partialGoDep.exists()) {
+                logger.debug("Building the Go Dep tool did not produce " + partialGoDep.getAbsolutePath());
+                return null;
+            }
+            Files.move(partialGoDep.toPath(), goDep.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(partialGoDep.toPath());
+        }
 
         return goDep.getAbsolutePath();
     }
 
-    private File getGoDepInstallLocation() {
-        final File goOutputDirectory = directoryManager.getSharedDirectory("go");
-        return new File(goOutputDirectory, executableFinder.getExecutableName(ExecutableType.GO_DEP));
+    /**
+     * A dep built by detect is kept in the tools directory, keyed by the Go version that built it, so later runs can reuse it.
+     * When the Go version can not be determined, dep is built into the shared directory of this run instead.
+     */
+    private File getGoDepInstallLocation(final String goExecutable) {
+        final String goDepName = executableFinder.getExecutableName(ExecutableType.GO_DEP);
+        final String goVersion = findGoVersion(goExecutable);
+        if (StringUtils.isBlank(goVersion)) {
+            return new File(directoryManager.getSharedDirectory("go"), goDepName);
+        }
+
+        final File goVersionDirectory = new File(directoryManager.getPermanentDirectory(GO_DEP_CACHE_DIRECTORY_NAME), goVersion);
+        return new File(goVersionDirectory, goDepName);
+    }
+
+    private String findGoVersion(final String goExecutable) {
+        if (StringUtils.isBlank(goExecutable)) {
+            return null;
+        }
+
+        try {
+            final Executable goVersion = new Executable(directoryManager.getSourceDirectory(), goExecutable, Arrays.asList("version"));
+            // 'go version' prints a line such as 'go version go1.11.2 linux/amd64'
+            final String[] pieces = executableRunner.executeQuietly(goVersion).getStandardOutput().trim().split("\\s+");
+            if (pieces.length >= 4 && pieces[2].startsWith("go")) {
+                return (pieces[2] + "-" + pieces[3]).replaceAll("[^A-Za-z0-9._-]", "_");
+            }
+        } catch (final ExecutableRunnerException e) {
+            logger.debug("Failed to determine the Go version: " + e.getMessage());
+        }
+
+        return null;
     }
 }
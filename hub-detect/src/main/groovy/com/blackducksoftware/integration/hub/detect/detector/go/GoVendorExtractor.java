@@ -23,10 +23,10 @@
  */
 package com.blackducksoftware.integration.hub.detect.detector.go;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
-
-import org.apache.commons.io.FileUtils;
+import java.nio.file.Files;
 
 import com.blackducksoftware.integration.hub.detect.workflow.codelocation.DetectCodeLocation;
 import com.blackducksoftware.integration.hub.detect.workflow.codelocation.DetectCodeLocationType;
@@ -49,8 +49,10 @@ public class GoVendorExtractor {
     public Extraction extract(final File directory, final File vendorJsonFile) {
         try {
             final GoVendorJsonParser vendorJsonParser = new GoVendorJsonParser(externalIdFactory);
-            final String vendorJsonContents = FileUtils.readFileToString(vendorJsonFile, StandardCharsets.UTF_8);
-            final DependencyGraph dependencyGraph = vendorJsonParser.parseVendorJson(gson, vendorJsonContents);
+            final DependencyGraph dependencyGraph;
+            try (BufferedReader reader = Files.newBufferedReader(vendorJsonFile.toPath(), StandardCharsets.UTF_8)) {
+                dependencyGraph = vendorJsonParser.parseVendorJson(gson, reader);
+            }
 
             final ExternalId externalId = externalIdFactory.createPathExternalId(Forge.GOLANG, directory.toString());
 
@@ -23,11 +23,18 @@
  */
 package com.blackducksoftware.integration.hub.detect.detector.go;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
 import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
@@ -45,19 +52,49 @@ public class GoVendorJsonParser {
     }
 
     public DependencyGraph parseVendorJson(final Gson gson, final String vendorJsonContents) {
+        try {
+            return parseVendorJson(gson, new StringReader(vendorJsonContents));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the package array one entry at a time, so only a single package is held in memory while the graph is built.
+     */
+    public DependencyGraph parseVendorJson(final Gson gson, final Reader vendorJsonReader) throws IOException {
         final MutableDependencyGraph graph = new MutableMapDependencyGraph();
-        GoVendorJsonData vendorJsonData = gson.fromJson(vendorJsonContents, GoVendorJsonData.class);
-        logger.trace(String.format("vendorJsonData: %s", vendorJsonData));
-        for (GoVendorJsonPackageData pkg : vendorJsonData.getPackages()) {
-            if (StringUtils.isNotBlank(pkg.getPath()) && StringUtils.isNotBlank(pkg.getRevision())) {
-                final ExternalId dependencyExternalId = externalIdFactory.createNameVersionExternalId(Forge.GOLANG, pkg.getPath(), pkg.getRevision());
-                final Dependency dependency = new Dependency(pkg.getPath(), pkg.getRevision(), dependencyExternalId);
-                logger.trace(String.format("dependency: %s", dependency.externalId.toString()));
-                graph.addChildToRoot(dependency);
+        final JsonReader jsonReader = gson.newJsonReader(vendorJsonReader);
+
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            if ("package".equals(jsonReader.nextName()) && jsonReader.peek() == JsonToken.BEGIN_ARRAY) {
+                jsonReader.beginArray();
+                while (jsonReader.hasNext()) {
+                    final GoVendorJsonPackageData pkg = gson.fromJson(jsonReader, GoVendorJsonPackageData.class);
+                    addPackage(graph, pkg);
+                }
+                jsonReader.endArray();
             } else {
-                logger.debug(String.format("Omitting package path:'%s', revision:'%s' (one or both of path, revision is/are missing)", pkg.getPath(), pkg.getRevision()));
+                jsonReader.skipValue();
             }
         }
+        jsonReader.endObject();
+
         return graph;
     }
+
+    private void addPackage(final MutableDependencyGraph graph, final GoVendorJsonPackageData pkg) {
+        if (pkg == null) {
+            return;
+        }
+        if (StringUtils.isNotBlank(pkg.getPath()) && StringUtils.isNotBlank(pkg.getRevision())) {
+            final ExternalId dependencyExternalId = externalIdFactory.createNameVersionExternalId(Forge.GOLANG, pkg.getPath(), pkg.getRevision());
+            final Dependency dependency = new Dependency(pkg.getPath(), pkg.getRevision(), dependencyExternalId);
+            logger.trace(String.format("dependency: %s", dependency.externalId.toString()));
+            graph.addChildToRoot(dependency);
+        } else {
+            logger.debug(String.format("Omitting package path:'%s', revision:'%s' (one or both of path, revision is/are missing)", pkg.getPath(), pkg.getRevision()));
+        }
+    }
 }
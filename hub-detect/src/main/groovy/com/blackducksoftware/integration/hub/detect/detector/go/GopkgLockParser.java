@@ -23,9 +23,16 @@
  */
 package com.blackducksoftware.integration.hub.detect.detector.go;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.commons.lang3.StringUtils;
 
-import com.moandjiezana.toml.Toml;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
 import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
@@ -35,7 +42,13 @@ import com.synopsys.integration.bdio.model.externalid.ExternalId;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.util.NameVersion;
 
+/**
+ * Reads the [[projects]] tables of a Gopkg.lock line by line. Only the TOML that dep writes is understood: table headers, and keys
+ * whose values are strings or arrays of strings, where arrays may span several lines.
+ */
 public class GopkgLockParser {
+    private static final String PROJECTS_TABLE = "[[projects]]";
+
     private final ExternalIdFactory externalIdFactory;
 
     public GopkgLockParser(final ExternalIdFactory externalIdFactory) {
@@ -43,22 +56,185 @@ public class GopkgLockParser {
     }
 
     public DependencyGraph parseDepLock(final String depLockContents) {
+        try {
+            return parseDepLock(new StringReader(depLockContents));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public DependencyGraph parseDepLock(final Reader depLockReader) throws IOException {
         final MutableDependencyGraph graph = new MutableMapDependencyGraph();
-        final GopkgLock gopkgLock = new Toml().read(depLockContents).to(GopkgLock.class);
-
-        for (final Project project : gopkgLock.getProjects()) {
-            if (project != null) {
-                final NameVersion projectNameVersion = createProjectNameVersion(project);
-                project.getPackages().stream()
-                    .map(packageName -> createDependencyName(projectNameVersion.getName(), packageName))
-                    .map(dependencyName -> createGoDependency(dependencyName, projectNameVersion.getVersion()))
-                    .forEach(graph::addChildToRoot);
+        final BufferedReader bufferedReader = depLockReader instanceof BufferedReader ? (BufferedReader) depLockReader : new BufferedReader(depLockReader);
+
+        Project project = null;
+        String key = null;
+        final StringBuilder value = new StringBuilder();
+        int openBrackets = 0;
+
+        String line;
+        while ((line = bufferedReader.readLine()) != null) {
+            if (key != null) {
+                // still inside an array that started on an earlier line
+                value.append('\n').append(line);
+                openBrackets += scanValue(line, null);
+                if (openBrackets <= 0) {
+                    setProjectValue(project, key, value.toString());
+                    key = null;
+                }
+                continue;
+            }
+
+            final String trimmedLine = line.trim();
+            if (trimmedLine.isEmpty() || trimmedLine.startsWith("#")) {
+                continue;
+            }
+
+            if (trimmedLine.startsWith("[")) {
+                addProject(graph, project);
+                project = trimmedLine.replaceAll("\\s", "").startsWith(PROJECTS_TABLE) ? new Project() : null;
+                continue;
+            }
+
+            final int equalsIndex = trimmedLine.indexOf('=');
+            if (project == null || equalsIndex < 0) {
+                continue;
+            }
+
+            final String lineValue = trimmedLine.substring(equalsIndex + 1).trim();
+            final int lineOpenBrackets = scanValue(lineValue, null);
+            if (lineOpenBrackets > 0) {
+                key = StringUtils.strip(trimmedLine.substring(0, equalsIndex).trim(), "\"'");
+                value.setLength(0);
+                value.append(lineValue);
+                openBrackets = lineOpenBrackets;
+            } else {
+                setProjectValue(project, StringUtils.strip(trimmedLine.substring(0, equalsIndex).trim(), "\"'"), lineValue);
             }
         }
+        addProject(graph, project);
 
         return graph;
     }
 
+    private void addProject(final MutableDependencyGraph graph, final Project project) {
+        if (project == null || project.getName() == null) {
+            return;
+        }
+
+        final NameVersion projectNameVersion = createProjectNameVersion(project);
+        if (project.getPackages() != null) {
+            project.getPackages().stream()
+                .map(packageName -> createDependencyName(projectNameVersion.getName(), packageName))
+                .map(dependencyName -> createGoDependency(dependencyName, projectNameVersion.getVersion()))
+                .forEach(graph::addChildToRoot);
+        }
+    }
+
+    private void setProjectValue(final Project project, final String key, final String value) {
+        final List<String> strings = new ArrayList<>();
+        scanValue(value, strings);
+        final String firstString = strings.isEmpty() ? null : strings.get(0);
+
+        switch (key) {
+            case "name":
+                project.setName(firstString);
+                break;
+            case "branch":
+                project.setBranch(firstString);
+                break;
+            case "revision":
+                project.setRevision(firstString);
+                break;
+            case "version":
+                project.setVersion(firstString);
+                break;
+            case "source":
+                project.setSource(firstString);
+                break;
+            case "packages":
+                project.setPackages(strings);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Collects the string literals of a TOML value into strings, when given, and returns how many more brackets were opened than
+     * closed. Brackets inside strings and anything after a comment are ignored.
+     */
+    private int scanValue(final String value, final List<String> strings) {
+        int openBrackets = 0;
+        int i = 0;
+        while (i < value.length()) {
+            final char c = value.charAt(i);
+            if (c == '#') {
+                final int lineEnd = value.indexOf('\n', i);
+                i = lineEnd < 0 ? value.length() : lineEnd + 1;
+            } else if (c == '"' || c == '\'') {
+                final StringBuilder string = new StringBuilder();
+                i++;
+                while (i < value.length() && value.charAt(i) != c) {
+                    if (c == '"' && value.charAt(i) == '\\' && i + 1 < value.length()) {
+                        i++;
+                        string.append(unescape(value, i));
+                        if (value.charAt(i) == 'u') {
+                            i += 4;
+                        } else if (value.charAt(i) == 'U') {
+                            i += 8;
+                        }
+                    } else {
+                        string.append(value.charAt(i));
+                    }
+                    i++;
+                }
+                i++;
+                if (strings != null) {
+                    strings.add(string.toString());
+                }
+            } else {
+                if (c == '[') {
+                    openBrackets++;
+                } else if (c == ']') {
+                    openBrackets--;
+                }
+                i++;
+            }
+        }
+
+        return openBrackets;
+    }
+
+    private String unescape(final String value, final int index) {
+        final char escaped = value.charAt(index);
+        switch (escaped) {
+            case 'n':
+                return "\n";
+            case 't':
+                return "\t";
+            case 'r':
+                return "\r";
+            case 'b':
+                return "\b";
+            case 'f':
+                return "\f";
+            case 'u':
+            case 'U':
+                final int length = escaped == 'u' ? 4 : 8;
+                if (index + length < value.length()) {
+                    try {
+                        return new String(Character.toChars(Integer.parseInt(value.substring(index + 1, index + 1 + length), 16)));
+                    } catch (final IllegalArgumentException e) {
+                        return "";
+                    }
+                }
+                return "";
+            default:
+                return String.valueOf(escaped);
+        }
+    }
+
     private NameVersion createProjectNameVersion(final Project project) {
         final String version;
 
@@ -27,7 +27,10 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -42,6 +45,7 @@ import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableRu
 import com.blackducksoftware.integration.hub.detect.workflow.codelocation.DetectCodeLocation;
 import com.blackducksoftware.integration.hub.detect.workflow.extraction.Extraction;
 import com.blackducksoftware.integration.hub.detect.workflow.file.DetectFileFinder;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
 import com.synopsys.integration.util.NameVersion;
 
 public class GradleInspectorExtractor {
@@ -85,11 +89,13 @@ public class GradleInspectorExtractor {
                 String projectName = null;
                 String projectVersion = null;
                 if (codeLocationFiles != null) {
-                    codeLocationFiles.stream()
-                        .map(codeLocationFile -> gradleReportParser.parseDependencies(codeLocationFile))
-                        .filter(Optional::isPresent)
-                        .map(Optional::get)
-                        .forEach(codeLocations::add);
+                    // Each project has its own report, so they are parsed in parallel, sharing one dependency pool
+                    final Map<String, Dependency> dependencyPool = new ConcurrentHashMap<>();
+                    codeLocations.addAll(codeLocationFiles.parallelStream()
+                                             .map(codeLocationFile -> gradleReportParser.parseDependencies(codeLocationFile, dependencyPool))
+                                             .filter(Optional::isPresent)
+                                             .map(Optional::get)
+                                             .collect(Collectors.toList()));
 
                     if (rootProjectMetadataFile != null) {
                         final Optional<NameVersion> projectNameVersion = gradleReportParser.parseRootProjectNameVersion(rootProjectMetadataFile);
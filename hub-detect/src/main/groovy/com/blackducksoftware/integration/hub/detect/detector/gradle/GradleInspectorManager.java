@@ -67,7 +67,7 @@ public class GradleInspectorManager {
         this.artifactResolver = artifactResolver;
     }
 
-    public String getGradleInspector() throws DetectorException {
+    public synchronized String getGradleInspector() throws DetectorException {
         if (!hasResolvedInspector) {
             hasResolvedInspector = true;
             try {
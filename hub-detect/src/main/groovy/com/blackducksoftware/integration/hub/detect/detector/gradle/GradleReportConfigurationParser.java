@@ -23,6 +23,8 @@
  */
 package com.blackducksoftware.integration.hub.detect.detector.gradle;
 
+import java.util.Map;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,6 +47,13 @@ public class GradleReportConfigurationParser {
         return null;
     }
 
+    public Dependency parseDependency(final ExternalIdFactory externalIdFactory, final String line, final Map<String, Dependency> dependencyPool) {
+        if (shouldParseLine(line)) {
+            return gradleReportLine.createDependencyNode(externalIdFactory, dependencyPool);
+        }
+        return null;
+    }
+
     public int getTreeLevel() {
         return gradleReportLine.getTreeLevel();
     }
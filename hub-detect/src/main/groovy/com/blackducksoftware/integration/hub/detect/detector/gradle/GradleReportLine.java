@@ -26,6 +26,7 @@ package com.blackducksoftware.integration.hub.detect.detector.gradle;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -53,7 +54,35 @@ public class GradleReportLine {
         return originalLine.contains(COMPONENT_PREFIX);
     }
 
+    /**
+     * Reuses the dependency already created for the same component text, so a component listed under many configurations is only created once.
+     */
+    public Dependency createDependencyNode(final ExternalIdFactory externalIdFactory, final Map<String, Dependency> dependencyPool) {
+        final String componentText = getComponentText();
+        if (componentText == null) {
+            return null;
+        }
+        final Dependency pooledDependency = dependencyPool.get(componentText);
+        if (pooledDependency != null) {
+            return pooledDependency;
+        }
+        final Dependency dependency = createDependencyNode(externalIdFactory, componentText);
+        if (dependency == null) {
+            return null;
+        }
+        final Dependency existingDependency = dependencyPool.putIfAbsent(componentText, dependency);
+        return existingDependency != null ? existingDependency : dependency;
+    }
+
     public Dependency createDependencyNode(final ExternalIdFactory externalIdFactory) {
+        final String componentText = getComponentText();
+        if (componentText == null) {
+            return null;
+        }
+        return createDependencyNode(externalIdFactory, componentText);
+    }
+
+    private String getComponentText() {
         if (!originalLine.contains(COMPONENT_PREFIX)) {
             return null;
         }
@@ -65,6 +94,10 @@ public class GradleReportLine {
             final int lastSeenElsewhereIndex = cleanedOutput.lastIndexOf(SEEN_ELSEWHERE_SUFFIX);
             cleanedOutput = cleanedOutput.substring(0, lastSeenElsewhereIndex);
         }
+        return cleanedOutput;
+    }
+
+    private Dependency createDependencyNode(final ExternalIdFactory externalIdFactory, final String cleanedOutput) {
 
         // we might need to modify the returned list, so it needs to be an actual ArrayList
         List<String> gavPieces = new ArrayList<>(Arrays.asList(cleanedOutput.split(":")));
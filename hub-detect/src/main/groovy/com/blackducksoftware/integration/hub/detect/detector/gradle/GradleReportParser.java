@@ -29,7 +29,12 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -59,13 +64,19 @@ public class GradleReportParser {
 
     private final ExternalIdFactory externalIdFactory;
 
-    private GradleReportConfigurationParser gradleReportConfigurationParser = new GradleReportConfigurationParser();
-
     public GradleReportParser(final ExternalIdFactory externalIdFactory) {
         this.externalIdFactory = externalIdFactory;
     }
 
     public Optional<DetectCodeLocation> parseDependencies(final File codeLocationFile) {
+        return parseDependencies(codeLocationFile, new HashMap<>());
+    }
+
+    /**
+     * Every configuration of a project lists its dependency trees again, so dependencies are shared through the pool and a relationship already added to the graph is not added again.
+     * The pool must be thread safe when reports are parsed concurrently with it.
+     */
+    public Optional<DetectCodeLocation> parseDependencies(final File codeLocationFile, final Map<String, Dependency> dependencyPool) {
         DetectCodeLocation codeLocation = null;
         String projectSourcePath = "";
         String projectGroup = "";
@@ -74,10 +85,13 @@ public class GradleReportParser {
         boolean processingMetaData = false;
         final MutableDependencyGraph graph = new MutableMapDependencyGraph();
         final DependencyHistory history = new DependencyHistory();
+        final Set<Dependency> rootDependencies = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Map<Dependency, Set<Dependency>> childrenByParent = new IdentityHashMap<>();
+        GradleReportConfigurationParser gradleReportConfigurationParser = new GradleReportConfigurationParser();
 
         try (FileInputStream dependenciesInputStream = new FileInputStream(codeLocationFile); BufferedReader reader = new BufferedReader(new InputStreamReader(dependenciesInputStream, StandardCharsets.UTF_8));) {
-            while (reader.ready()) {
-                final String line = reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
                 /**
                  * The meta data section will be at the end of the file after all of the "gradle dependencies" output
                  */
@@ -108,7 +122,7 @@ public class GradleReportParser {
                     continue;
                 }
 
-                final Dependency dependency = gradleReportConfigurationParser.parseDependency(externalIdFactory, line);
+                final Dependency dependency = gradleReportConfigurationParser.parseDependency(externalIdFactory, line, dependencyPool);
                 if (dependency == null) {
                     continue;
                 }
@@ -122,9 +136,14 @@ public class GradleReportParser {
                 }
 
                 if (history.isEmpty()) {
-                    graph.addChildToRoot(dependency);
+                    if (rootDependencies.add(dependency)) {
+                        graph.addChildToRoot(dependency);
+                    }
                 } else {
-                    graph.addChildWithParents(dependency, history.getLastDependency());
+                    final Dependency parent = history.getLastDependency();
+                    if (childrenByParent.computeIfAbsent(parent, key -> Collections.newSetFromMap(new IdentityHashMap<>())).add(dependency)) {
+                        graph.addChildWithParents(dependency, parent);
+                    }
                 }
 
                 history.add(dependency);
@@ -146,8 +165,8 @@ public class GradleReportParser {
         boolean processingMetaData = false;
 
         try (FileInputStream dependenciesInputStream = new FileInputStream(rootProjectMetadataFile); BufferedReader reader = new BufferedReader(new InputStreamReader(dependenciesInputStream, StandardCharsets.UTF_8));) {
-            while (reader.ready()) {
-                final String line = reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
 
                 if (line.startsWith(DETECT_META_DATA_HEADER)) {
                     processingMetaData = true;
@@ -35,6 +35,7 @@ import org.apache.commons.lang3.StringUtils;
 import com.blackducksoftware.integration.hub.detect.configuration.DetectConfiguration;
 import com.blackducksoftware.integration.hub.detect.configuration.DetectProperty;
 import com.blackducksoftware.integration.hub.detect.configuration.PropertyAuthority;
+import com.blackducksoftware.integration.hub.detect.detector.maven.MavenCodeLocationPackager.DependencyTreeParser;
 import com.blackducksoftware.integration.hub.detect.util.executable.Executable;
 import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableOutput;
 import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableRunner;
@@ -73,13 +74,13 @@ public class MavenCliExtractor {
             arguments.add("dependency:tree");
 
             final Executable mvnExecutable = new Executable(directory, mavenExe, arguments);
-            final ExecutableOutput mvnOutput = executableRunner.execute(mvnExecutable);
+            final String excludedModules = detectConfiguration.getProperty(DetectProperty.DETECT_MAVEN_EXCLUDED_MODULES, PropertyAuthority.None);
+            final String includedModules = detectConfiguration.getProperty(DetectProperty.DETECT_MAVEN_INCLUDED_MODULES, PropertyAuthority.None);
+            final DependencyTreeParser dependencyTreeParser = mavenCodeLocationPackager.createDependencyTreeParser(directory.toString(), excludedModules, includedModules);
+            final ExecutableOutput mvnOutput = executableRunner.executeStreaming(mvnExecutable, dependencyTreeParser);
 
             if (mvnOutput.getReturnCode() == 0) {
-
-                final String excludedModules = detectConfiguration.getProperty(DetectProperty.DETECT_MAVEN_EXCLUDED_MODULES, PropertyAuthority.None);
-                final String includedModules = detectConfiguration.getProperty(DetectProperty.DETECT_MAVEN_INCLUDED_MODULES, PropertyAuthority.None);
-                final List<MavenParseResult> mavenResults = mavenCodeLocationPackager.extractCodeLocations(directory.toString(), mvnOutput.getStandardOutput(), excludedModules, includedModules);
+                final List<MavenParseResult> mavenResults = dependencyTreeParser.getCodeLocations();
 
                 final List<DetectCodeLocation> codeLocations = mavenResults.stream()
                                                                    .map(it -> it.codeLocation)
@@ -27,7 +27,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Stack;
-import java.util.regex.Pattern;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -49,45 +49,67 @@ public class MavenCodeLocationPackager {
 
     private static final Logger logger = LoggerFactory.getLogger(MavenCodeLocationPackager.class);
 
+    private static final int INDENTATION_WIDTH = 3;
+
     private final ExternalIdFactory externalIdFactory;
-    private List<MavenParseResult> codeLocations = new ArrayList<>();
-    private MavenParseResult currentMavenProject = null;
-    private Stack<Dependency> dependencyParentStack = new Stack<>();
-    private boolean parsingProjectSection;
-    private int level;
-    private MutableDependencyGraph currentGraph = null;
 
     public MavenCodeLocationPackager(final ExternalIdFactory externalIdFactory) {
         this.externalIdFactory = externalIdFactory;
     }
 
     public List<MavenParseResult> extractCodeLocations(final String sourcePath, final String mavenOutputText, final String excludedModules, final String includedModules) {
-        final ExcludedIncludedFilter filter = new ExcludedIncludedFilter(excludedModules, includedModules);
-        codeLocations = new ArrayList<>();
-        currentMavenProject = null;
-        dependencyParentStack = new Stack<>();
-        parsingProjectSection = false;
-        currentGraph = new MutableMapDependencyGraph();
-
-        level = 0;
+        final DependencyTreeParser parser = createDependencyTreeParser(sourcePath, excludedModules, includedModules);
         for (final String currentLine : mavenOutputText.split(System.lineSeparator())) {
+            parser.accept(currentLine);
+        }
+        return parser.getCodeLocations();
+    }
+
+    /**
+     * Creates a parser that builds the code locations one line at a time, so the maven output can be parsed as it is produced rather than after it has been collected.
+     */
+    public DependencyTreeParser createDependencyTreeParser(final String sourcePath, final String excludedModules, final String includedModules) {
+        return new DependencyTreeParser(sourcePath, new ExcludedIncludedFilter(excludedModules, includedModules));
+    }
+
+    public class DependencyTreeParser implements Consumer<String> {
+        private final String sourcePath;
+        private final ExcludedIncludedFilter filter;
+
+        private final List<MavenParseResult> codeLocations = new ArrayList<>();
+        private final Stack<Dependency> dependencyParentStack = new Stack<>();
+        private MavenParseResult currentMavenProject = null;
+        private MutableDependencyGraph currentGraph = new MutableMapDependencyGraph();
+        private boolean parsingProjectSection = false;
+
+        private DependencyTreeParser(final String sourcePath, final ExcludedIncludedFilter filter) {
+            this.sourcePath = sourcePath;
+            this.filter = filter;
+        }
+
+        public List<MavenParseResult> getCodeLocations() {
+            return codeLocations;
+        }
+
+        @Override
+        public void accept(final String currentLine) {
             String line = currentLine.trim();
             if (!isLineRelevant(line)) {
-                continue;
+                return;
             }
             line = trimLogLevel(line);
             if (StringUtils.isBlank(line)) {
-                continue;
+                return;
             }
             if (isProjectSection(line)) {
                 parsingProjectSection = true;
-                continue;
+                return;
             }
             if (!parsingProjectSection) {
-                continue;
+                return;
             }
             if (isDependencyTreeUpdates(line)) {
-                continue;
+                return;
             }
 
             if (parsingProjectSection && currentMavenProject == null) {
@@ -98,28 +120,21 @@ public class MavenCodeLocationPackager {
                     this.currentMavenProject = mavenProject;
                     codeLocations.add(mavenProject);
                 } else {
-                    currentMavenProject = null;
-                    dependencyParentStack.clear();
-                    parsingProjectSection = false;
-                    level = 0;
+                    endProjectSection();
                 }
-                continue;
+                return;
             }
 
             final boolean finished = line.contains("--------");
             if (finished) {
-                currentMavenProject = null;
-                dependencyParentStack.clear();
-                parsingProjectSection = false;
-                level = 0;
-                continue;
+                endProjectSection();
+                return;
             }
 
-            final int previousLevel = level;
-            final String cleanedLine = calculateCurrentLevelAndCleanLine(line);
-            final Dependency dependency = textToDependency(cleanedLine);
+            final int level = calculateLevel(line);
+            final Dependency dependency = textToDependency(line.substring(level * INDENTATION_WIDTH));
             if (null == dependency) {
-                continue;
+                return;
             }
 
             if (currentMavenProject != null) {
@@ -129,29 +144,25 @@ public class MavenCodeLocationPackager {
                     dependencyParentStack.clear();
                     dependencyParentStack.push(dependency);
                 } else {
-                    // level should be greater than 1
-                    if (level == previousLevel) {
-                        // a sibling of the previous dependency
+                    // the stack holds one dependency per level, so the parent is the last one left once the deeper levels are removed
+                    while (!dependencyParentStack.isEmpty() && dependencyParentStack.size() >= level) {
                         dependencyParentStack.pop();
-                        currentGraph.addParentWithChild(dependencyParentStack.peek(), dependency);
-                        dependencyParentStack.push(dependency);
-                    } else if (level > previousLevel) {
-                        // a child of the previous dependency
-                        currentGraph.addParentWithChild(dependencyParentStack.peek(), dependency);
-                        dependencyParentStack.push(dependency);
-                    } else {
-                        // a child of a dependency further back than 1 line
-                        for (int i = previousLevel; i >= level; i--) {
-                            dependencyParentStack.pop();
-                        }
-                        currentGraph.addParentWithChild(dependencyParentStack.peek(), dependency);
-                        dependencyParentStack.push(dependency);
                     }
+                    if (dependencyParentStack.size() != level - 1) {
+                        logger.debug(String.format("Skipping a line whose parent is missing from the dependency tree: %s", line));
+                        return;
+                    }
+                    currentGraph.addParentWithChild(dependencyParentStack.peek(), dependency);
+                    dependencyParentStack.push(dependency);
                 }
             }
         }
 
-        return codeLocations;
+        private void endProjectSection() {
+            currentMavenProject = null;
+            dependencyParentStack.clear();
+            parsingProjectSection = false;
+        }
     }
 
     private MavenParseResult createMavenParseResult(final String sourcePath, final String line, final DependencyGraph graph) {
@@ -168,23 +179,34 @@ public class MavenCodeLocationPackager {
     }
 
     String calculateCurrentLevelAndCleanLine(final String line) {
-        level = 0;
-        String cleanedLine = line;
-        for (final String pattern : indentationStrings) {
-            while (cleanedLine.contains(pattern)) {
-                level++;
-                cleanedLine = cleanedLine.replaceFirst(Pattern.quote(pattern), "");
-            }
+        return line.substring(calculateLevel(line) * INDENTATION_WIDTH);
+    }
+
+    // The tree depth is the number of indentation tokens the line starts with, every token is the same width.
+    int calculateLevel(final String line) {
+        int level = 0;
+        int index = 0;
+        while (index + INDENTATION_WIDTH <= line.length() && isIndentationToken(line, index)) {
+            level++;
+            index += INDENTATION_WIDTH;
         }
+        return level;
+    }
 
-        return cleanedLine;
+    private boolean isIndentationToken(final String line, final int index) {
+        for (final String indentation : indentationStrings) {
+            if (line.startsWith(indentation, index)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     Dependency textToDependency(final String componentText) {
-        if (!isGav(componentText)) {
+        final String[] gavParts = componentText.split(":");
+        if (!isGav(componentText, gavParts)) {
             return null;
         }
-        final String[] gavParts = componentText.split(":");
         final String group = gavParts[0];
         final String artifact = gavParts[1];
 
@@ -200,10 +222,10 @@ public class MavenCodeLocationPackager {
     }
 
     Dependency textToProject(final String componentText) {
-        if (!isGav(componentText)) {
+        final String[] gavParts = componentText.split(":");
+        if (!isGav(componentText, gavParts)) {
             return null;
         }
-        final String[] gavParts = componentText.split(":");
         final String group = gavParts[0];
         final String artifact = gavParts[1];
         String version;
@@ -263,18 +285,20 @@ public class MavenCodeLocationPackager {
     }
 
     boolean isGav(final String componentText) {
-        final String debugMessage = String.format("%s does not look like a GAV we recognize", componentText);
-        final String[] gavParts = componentText.split(":");
+        return isGav(componentText, componentText.split(":"));
+    }
+
+    private boolean isGav(final String componentText, final String[] gavParts) {
         if (gavParts.length >= 4) {
             for (final String part : gavParts) {
                 if (StringUtils.isBlank(part)) {
-                    logger.debug(debugMessage);
+                    logger.debug(String.format("%s does not look like a GAV we recognize", componentText));
                     return false;
                 }
             }
             return true;
         }
-        logger.debug(debugMessage);
+        logger.debug(String.format("%s does not look like a GAV we recognize", componentText));
         return false;
     }
 
@@ -290,24 +314,19 @@ public class MavenCodeLocationPackager {
     }
 
     int indexOfEndOfSegments(final String line, final String... segments) {
-        int endOfSegments = -1;
-        if (segments.length > 0) {
-            endOfSegments = 0;
+        if (segments.length == 0) {
+            return -1;
         }
 
-        String editableLine = line;
+        int endOfSegments = 0;
         for (final String segment : segments) {
-            final int index = editableLine.indexOf(segment);
+            // only look at the remainder of the line after the segment we just found for the next segment
+            final int index = line.indexOf(segment, endOfSegments);
             // If the string does not contain the segment indexOf returns -1
             if (index == -1) {
-                endOfSegments = -1;
-                break;
+                return -1;
             }
-            // Add the index to the total to keep track of the index in the original String
-            endOfSegments += (index + segment.length());
-
-            // cut the string off right after the segment we just found so we are only looking at the remainder of the line for the next segment
-            editableLine = editableLine.substring(index + segment.length());
+            endOfSegments = index + segment.length();
         }
         return endOfSegments;
     }
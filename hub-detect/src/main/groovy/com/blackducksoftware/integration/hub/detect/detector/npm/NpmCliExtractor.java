@@ -25,6 +25,7 @@ package com.blackducksoftware.integration.hub.detect.detector.npm;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -41,19 +42,24 @@ import com.blackducksoftware.integration.hub.detect.util.executable.Executable;
 import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableOutput;
 import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableRunner;
 import com.blackducksoftware.integration.hub.detect.workflow.extraction.Extraction;
+import com.blackducksoftware.integration.hub.detect.workflow.file.DirectoryManager;
 
 public class NpmCliExtractor {
     public static final String OUTPUT_FILE = "detect_npm_proj_dependencies.json";
     public static final String ERROR_FILE = "detect_npm_error.json";
+    // npm ls -json of a large project runs to many megabytes, anything past this is written to the extraction directory instead of kept in memory
+    private static final long SPILL_THRESHOLD_IN_CHARS = 8 * 1024 * 1024;
     private final Logger logger = LoggerFactory.getLogger(NpmCliExtractor.class);
     private final ExecutableRunner executableRunner;
     private final NpmCliParser npmCliParser;
     private final DetectConfiguration detectConfiguration;
+    private final DirectoryManager directoryManager;
 
-    public NpmCliExtractor(final ExecutableRunner executableRunner, final NpmCliParser npmCliParser, final DetectConfiguration detectConfiguration) {
+    public NpmCliExtractor(final ExecutableRunner executableRunner, final NpmCliParser npmCliParser, final DetectConfiguration detectConfiguration, final DirectoryManager directoryManager) {
         this.executableRunner = executableRunner;
         this.npmCliParser = npmCliParser;
         this.detectConfiguration = detectConfiguration;
+        this.directoryManager = directoryManager;
     }
 
     public Extraction extract(final File directory, final String npmExe, final ExtractionId extractionId) {
@@ -72,30 +78,33 @@ public class NpmCliExtractor {
         }
 
         final Executable npmLsExe = new Executable(directory, npmExe, exeArgs);
-        ExecutableOutput executableOutput;
+        final ExecutableOutput executableOutput;
         try {
-            executableOutput = executableRunner.execute(npmLsExe);
+            executableOutput = executableRunner.executeSpilling(npmLsExe, directoryManager.getExtractionOutputDirectory(extractionId), SPILL_THRESHOLD_IN_CHARS);
         } catch (final Exception e) {
             return new Extraction.Builder().exception(e).build();
         }
-        final String standardOutput = executableOutput.getStandardOutput();
-        final String errorOutput = executableOutput.getErrorOutput();
-        if (StringUtils.isNotBlank(errorOutput)) {
-            logger.error("Error when running npm ls -json command");
-            logger.error(errorOutput);
-            return new Extraction.Builder().failure("Npm wrote to stderr while running npm ls.").build();
-        } else if (StringUtils.isNotBlank(standardOutput)) {
-            logger.debug("Parsing npm ls file.");
-            logger.debug(standardOutput);
-            try {
-                final NpmParseResult result = npmCliParser.generateCodeLocation(directory.getCanonicalPath(), standardOutput);
-                return new Extraction.Builder().success(result.codeLocation).projectName(result.projectName).projectVersion(result.projectVersion).build();
-            } catch (final IOException e) {
-                return new Extraction.Builder().exception(e).build();
+        try {
+            final String errorOutput = executableOutput.getErrorOutput();
+            final boolean hasStandardOutput = executableOutput.getStandardOutputFile().map(file -> file.length() > 0).orElseGet(() -> StringUtils.isNotBlank(executableOutput.getStandardOutput()));
+            if (StringUtils.isNotBlank(errorOutput)) {
+                logger.error("Error when running npm ls -json command");
+                logger.error(errorOutput);
+                return new Extraction.Builder().failure("Npm wrote to stderr while running npm ls.").build();
+            } else if (hasStandardOutput) {
+                logger.debug("Parsing npm ls file.");
+                try (Reader standardOutput = executableOutput.openStandardOutputReader()) {
+                    final NpmParseResult result = npmCliParser.generateCodeLocation(directory.getCanonicalPath(), standardOutput);
+                    return new Extraction.Builder().success(result.codeLocation).projectName(result.projectName).projectVersion(result.projectVersion).build();
+                } catch (final IOException e) {
+                    return new Extraction.Builder().exception(e).build();
+                }
+            } else {
+                logger.error("Nothing returned from npm ls -json command");
+                return new Extraction.Builder().failure("Npm returned error after running npm ls.").build();
             }
-        } else {
-            logger.error("Nothing returned from npm ls -json command");
-            return new Extraction.Builder().failure("Npm returned error after running npm ls.").build();
+        } finally {
+            executableOutput.deleteStandardOutputFile();
         }
     }
 }
@@ -23,6 +23,7 @@
  */
 package com.blackducksoftware.integration.hub.detect.detector.npm;
 
+import java.io.Reader;
 import java.util.Map.Entry;
 import java.util.Set;
 
@@ -67,8 +68,20 @@ public class NpmCliParser {
         return convertNpmJsonFileToCodeLocation(sourcePath, npmLsOutput);
     }
 
+    /**
+     * Parses the npm ls output straight from the reader, so output that was spilled to a file is never read into a single string.
+     */
+    public NpmParseResult generateCodeLocation(final String sourcePath, final Reader npmLsOutput) {
+        logger.info("Generating results from npm ls -json");
+
+        return convertNpmJsonToCodeLocation(sourcePath, new JsonParser().parse(npmLsOutput).getAsJsonObject());
+    }
+
     NpmParseResult convertNpmJsonFileToCodeLocation(final String sourcePath, final String npmLsOutput) {
-        final JsonObject npmJson = new JsonParser().parse(npmLsOutput).getAsJsonObject();
+        return convertNpmJsonToCodeLocation(sourcePath, new JsonParser().parse(npmLsOutput).getAsJsonObject());
+    }
+
+    private NpmParseResult convertNpmJsonToCodeLocation(final String sourcePath, final JsonObject npmJson) {
         final MutableDependencyGraph graph = new MutableMapDependencyGraph();
 
         final JsonElement projectNameElement = npmJson.getAsJsonPrimitive(JSON_NAME);
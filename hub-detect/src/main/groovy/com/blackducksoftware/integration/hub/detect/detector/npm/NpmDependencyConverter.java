@@ -23,6 +23,7 @@
  */
 package com.blackducksoftware.integration.hub.detect.detector.npm;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -33,8 +34,8 @@ import java.util.stream.Collectors;
 import com.blackducksoftware.integration.hub.detect.detector.npm.model.NpmDependency;
 import com.blackducksoftware.integration.hub.detect.detector.npm.model.NpmRequires;
 import com.blackducksoftware.integration.hub.detect.detector.npm.model.PackageJson;
-import com.blackducksoftware.integration.hub.detect.detector.npm.model.PackageLock;
-import com.blackducksoftware.integration.hub.detect.detector.npm.model.PackageLockDependency;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.bdio.model.dependency.Dependency;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
@@ -45,14 +46,32 @@ public class NpmDependencyConverter {
 
     public NpmDependencyConverter(final ExternalIdFactory externalIdFactory) {this.externalIdFactory = externalIdFactory;}
 
-    public NpmDependency convertLockFile(PackageLock packageLock, Optional<PackageJson> packageJsonOptional) {
-
-        NpmDependency root = createNpmDependency(packageLock.name, packageLock.version, false);
+    /**
+     * Streams the lock file into the dependency tree, so neither the lock file text nor an intermediate model of it is held in memory.
+     */
+    public NpmDependency convertLockFile(JsonReader lockFileReader, Optional<PackageJson> packageJsonOptional) throws IOException {
+        String name = null;
+        String version = null;
+        List<NpmDependency> children = new ArrayList<>();
 
-        if (packageLock.dependencies != null) {
-            List<NpmDependency> children = convertPackageMapToDependencies(root, packageLock.dependencies);
-            root.addAllDependencies(children);
+        lockFileReader.beginObject();
+        while (lockFileReader.hasNext()) {
+            String property = lockFileReader.nextName();
+            if ("name".equals(property)) {
+                name = nextStringOrNull(lockFileReader);
+            } else if ("version".equals(property)) {
+                version = nextStringOrNull(lockFileReader);
+            } else if ("dependencies".equals(property)) {
+                children = readDependencies(lockFileReader);
+            } else {
+                lockFileReader.skipValue();
+            }
         }
+        lockFileReader.endObject();
+
+        NpmDependency root = createNpmDependency(name, version, false);
+        children.forEach(child -> child.setParent(root));
+        root.addAllDependencies(children);
 
         if (packageJsonOptional.isPresent()) {
             PackageJson packageJson = packageJsonOptional.get();
@@ -66,40 +85,82 @@ public class NpmDependencyConverter {
                 root.addAllRequires(rootDevRequires);
             }
         } else {
-            if (packageLock.dependencies != null) {
-                List<NpmRequires> requires = packageLock.dependencies.entrySet().stream()
-                                                 .map(entry -> new NpmRequires(entry.getKey(), entry.getValue().version))
-                                                 .collect(Collectors.toList());
+            List<NpmRequires> requires = children.stream()
+                                             .map(child -> new NpmRequires(child.getName(), child.getVersion()))
+                                             .collect(Collectors.toList());
 
-                root.addAllRequires(requires);
-            }
+            root.addAllRequires(requires);
         }
 
         return root;
     }
 
-    public List<NpmDependency> convertPackageMapToDependencies(NpmDependency parent, Map<String, PackageLockDependency> packageLockDependencyMap) {
-        List<NpmDependency> children = new ArrayList<>();
-
-        if (packageLockDependencyMap == null || packageLockDependencyMap.size() == 0) {
-            return children;
+    private List<NpmDependency> readDependencies(JsonReader reader) throws IOException {
+        List<NpmDependency> dependencies = new ArrayList<>();
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return dependencies;
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String packageName = reader.nextName();
+            if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+                dependencies.add(readDependency(reader, packageName));
+            } else {
+                reader.skipValue();
+            }
         }
+        reader.endObject();
+        return dependencies;
+    }
 
-        for (Map.Entry<String, PackageLockDependency> packageEntry : packageLockDependencyMap.entrySet()) {
-            String packageName = packageEntry.getKey();
-            PackageLockDependency packageLockDependency = packageEntry.getValue();
+    private NpmDependency readDependency(JsonReader reader, String packageName) throws IOException {
+        String version = null;
+        boolean dev = false;
+        List<NpmRequires> requires = Collections.emptyList();
+        List<NpmDependency> children = Collections.emptyList();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String property = reader.nextName();
+            if ("version".equals(property)) {
+                version = nextStringOrNull(reader);
+            } else if ("dev".equals(property) && reader.peek() == JsonToken.BOOLEAN) {
+                dev = reader.nextBoolean();
+            } else if ("requires".equals(property) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                requires = readRequires(reader);
+            } else if ("dependencies".equals(property)) {
+                children = readDependencies(reader);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
 
-            NpmDependency dependency = createNpmDependency(packageName, packageLockDependency.version, packageLockDependency.dev);
-            dependency.setParent(parent);
-            children.add(dependency);
+        NpmDependency dependency = createNpmDependency(packageName, version, dev);
+        dependency.addAllRequires(requires);
+        children.forEach(child -> child.setParent(dependency));
+        dependency.addAllDependencies(children);
+        return dependency;
+    }
 
-            List<NpmRequires> requires = convertNameVersionMapToRequires(packageLockDependency.requires);
-            dependency.addAllRequires(requires);
+    private List<NpmRequires> readRequires(JsonReader reader) throws IOException {
+        List<NpmRequires> requires = new ArrayList<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            requires.add(new NpmRequires(name, nextStringOrNull(reader)));
+        }
+        reader.endObject();
+        return requires;
+    }
 
-            List<NpmDependency> grandChildren = convertPackageMapToDependencies(dependency, packageLockDependency.dependencies);
-            dependency.addAllDependencies(grandChildren);
+    private String nextStringOrNull(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.STRING || reader.peek() == JsonToken.NUMBER) {
+            return reader.nextString();
         }
-        return children;
+        reader.skipValue();
+        return null;
     }
 
     private NpmDependency createNpmDependency(String name, String version, Boolean isDev) {
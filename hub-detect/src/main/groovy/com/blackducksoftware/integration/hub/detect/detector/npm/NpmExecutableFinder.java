@@ -28,6 +28,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -41,6 +42,8 @@ import com.blackducksoftware.integration.hub.detect.detector.DetectorException;
 import com.blackducksoftware.integration.hub.detect.type.ExecutableType;
 import com.blackducksoftware.integration.hub.detect.util.executable.Executable;
 import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableFinder;
+import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableOutput;
+import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableResolutionCache;
 import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableRunner;
 import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableRunnerException;
 import com.blackducksoftware.integration.hub.detect.workflow.file.DirectoryManager;
@@ -52,19 +55,21 @@ public class NpmExecutableFinder {
     private final ExecutableFinder executableFinder;
     private final ExecutableRunner executableRunner;
     private final DetectConfiguration detectConfiguration;
+    private final ExecutableResolutionCache executableResolutionCache;
 
     private String foundNpm = null;
     private boolean hasLookedForNpm = false;
 
     public NpmExecutableFinder(final DirectoryManager directoryManager, final ExecutableFinder executableFinder, final ExecutableRunner executableRunner,
-        final DetectConfiguration detectConfiguration) {
+        final DetectConfiguration detectConfiguration, final ExecutableResolutionCache executableResolutionCache) {
         this.directoryManager = directoryManager;
         this.executableFinder = executableFinder;
         this.executableRunner = executableRunner;
         this.detectConfiguration = detectConfiguration;
+        this.executableResolutionCache = executableResolutionCache;
     }
 
-    public String findNpm(final DetectorEnvironment environment) throws DetectorException {
+    public synchronized String findNpm(final DetectorEnvironment environment) throws DetectorException {
         try {
             if (!hasLookedForNpm) {
                 foundNpm = findNpm();
@@ -97,6 +102,18 @@ public class NpmExecutableFinder {
                 if (lastSlashIndex >= 0) {
                     npmNodePath = npmNodePath.substring(0, lastSlashIndex);
                 }
+            }
+
+            // npm runs with the node path as its PATH when one is configured, so that is the path its version depends on
+            final File npmExe = new File(npmExePath);
+            final String searchPath = StringUtils.isNotBlank(npmNodePath) ? npmNodePath : System.getenv("PATH");
+            final Optional<String> cachedVersion = executableResolutionCache.getVersionOutput(npmExe, searchPath);
+            if (cachedVersion.isPresent()) {
+                logger.debug("Npm version " + cachedVersion.get() + " (cached)");
+                return true;
+            }
+
+            if (StringUtils.isNotBlank(npmNodePath)) {
                 final Map<String, String> environmentVariables = new HashMap<>();
                 environmentVariables.put("PATH", npmNodePath);
 
@@ -105,8 +122,12 @@ public class NpmExecutableFinder {
                 npmVersionExe = new Executable(directoryToSearch, npmExePath, arguments);
             }
             try {
-                final String npmVersion = executableRunner.execute(npmVersionExe).getStandardOutput();
+                final ExecutableOutput npmVersionOutput = executableRunner.execute(npmVersionExe);
+                final String npmVersion = npmVersionOutput.getStandardOutput();
                 logger.debug("Npm version " + npmVersion);
+                if (npmVersionOutput.getReturnCode() == 0) {
+                    executableResolutionCache.putVersionOutput(npmExe, searchPath, npmVersion);
+                }
                 return true;
             } catch (final ExecutableRunnerException e) {
                 logger.error("Could not run npm to get the version: " + e.getMessage());
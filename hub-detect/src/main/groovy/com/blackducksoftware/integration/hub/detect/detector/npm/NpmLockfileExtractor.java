@@ -23,8 +23,12 @@
  */
 package com.blackducksoftware.integration.hub.detect.detector.npm;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
@@ -48,13 +52,15 @@ public class NpmLockfileExtractor {
         try {
             final boolean includeDev = detectConfiguration.getBooleanProperty(DetectProperty.DETECT_NPM_INCLUDE_DEV_DEPENDENCIES, PropertyAuthority.None);
 
-            String lockText = FileUtils.readFileToString(lockfile, StandardCharsets.UTF_8);
             Optional<String> packageText = Optional.empty();
             if (packageJson.isPresent()) {
                 packageText = Optional.of(FileUtils.readFileToString(packageJson.get(), StandardCharsets.UTF_8));
             }
 
-            final NpmParseResult result = npmLockfileParser.parse(directory.getCanonicalPath(), packageText, lockText, includeDev);
+            final NpmParseResult result;
+            try (Reader lockReader = new BufferedReader(new InputStreamReader(new FileInputStream(lockfile), StandardCharsets.UTF_8))) {
+                result = npmLockfileParser.parse(directory.getCanonicalPath(), packageText, lockReader, includeDev);
+            }
 
             return new Extraction.Builder().success(result.codeLocation).projectName(result.projectName).projectVersion(result.projectVersion).build();
 
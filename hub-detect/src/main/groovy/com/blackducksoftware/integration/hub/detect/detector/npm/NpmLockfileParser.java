@@ -23,6 +23,10 @@
  */
 package com.blackducksoftware.integration.hub.detect.detector.npm;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.util.Optional;
 
 import org.slf4j.Logger;
@@ -30,10 +34,10 @@ import org.slf4j.LoggerFactory;
 
 import com.blackducksoftware.integration.hub.detect.detector.npm.model.NpmDependency;
 import com.blackducksoftware.integration.hub.detect.detector.npm.model.PackageJson;
-import com.blackducksoftware.integration.hub.detect.detector.npm.model.PackageLock;
 import com.blackducksoftware.integration.hub.detect.workflow.codelocation.DetectCodeLocation;
 import com.blackducksoftware.integration.hub.detect.workflow.codelocation.DetectCodeLocationType;
 import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
 import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
 import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
 import com.synopsys.integration.bdio.model.Forge;
@@ -51,31 +55,39 @@ public class NpmLockfileParser {
     }
 
     public NpmParseResult parse(final String sourcePath, final Optional<String> packageJsonText, final String lockFileText, final boolean includeDevDependencies) {
+        try {
+            return parse(sourcePath, packageJsonText, new StringReader(lockFileText), includeDevDependencies);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public NpmParseResult parse(final String sourcePath, final Optional<String> packageJsonText, final Reader lockFileReader, final boolean includeDevDependencies) throws IOException {
         final MutableDependencyGraph dependencyGraph = new MutableMapDependencyGraph();
-        logger.info("Parsing lock file text: ");
-        logger.debug(lockFileText);
+        logger.info("Parsing lock file.");
 
         Optional<PackageJson> packageJson = Optional.empty();
         if (packageJsonText.isPresent()) {
             packageJson = Optional.of(gson.fromJson(packageJsonText.get(), PackageJson.class));
         }
 
-        final PackageLock packageLock = gson.fromJson(lockFileText, PackageLock.class);
+        //Convert to our custom format while reading, the lock file is never held in memory as text or as json
+        final NpmDependencyConverter dependencyConverter = new NpmDependencyConverter(externalIdFactory);
+        final JsonReader jsonReader = new JsonReader(lockFileReader);
+        jsonReader.setLenient(true);
+        final NpmDependency rootDependency = dependencyConverter.convertLockFile(jsonReader, packageJson);
 
         logger.info("Processing project.");
-        if (packageLock.dependencies != null) {
-            logger.info(String.format("Found %d dependencies.", packageLock.dependencies.size()));
-            //Convert to our custom format
-            NpmDependencyConverter dependencyConverter = new NpmDependencyConverter(externalIdFactory);
-            NpmDependency rootDependency = dependencyConverter.convertLockFile(packageLock, packageJson);
+        if (!rootDependency.getDependencies().isEmpty()) {
+            logger.info(String.format("Found %d dependencies.", rootDependency.getDependencies().size()));
             traverse(rootDependency, dependencyGraph, true, includeDevDependencies);
         } else {
             logger.info("Lock file did not have a 'dependencies' section.");
         }
         logger.info("Finished processing.");
-        final ExternalId projectId = externalIdFactory.createNameVersionExternalId(Forge.NPM, packageLock.name, packageLock.version);
+        final ExternalId projectId = externalIdFactory.createNameVersionExternalId(Forge.NPM, rootDependency.getName(), rootDependency.getVersion());
         final DetectCodeLocation codeLocation = new DetectCodeLocation.Builder(DetectCodeLocationType.NPM, sourcePath, projectId, dependencyGraph).build();
-        return new NpmParseResult(packageLock.name, packageLock.version, codeLocation);
+        return new NpmParseResult(rootDependency.getName(), rootDependency.getVersion(), codeLocation);
     }
 
     private void traverse(NpmDependency npmDependency, MutableDependencyGraph dependencyGraph, boolean atRoot, boolean includeDevDependencies) {
@@ -102,17 +114,15 @@ public class NpmLockfileParser {
 
     //returns the first dependency directly under this dependency or under a parent
     private NpmDependency lookupDependency(NpmDependency npmDependency, String name) {
-        for (NpmDependency current : npmDependency.getDependencies()) {
-            if (current.getName().equals(name)) {
-                return current;
+        Optional<NpmDependency> current = Optional.of(npmDependency);
+        while (current.isPresent()) {
+            Optional<NpmDependency> found = current.get().getDependency(name);
+            if (found.isPresent()) {
+                return found.get();
             }
+            current = current.get().getParent();
         }
-
-        if (npmDependency.getParent().isPresent()) {
-            return lookupDependency(npmDependency.getParent().get(), name);
-        } else {
-            return null;
-        }
+        return null;
     }
 
     private boolean shouldInclude(final NpmDependency packageLockDependency, final boolean includeDevDependencies) {
@@ -29,4 +29,5 @@ import java.util.Map;
 public class PackageJson {
     public Map<String, String> dependencies = new HashMap<>();
     public Map<String, String> devDependencies = new HashMap<>();
+    public Map<String, String> optionalDependencies = new HashMap<>();
 }
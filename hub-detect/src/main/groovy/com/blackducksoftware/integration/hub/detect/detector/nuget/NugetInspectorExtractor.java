@@ -24,9 +24,11 @@
 package com.blackducksoftware.integration.hub.detect.detector.nuget;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -101,11 +103,7 @@ public class NugetInspectorExtractor {
 
             final List<File> dependencyNodeFiles = detectFileFinder.findFiles(outputDirectory, INSPECTOR_OUTPUT_PATTERN);
 
-            final List<NugetParseResult> parseResults = new ArrayList<>();
-            for (final File dependencyNodeFile : dependencyNodeFiles) {
-                final NugetParseResult result = nugetInspectorPackager.createDetectCodeLocation(dependencyNodeFile);
-                parseResults.add(result);
-            }
+            final List<NugetParseResult> parseResults = parseInspectionFiles(dependencyNodeFiles);
 
             final List<DetectCodeLocation> codeLocations = parseResults.stream()
                                                                .flatMap(it -> it.codeLocations.stream())
@@ -115,23 +113,7 @@ public class NugetInspectorExtractor {
                 logger.warn("Unable to extract any dependencies from nuget");
             }
 
-            final Map<String, DetectCodeLocation> codeLocationsBySource = new HashMap<>();
-            final DependencyGraphCombiner combiner = new DependencyGraphCombiner();
-
-            codeLocations.stream().forEach(codeLocation -> {
-                final String sourcePathKey = codeLocation.getSourcePath().toLowerCase();
-                if (codeLocationsBySource.containsKey(sourcePathKey)) {
-                    logger.info("Multiple project code locations were generated for: " + targetDirectory.toString());
-                    logger.info("This most likely means the same project exists in multiple solutions.");
-                    logger.info("The code location's dependencies will be combined, in the future they will exist seperately for each solution.");
-                    final DetectCodeLocation destination = codeLocationsBySource.get(sourcePathKey);
-                    combiner.addGraphAsChildrenToRoot((MutableDependencyGraph) destination.getDependencyGraph(), codeLocation.getDependencyGraph());
-                } else {
-                    codeLocationsBySource.put(sourcePathKey, codeLocation);
-                }
-            });
-
-            final List<DetectCodeLocation> uniqueCodeLocations = codeLocationsBySource.values().stream().collect(Collectors.toList());
+            final List<DetectCodeLocation> uniqueCodeLocations = combineCodeLocationsBySource(targetDirectory, codeLocations);
 
             final Extraction.Builder builder = new Extraction.Builder().success(uniqueCodeLocations);
             final Optional<NugetParseResult> project = parseResults.stream().filter(it -> StringUtils.isNotBlank(it.projectName)).findFirst();
@@ -145,4 +127,42 @@ public class NugetInspectorExtractor {
         }
     }
 
+    private List<NugetParseResult> parseInspectionFiles(final List<File> dependencyNodeFiles) throws IOException {
+        try {
+            return dependencyNodeFiles.parallelStream()
+                       .map(dependencyNodeFile -> {
+                           try {
+                               return nugetInspectorPackager.createDetectCodeLocation(dependencyNodeFile);
+                           } catch (final IOException e) {
+                               throw new UncheckedIOException(e);
+                           }
+                       })
+                       .collect(Collectors.toList());
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private List<DetectCodeLocation> combineCodeLocationsBySource(final File targetDirectory, final List<DetectCodeLocation> codeLocations) {
+        // Grouping is cheap, so it stays ordered: the first code location for a source path is always the one the others are combined into.
+        final Map<String, List<DetectCodeLocation>> codeLocationsBySource = codeLocations.stream()
+                                                                              .collect(Collectors.groupingBy(codeLocation -> codeLocation.getSourcePath().toLowerCase(), LinkedHashMap::new, Collectors.toList()));
+
+        return codeLocationsBySource.values().parallelStream()
+                   .map(sourceCodeLocations -> {
+                       final DetectCodeLocation destination = sourceCodeLocations.get(0);
+                       if (sourceCodeLocations.size() > 1) {
+                           logger.info("Multiple project code locations were generated for: " + targetDirectory.toString());
+                           logger.info("This most likely means the same project exists in multiple solutions.");
+                           logger.info("The code location's dependencies will be combined, in the future they will exist seperately for each solution.");
+                           final DependencyGraphCombiner combiner = new DependencyGraphCombiner();
+                           for (final DetectCodeLocation codeLocation : sourceCodeLocations.subList(1, sourceCodeLocations.size())) {
+                               combiner.addGraphAsChildrenToRoot((MutableDependencyGraph) destination.getDependencyGraph(), codeLocation.getDependencyGraph());
+                           }
+                       }
+                       return destination;
+                   })
+                   .collect(Collectors.toList());
+    }
+
 }
@@ -26,8 +26,13 @@ package com.blackducksoftware.integration.hub.detect.detector.nuget;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Optional;
 
+import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -81,7 +86,7 @@ public class NugetInspectorManager {
         this.detectFileFinder = detectFileFinder;
     }
 
-    public NugetInspector findNugetInspector() throws DetectorException {
+    public synchronized NugetInspector findNugetInspector() throws DetectorException {
         try {
             if (!hasResolvedInspector) {
                 hasResolvedInspector = true;
@@ -143,14 +148,13 @@ public class NugetInspectorManager {
                 logger.debug("Resolved the nuget inspector url: " + source.get());
                 String nupkgName = artifactResolver.parseFileName(source.get());
                 logger.debug("Parsed artifact name: " + nupkgName);
-                File nupkgFile = new File(nugetDirectory, nupkgName);
                 String inspectorFolderName = nupkgName.replace(".nupkg", "");
                 File inspectorFolder = new File(nugetDirectory, inspectorFolderName);
                 if (!inspectorFolder.exists()) {
                     logger.info("Downloading nuget inspector.");
-                    artifactResolver.downloadArtifact(nupkgFile, source.get());
+                    File nupkgFile = artifactResolver.downloadOrFindArtifact(source.get());
                     logger.info("Extracting nuget inspector.");
-                    DetectZipUtil.unzip(nupkgFile, inspectorFolder, Charset.defaultCharset());
+                    extractInspector(nupkgFile, nugetDirectory, inspectorFolder);
                 }
                 if (inspectorFolder.exists()) {
                     logger.info("Found nuget inspector folder. Looking for inspector.");
@@ -168,6 +172,20 @@ public class NugetInspectorManager {
         }
     }
 
+    private void extractInspector(File nupkgFile, File nugetDirectory, File inspectorFolder) throws IOException {
+        // Extracted beside the final folder and renamed into place so that an interrupted extraction is never mistaken for an installed inspector.
+        nugetDirectory.mkdirs();
+        File extractionFolder = Files.createTempDirectory(nugetDirectory.toPath(), inspectorFolder.getName()).toFile();
+        try {
+            DetectZipUtil.unzip(nupkgFile, extractionFolder, Charset.defaultCharset());
+            Files.move(extractionFolder.toPath(), inspectorFolder.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException | DirectoryNotEmptyException e) {
+            logger.debug("The nuget inspector was extracted by another invocation of detect: " + inspectorFolder.getAbsolutePath());
+        } finally {
+            FileUtils.deleteQuietly(extractionFolder);
+        }
+    }
+
     private DotNetCoreNugetInspector findDotnetCoreInspector(File nupkgFolder, String dotnetExecutable) throws DetectorException {
         //new inspector
         final String dotnetInspectorName = "BlackduckNugetInspector.dll";
@@ -25,12 +25,13 @@ package com.blackducksoftware.integration.hub.detect.detector.nuget;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import com.blackducksoftware.integration.hub.detect.detector.nuget.model.NugetContainer;
@@ -39,11 +40,15 @@ import com.blackducksoftware.integration.hub.detect.detector.nuget.model.NugetIn
 import com.blackducksoftware.integration.hub.detect.workflow.codelocation.DetectCodeLocation;
 import com.blackducksoftware.integration.hub.detect.workflow.codelocation.DetectCodeLocationType;
 import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 
 public class NugetInspectorPackager {
+    private static final String CONTAINERS_PROPERTY = "Containers";
+
     private final Gson gson;
     private final ExternalIdFactory externalIdFactory;
 
@@ -52,29 +57,49 @@ public class NugetInspectorPackager {
         this.externalIdFactory = externalIdFactory;
     }
 
+    /**
+     * Streams the inspection file so that only one container of the {@link NugetInspection} is held in memory at a time.
+     */
     public NugetParseResult createDetectCodeLocation(final File dependencyNodeFile) throws IOException {
-        final String text = FileUtils.readFileToString(dependencyNodeFile, StandardCharsets.UTF_8);
-        final NugetInspection nugetInspection = gson.fromJson(text, NugetInspection.class);
-
         final List<DetectCodeLocation> codeLocations = new ArrayList<>();
         String projectName = "";
         String projectVersion = "";
-        for (final NugetContainer it : nugetInspection.containers) {
-            final Optional<NugetParseResult> possibleParseResult = createDetectCodeLocationFromNugetContainer(it);
-            if (possibleParseResult.isPresent()) {
-                final NugetParseResult result = possibleParseResult.get();
-                if (StringUtils.isNotBlank(result.projectName)) {
-                    projectName = result.projectName;
-                    projectVersion = result.projectVersion;
+
+        try (final Reader fileReader = Files.newBufferedReader(dependencyNodeFile.toPath(), StandardCharsets.UTF_8); final JsonReader jsonReader = new JsonReader(fileReader)) {
+            jsonReader.setLenient(true);
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                if (!CONTAINERS_PROPERTY.equals(jsonReader.nextName()) || jsonReader.peek() != JsonToken.BEGIN_ARRAY) {
+                    jsonReader.skipValue();
+                    continue;
                 }
-                codeLocations.addAll(result.codeLocations);
+
+                jsonReader.beginArray();
+                while (jsonReader.hasNext()) {
+                    final NugetContainer container = gson.fromJson(jsonReader, NugetContainer.class);
+                    final Optional<NugetParseResult> possibleParseResult = createDetectCodeLocationFromNugetContainer(container);
+                    if (possibleParseResult.isPresent()) {
+                        final NugetParseResult result = possibleParseResult.get();
+                        if (StringUtils.isNotBlank(result.projectName)) {
+                            projectName = result.projectName;
+                            projectVersion = result.projectVersion;
+                        }
+                        codeLocations.addAll(result.codeLocations);
+                    }
+                }
+                jsonReader.endArray();
             }
+            jsonReader.endObject();
         }
 
         return new NugetParseResult(projectName, projectVersion, codeLocations);
     }
 
     private Optional<NugetParseResult> createDetectCodeLocationFromNugetContainer(final NugetContainer nugetContainer) {
+        if (nugetContainer == null) {
+            return Optional.empty();
+        }
+
         final NugetParseResult parseResult;
         String projectName = "";
         String projectVersionName = "";
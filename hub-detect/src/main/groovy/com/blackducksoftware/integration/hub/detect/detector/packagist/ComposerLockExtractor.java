@@ -23,11 +23,13 @@
  */
 package com.blackducksoftware.integration.hub.detect.detector.packagist;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 
-import org.apache.commons.io.FileUtils;
-
 import com.blackducksoftware.integration.hub.detect.workflow.extraction.Extraction;
 
 public class ComposerLockExtractor {
@@ -40,10 +42,11 @@ public class ComposerLockExtractor {
 
     public Extraction extract(final File directory, final File composerJson, final File composerLock) {
         try {
-            final String composerJsonText = FileUtils.readFileToString(composerJson, StandardCharsets.UTF_8);
-            final String composerLockText = FileUtils.readFileToString(composerLock, StandardCharsets.UTF_8);
-
-            final PackagistParseResult result = packagistParser.getDependencyGraphFromProject(directory.toString(), composerJsonText, composerLockText);
+            final PackagistParseResult result;
+            try (Reader composerJsonReader = new BufferedReader(new InputStreamReader(new FileInputStream(composerJson), StandardCharsets.UTF_8));
+                 Reader composerLockReader = new BufferedReader(new InputStreamReader(new FileInputStream(composerLock), StandardCharsets.UTF_8))) {
+                result = packagistParser.getDependencyGraphFromProject(directory.toString(), composerJsonReader, composerLockReader);
+            }
 
             return new Extraction.Builder().success(result.codeLocation).projectName(result.projectName).projectVersion(result.projectVersion).build();
         } catch (final Exception e) {
@@ -23,8 +23,15 @@
  */
 package com.blackducksoftware.integration.hub.detect.detector.packagist;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,9 +41,8 @@ import com.blackducksoftware.integration.hub.detect.configuration.DetectProperty
 import com.blackducksoftware.integration.hub.detect.configuration.PropertyAuthority;
 import com.blackducksoftware.integration.hub.detect.workflow.codelocation.DetectCodeLocation;
 import com.blackducksoftware.integration.hub.detect.workflow.codelocation.DetectCodeLocationType;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.bdio.graph.builder.LazyExternalIdDependencyGraphBuilder;
 import com.synopsys.integration.bdio.model.Forge;
@@ -57,24 +63,33 @@ public class PackagistParser {
     }
 
     public PackagistParseResult getDependencyGraphFromProject(final String sourcePath, final String composerJsonText, final String composerLockText) {
+        try {
+            return getDependencyGraphFromProject(sourcePath, new StringReader(composerJsonText), new StringReader(composerLockText));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public PackagistParseResult getDependencyGraphFromProject(final String sourcePath, final Reader composerJsonReader, final Reader composerLockReader) throws IOException {
         final LazyExternalIdDependencyGraphBuilder builder = new LazyExternalIdDependencyGraphBuilder();
+        final boolean includeDev = detectConfiguration.getBooleanProperty(DetectProperty.DETECT_PACKAGIST_INCLUDE_DEV_DEPENDENCIES, PropertyAuthority.None);
 
-        final JsonObject composerJsonObject = new JsonParser().parse(composerJsonText).getAsJsonObject();
-        final NameVersion projectNameVersion = parseNameVersionFromJson(composerJsonObject);
+        final PackagistPackage project = readPackage(createJsonReader(composerJsonReader), includeDev);
+        final NameVersion projectNameVersion = project.getNameVersion();
 
-        final JsonObject composerLockObject = new JsonParser().parse(composerLockText).getAsJsonObject();
-        final List<PackagistPackage> models = convertJsonToModel(composerLockObject, detectConfiguration.getBooleanProperty(DetectProperty.DETECT_PACKAGIST_INCLUDE_DEV_DEPENDENCIES, PropertyAuthority.None));
-        final List<NameVersion> rootPackages = parseDependencies(composerJsonObject, detectConfiguration.getBooleanProperty(DetectProperty.DETECT_PACKAGIST_INCLUDE_DEV_DEPENDENCIES, PropertyAuthority.None));
+        final List<PackagistPackage> models = readLockPackages(createJsonReader(composerLockReader), includeDev);
+        final Set<String> rootPackageNames = project.getDependencies().stream().map(NameVersion::getName).collect(Collectors.toSet());
+        final Set<String> packageNames = models.stream().map(it -> it.getNameVersion().getName()).collect(Collectors.toCollection(HashSet::new));
 
         models.forEach(it -> {
             final ExternalId id = externalIdFactory.createNameVersionExternalId(Forge.PACKAGIST, it.getNameVersion().getName(), it.getNameVersion().getVersion());
             final NameDependencyId dependencyId = new NameDependencyId(it.getNameVersion().getName());
             builder.setDependencyInfo(dependencyId, it.getNameVersion().getName(), it.getNameVersion().getVersion(), id);
-            if (isRootPackage(it.getNameVersion(), rootPackages)) {
+            if (rootPackageNames.contains(it.getNameVersion().getName())) {
                 builder.addChildToRoot(dependencyId);
             }
             it.getDependencies().forEach(child -> {
-                if (existsInPackages(child, models)) {
+                if (packageNames.contains(child.getName())) {
                     final NameDependencyId childId = new NameDependencyId(child.getName());
                     builder.addChildWithParent(childId, dependencyId);
                 } else {
@@ -96,72 +111,78 @@ public class PackagistParser {
         return new PackagistParseResult(projectNameVersion.getName(), projectNameVersion.getVersion(), codeLocation);
     }
 
-    private NameVersion parseNameVersionFromJson(final JsonObject json) {
-        final JsonElement nameElement = json.get("name");
-        final JsonElement versionElement = json.get("version");
-
-        String name = null;
-        String version = null;
-
-        if (nameElement != null) {
-            name = nameElement.toString().replace("\"", "");
-        }
-        if (versionElement != null) {
-            version = versionElement.toString().replace("\"", "");
-        }
-
-        return new NameVersion(name, version);
-    }
-
-    private boolean isRootPackage(final NameVersion nameVersion, final List<NameVersion> rootPackages) {
-        return rootPackages.stream().anyMatch(it -> it.getName().equals(nameVersion.getName()));
-    }
-
-    private boolean existsInPackages(final NameVersion nameVersion, final List<PackagistPackage> models) {
-        return models.stream().anyMatch(it -> it.getNameVersion().getName().equals(nameVersion.getName()));
+    private JsonReader createJsonReader(final Reader reader) {
+        final JsonReader jsonReader = new JsonReader(reader);
+        jsonReader.setLenient(true);
+        return jsonReader;
     }
 
-    private List<PackagistPackage> convertJsonToModel(final JsonObject lockfile, final boolean checkDev) {
+    // Only the name, version and requirements of each package are kept, the rest of the lock file is skipped as it is read.
+    private List<PackagistPackage> readLockPackages(final JsonReader lockReader, final boolean checkDev) throws IOException {
         final List<PackagistPackage> packages = new ArrayList<>();
-        lockfile.get("packages").getAsJsonArray().forEach(it -> {
-            if (it.isJsonObject()) {
-                final JsonObject itObject = it.getAsJsonObject();
-                final NameVersion nameVersion = parseNameVersionFromJson(itObject);
-                final List<NameVersion> dependencies = parseDependencies(itObject, checkDev);
-                packages.add(new PackagistPackage(nameVersion, dependencies));
+        lockReader.beginObject();
+        while (lockReader.hasNext()) {
+            if ("packages".equals(lockReader.nextName()) && lockReader.peek() == JsonToken.BEGIN_ARRAY) {
+                lockReader.beginArray();
+                while (lockReader.hasNext()) {
+                    if (lockReader.peek() == JsonToken.BEGIN_OBJECT) {
+                        packages.add(readPackage(lockReader, checkDev));
+                    } else {
+                        lockReader.skipValue();
+                    }
+                }
+                lockReader.endArray();
+            } else {
+                lockReader.skipValue();
             }
-        });
+        }
+        lockReader.endObject();
         return packages;
     }
 
-    private List<NameVersion> parseDependencies(final JsonObject packageJson, final boolean checkDev) {
+    private PackagistPackage readPackage(final JsonReader reader, final boolean checkDev) throws IOException {
+        String name = null;
+        String version = null;
         final List<NameVersion> dependencies = new ArrayList<>();
 
-        final JsonElement require = packageJson.get("require");
-        if (require != null && require.isJsonObject()) {
-            dependencies.addAll(parseDependenciesFromRequire(require.getAsJsonObject()));
-        }
-
-        if (checkDev) {
-            final JsonElement devRequire = packageJson.get("require-dev");
-            if (devRequire != null && devRequire.isJsonObject()) {
-                dependencies.addAll(parseDependenciesFromRequire(devRequire.getAsJsonObject()));
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String property = reader.nextName();
+            if ("name".equals(property)) {
+                name = nextStringOrNull(reader);
+            } else if ("version".equals(property)) {
+                version = nextStringOrNull(reader);
+            } else if (("require".equals(property) || (checkDev && "require-dev".equals(property))) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                dependencies.addAll(readRequire(reader));
+            } else {
+                reader.skipValue();
             }
-
         }
+        reader.endObject();
 
-        return dependencies;
+        return new PackagistPackage(new NameVersion(name, version), dependencies);
     }
 
-    private List<NameVersion> parseDependenciesFromRequire(final JsonObject requireObject) {
+    private List<NameVersion> readRequire(final JsonReader reader) throws IOException {
         final List<NameVersion> dependencies = new ArrayList<>();
-        requireObject.entrySet().forEach(it -> {
-            if (!it.getKey().equalsIgnoreCase("php")) {
-                final NameVersion nameVersion = new NameVersion(it.getKey().toString(), it.getValue().toString());
-                dependencies.add(nameVersion);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            final String constraint = nextStringOrNull(reader);
+            if (!name.equalsIgnoreCase("php")) {
+                dependencies.add(new NameVersion(name, constraint));
             }
-        });
+        }
+        reader.endObject();
         return dependencies;
     }
 
+    private String nextStringOrNull(final JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.STRING || reader.peek() == JsonToken.NUMBER) {
+            return reader.nextString();
+        }
+        reader.skipValue();
+        return null;
+    }
+
 }
@@ -24,9 +24,12 @@
 package com.blackducksoftware.integration.hub.detect.detector.pip;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.apache.commons.lang3.StringUtils;
@@ -43,6 +46,7 @@ public class PipInspectorExtractor {
     private final ExecutableRunner executableRunner;
     private final PipInspectorTreeParser pipInspectorTreeParser;
     private final DetectConfiguration detectConfiguration;
+    private final Map<String, PipInspectorSession> sessionsByPython = new HashMap<>();
 
     public PipInspectorExtractor(final ExecutableRunner executableRunner, final PipInspectorTreeParser pipInspectorTreeParser, final DetectConfiguration detectConfiguration) {
         this.executableRunner = executableRunner;
@@ -53,11 +57,16 @@ public class PipInspectorExtractor {
     public Extraction extract(final File directory, final String pythonExe, final File pipInspector, final File setupFile, final String requirementFilePath) {
         Extraction extractionResult;
         try {
-            final String projectName = getProjectName(directory, pythonExe, setupFile);
+            final PipInspectorTreeParser.TreeBuilder treeBuilder = pipInspectorTreeParser.startTree(directory.toString());
             final Optional<PipParseResult> result;
 
-            final List<String> inspectorOutput = runInspector(directory, pythonExe, pipInspector, projectName, requirementFilePath);
-            result = pipInspectorTreeParser.parse(inspectorOutput, directory.toString());
+            if (detectConfiguration.getBooleanProperty(DetectProperty.DETECT_PIP_BATCH, PropertyAuthority.None)) {
+                result = inspectInSession(directory, pythonExe, pipInspector, setupFile, requirementFilePath, treeBuilder);
+            } else {
+                final String projectName = getProjectName(directory, pythonExe, setupFile);
+                runInspector(directory, pythonExe, pipInspector, projectName, requirementFilePath, treeBuilder);
+                result = treeBuilder.build();
+            }
 
             if (!result.isPresent()) {
                 extractionResult = new Extraction.Builder().failure("The Pip Inspector tree parser failed to produce output").build();
@@ -71,7 +80,46 @@ public class PipInspectorExtractor {
         return extractionResult;
     }
 
-    private List<String> runInspector(final File sourceDirectory, final String pythonPath, final File inspectorScript, final String projectName, final String requirementsFilePath) throws ExecutableRunnerException {
+    private Optional<PipParseResult> inspectInSession(final File directory, final String pythonExe, final File pipInspector, final File setupFile, final String requirementFilePath,
+        final PipInspectorTreeParser.TreeBuilder treeBuilder) throws IOException {
+        // When no name is configured the inspector reads it from setup.py itself
+        final String projectName = detectConfiguration.getProperty(DetectProperty.DETECT_PIP_PROJECT_NAME, PropertyAuthority.None);
+        final PipInspectorSession session = getSession(directory, pythonExe, pipInspector);
+
+        try {
+            return session.inspect(treeBuilder, directory, StringUtils.trimToNull(projectName), setupFile, requirementFilePath);
+        } catch (final IOException e) {
+            closeSession(pythonExe, session);
+            throw e;
+        }
+    }
+
+    private synchronized PipInspectorSession getSession(final File directory, final String pythonExe, final File pipInspector) throws IOException {
+        PipInspectorSession session = sessionsByPython.get(pythonExe);
+
+        if (session == null || !session.isAlive()) {
+            session = new PipInspectorSession(directory, pythonExe, pipInspector);
+            sessionsByPython.put(pythonExe, session);
+        }
+
+        return session;
+    }
+
+    private synchronized void closeSession(final String pythonExe, final PipInspectorSession session) {
+        sessionsByPython.remove(pythonExe, session);
+        session.close();
+    }
+
+    /**
+     * Ends every batch session, the next batch extraction starts a new one.
+     */
+    public synchronized void closeSessions() {
+        sessionsByPython.values().forEach(PipInspectorSession::close);
+        sessionsByPython.clear();
+    }
+
+    private void runInspector(final File sourceDirectory, final String pythonPath, final File inspectorScript, final String projectName, final String requirementsFilePath,
+        final PipInspectorTreeParser.TreeBuilder treeBuilder) throws ExecutableRunnerException {
         final List<String> inspectorArguments = new ArrayList<>();
         inspectorArguments.add(inspectorScript.getAbsolutePath());
 
@@ -85,7 +133,7 @@ public class PipInspectorExtractor {
         }
 
         final Executable pipInspector = new Executable(sourceDirectory, pythonPath, inspectorArguments);
-        return executableRunner.execute(pipInspector).getStandardOutputAsList();
+        executableRunner.executeStreaming(pipInspector, treeBuilder::addLine);
     }
 
     private String getProjectName(final File directory, final String pythonExe, final File setupFile) throws ExecutableRunnerException {
@@ -47,7 +47,7 @@ public class PipInspectorManager {
         this.directoryManager = directoryManager;
     }
 
-    public File findPipInspector(final DetectorEnvironment environment) throws DetectorException {
+    public synchronized File findPipInspector(final DetectorEnvironment environment) throws DetectorException {
         try {
             if (!hasResolvedInspector) {
                 hasResolvedInspector = true;
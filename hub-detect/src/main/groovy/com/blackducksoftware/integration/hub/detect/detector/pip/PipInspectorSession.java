@@ -0,0 +1,124 @@
+/**
+ * hub-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.blackducksoftware.integration.hub.detect.detector.pip;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.blackducksoftware.integration.hub.detect.util.executable.Executable;
+import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableStreamThread;
+
+/**
+ * A single pip inspector process that answers many inspection requests over standard input, so the interpreter only starts once.
+ * The process exits when its standard input is closed, either by close or when detect itself exits.
+ */
+public class PipInspectorSession implements Closeable {
+    private static final String FIELD_SEPARATOR = "\t";
+    private static final long EXIT_TIMEOUT_SECONDS = 10;
+
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final Process process;
+    private final BufferedWriter requestWriter;
+    private final BufferedReader treeReader;
+
+    public PipInspectorSession(final File workingDirectory, final String pythonExe, final File inspectorScript) throws IOException {
+        final Executable executable = new Executable(workingDirectory, pythonExe, Arrays.asList(inspectorScript.getAbsolutePath(), "--batch"));
+        logger.info(String.format("Starting pip inspector session >%s", executable.getMaskedExecutableDescription()));
+
+        process = executable.createProcessBuilder().start();
+        requestWriter = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+        treeReader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+
+        final ExecutableStreamThread errorOutputThread = new ExecutableStreamThread(process.getErrorStream(), logger::debug, logger::trace, logger::trace);
+        errorOutputThread.setDaemon(true);
+        errorOutputThread.start();
+    }
+
+    public synchronized Optional<PipParseResult> inspect(final PipInspectorTreeParser.TreeBuilder treeBuilder, final File directory, final String projectName, final File setupFile, final String requirementsFilePath)
+        throws IOException {
+        final String setupFilePath = setupFile != null && setupFile.exists() ? setupFile.getAbsolutePath() : null;
+        final String requirementsPath = StringUtils.isNotBlank(requirementsFilePath) ? new File(requirementsFilePath).getAbsolutePath() : null;
+
+        // Every field is checked before anything is written so a rejected value can not leave half a request for the next one
+        final String request = String.join(FIELD_SEPARATOR, toField(directory.getAbsolutePath()), toField(projectName), toField(setupFilePath), toField(requirementsPath));
+        requestWriter.write(request);
+        requestWriter.newLine();
+        requestWriter.flush();
+
+        String line;
+        while ((line = treeReader.readLine()) != null) {
+            if (PipInspectorTreeParser.END_OF_TREE.equals(line.trim())) {
+                return treeBuilder.build();
+            }
+            logger.info(line);
+            treeBuilder.addLine(line);
+        }
+
+        throw new IOException(String.format("The pip inspector exited before it finished inspecting %s", directory.getAbsolutePath()));
+    }
+
+    public boolean isAlive() {
+        return process.isAlive();
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            requestWriter.close();
+            if (!process.waitFor(EXIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroy();
+            }
+        } catch (final IOException e) {
+            logger.debug("Failed to close the pip inspector session", e);
+            process.destroy();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            process.destroy();
+        }
+    }
+
+    private String toField(final String value) throws IOException {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(FIELD_SEPARATOR) || value.contains("\n") || value.contains("\r")) {
+            throw new IOException(String.format("The pip inspector session can not be given the value '%s' because it contains a tab or line break", value));
+        }
+        return value;
+    }
+}
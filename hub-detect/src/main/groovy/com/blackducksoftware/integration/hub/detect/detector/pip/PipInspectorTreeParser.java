@@ -50,6 +50,7 @@ public class PipInspectorTreeParser {
     public static final String UNPARSEABLE_REQUIREMENTS_PREFIX = "p?";
     public static final String UNKNOWN_PACKAGE_PREFIX = "--";
     public static final String INDENTATION = "    ";
+    public static final String END_OF_TREE = "e?";
 
     private final ExternalIdFactory externalIdFactory;
 
@@ -58,18 +59,35 @@ public class PipInspectorTreeParser {
     }
 
     public Optional<PipParseResult> parse(final List<String> pipInspectorOutputAsList, final String sourcePath) {
-        PipParseResult parseResult = null;
+        final TreeBuilder treeBuilder = startTree(sourcePath);
+        pipInspectorOutputAsList.forEach(treeBuilder::addLine);
 
-        final MutableDependencyGraph graph = new MutableMapDependencyGraph();
-        final DependencyHistory history = new DependencyHistory();
-        Dependency project = null;
+        return treeBuilder.build();
+    }
+
+    /**
+     * Parses the inspector output one line at a time so the output can be consumed while the inspector is still writing it.
+     */
+    public TreeBuilder startTree(final String sourcePath) {
+        return new TreeBuilder(sourcePath);
+    }
+
+    public class TreeBuilder {
+        private final String sourcePath;
+        private final MutableDependencyGraph graph = new MutableMapDependencyGraph();
+        private final DependencyHistory history = new DependencyHistory();
+        private Dependency project = null;
+
+        private TreeBuilder(final String sourcePath) {
+            this.sourcePath = sourcePath;
+        }
 
-        for (final String line : pipInspectorOutputAsList) {
+        public void addLine(final String line) {
             final String trimmedLine = StringUtils.trimToEmpty(line);
             if (StringUtils.isEmpty(trimmedLine) || !trimmedLine.contains(SEPARATOR) || trimmedLine.startsWith(UNKNOWN_REQUIREMENTS_PREFIX) || trimmedLine.startsWith(UNPARSEABLE_REQUIREMENTS_PREFIX) || trimmedLine.startsWith(
                 UNKNOWN_PACKAGE_PREFIX)) {
                 parseErrorsFromLine(trimmedLine);
-                continue;
+                return;
             }
 
             final Dependency currentDependency = parseDependencyFromLine(trimmedLine, sourcePath);
@@ -93,12 +111,16 @@ public class PipInspectorTreeParser {
             history.add(currentDependency);
         }
 
-        if (project != null) {
-            final DetectCodeLocation codeLocation = new DetectCodeLocation.Builder(DetectCodeLocationType.PIP, sourcePath, project.externalId, graph).build();
-            parseResult = new PipParseResult(project.name, project.version, codeLocation);
-        }
+        public Optional<PipParseResult> build() {
+            PipParseResult parseResult = null;
 
-        return Optional.ofNullable(parseResult);
+            if (project != null) {
+                final DetectCodeLocation codeLocation = new DetectCodeLocation.Builder(DetectCodeLocationType.PIP, sourcePath, project.externalId, graph).build();
+                parseResult = new PipParseResult(project.name, project.version, codeLocation);
+            }
+
+            return Optional.ofNullable(parseResult);
+        }
     }
 
     private void parseErrorsFromLine(final String trimmedLine) {
@@ -23,10 +23,10 @@
  */
 package com.blackducksoftware.integration.hub.detect.detector.rubygems;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import java.util.List;
 
 import com.blackducksoftware.integration.hub.detect.workflow.codelocation.DetectCodeLocation;
 import com.blackducksoftware.integration.hub.detect.workflow.codelocation.DetectCodeLocationType;
@@ -45,10 +45,11 @@ public class GemlockExtractor {
 
     public Extraction extract(final File directory, final File gemlock) {
         try {
-            final List<String> gemlockText = Files.readAllLines(gemlock.toPath(), StandardCharsets.UTF_8);
-
             final GemlockParser gemlockParser = new GemlockParser(externalIdFactory);
-            final DependencyGraph dependencyGraph = gemlockParser.parseProjectDependencies(gemlockText);
+            final DependencyGraph dependencyGraph;
+            try (BufferedReader gemlockReader = Files.newBufferedReader(gemlock.toPath(), StandardCharsets.UTF_8)) {
+                dependencyGraph = gemlockParser.parseProjectDependencies(gemlockReader);
+            }
             final ExternalId externalId = externalIdFactory.createPathExternalId(Forge.RUBYGEMS, directory.toString());
 
             final DetectCodeLocation codeLocation = new DetectCodeLocation.Builder(DetectCodeLocationType.RUBYGEMS, directory.toString(), externalId, dependencyGraph).build();
@@ -28,10 +28,15 @@ import static com.blackducksoftware.integration.hub.detect.detector.rubygems.Gem
 import static com.blackducksoftware.integration.hub.detect.detector.rubygems.GemlockParser.GemfileLockSection.NONE;
 import static com.blackducksoftware.integration.hub.detect.detector.rubygems.GemlockParser.GemfileLockSection.SPECS;
 
-import java.util.ArrayList;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -57,7 +62,7 @@ public class GemlockParser {
 
     public static final String VERSION_CHARACTERS = "()<>=~";
     public static final String FUZZY_VERSION_CHARACTERS = "<>";
-    public static final String VERSION_PREFIX_PATTERN = " \\(";
+    public static final String VERSION_PREFIX = " (";
     public static final String VERSION_SUFFIX = ")";
 
     private final Logger logger = LoggerFactory.getLogger(GemlockParser.class);
@@ -68,43 +73,67 @@ public class GemlockParser {
 
     private GemfileLockSection currentSection = NONE;
 
-    private List<String> encounteredDependencies = new ArrayList<>();
-    private List<String> resolvedDependencies = new ArrayList<>();
+    private Set<String> encounteredDependencies = new LinkedHashSet<>();
+    private Set<String> resolvedDependencies = new HashSet<>();
+    private Map<String, NameDependencyId> nameDependencyIds = new HashMap<>();
 
     public GemlockParser(final ExternalIdFactory externalIdFactory) {
         this.externalIdFactory = externalIdFactory;
     }
 
     public DependencyGraph parseProjectDependencies(final List<String> gemfileLockLines) {
-        encounteredDependencies = new ArrayList<>();
-        resolvedDependencies = new ArrayList<>();
+        startParsing();
+        for (final String line : gemfileLockLines) {
+            parseLine(line);
+        }
+        return finishParsing();
+    }
+
+    public DependencyGraph parseProjectDependencies(final BufferedReader gemfileLockReader) throws IOException {
+        startParsing();
+        String line;
+        while ((line = gemfileLockReader.readLine()) != null) {
+            parseLine(line);
+        }
+        return finishParsing();
+    }
+
+    private void startParsing() {
+        encounteredDependencies = new LinkedHashSet<>();
+        resolvedDependencies = new HashSet<>();
+        nameDependencyIds = new HashMap<>();
         lazyBuilder = new LazyExternalIdDependencyGraphBuilder();
         currentParent = null;
+        currentSection = NONE;
+    }
 
-        for (final String line : gemfileLockLines) {
-            final String trimmedLine = StringUtils.trimToEmpty(line);
-
-            if (StringUtils.isBlank(trimmedLine)) {
-                currentSection = NONE;
-            } else if (SPECS_HEADER.equals(trimmedLine)) {
-                currentSection = SPECS;
-            } else if (DEPENDENCIES_HEADER.equals(trimmedLine)) {
-                currentSection = DEPENDENCIES;
-            } else if (BUNDLED_WITH_HEADER.equals(trimmedLine)) {
-                currentSection = BUNDLED_WITH;
-            } else if (BUNDLED_WITH.equals(currentSection)) {
-                addBundlerDependency(trimmedLine);
-            } else if (SPECS.equals(currentSection)) {
-                parseSpecsSectionLine(line);
-            } else if (DEPENDENCIES.equals(currentSection)) {
-                parseDependencySectionLine(trimmedLine);
-            }
+    private void parseLine(final String line) {
+        final String trimmedLine = StringUtils.trimToEmpty(line);
+
+        if (StringUtils.isBlank(trimmedLine)) {
+            currentSection = NONE;
+        } else if (SPECS_HEADER.equals(trimmedLine)) {
+            currentSection = SPECS;
+        } else if (DEPENDENCIES_HEADER.equals(trimmedLine)) {
+            currentSection = DEPENDENCIES;
+        } else if (BUNDLED_WITH_HEADER.equals(trimmedLine)) {
+            currentSection = BUNDLED_WITH;
+        } else if (BUNDLED_WITH.equals(currentSection)) {
+            addBundlerDependency(trimmedLine);
+        } else if (SPECS.equals(currentSection)) {
+            parseSpecsSectionLine(line);
+        } else if (DEPENDENCIES.equals(currentSection)) {
+            parseDependencySectionLine(trimmedLine);
         }
+    }
 
-        List<String> missingDependencies = encounteredDependencies.stream().filter(it -> !resolvedDependencies.contains(it)).collect(Collectors.toList());
-        for (final String missingName : missingDependencies) {
+    private DependencyGraph finishParsing() {
+        for (final String missingName : encounteredDependencies) {
+            if (resolvedDependencies.contains(missingName)) {
+                continue;
+            }
             String missingVersion = "";
-            final DependencyId dependencyId = new NameDependencyId(missingName);
+            final DependencyId dependencyId = nameDependencyId(missingName);
             final ExternalId externalId = externalIdFactory.createNameVersionExternalId(Forge.RUBYGEMS, missingName, missingVersion);
             lazyBuilder.setDependencyInfo(dependencyId, missingName, missingVersion, externalId);
         }
@@ -112,19 +141,23 @@ public class GemlockParser {
         return lazyBuilder.build();
     }
 
+    // Every reference to a gem by name shares one id, a lock file mentions popular gems once per dependent.
+    private NameDependencyId nameDependencyId(final String name) {
+        return nameDependencyIds.computeIfAbsent(name, NameDependencyId::new);
+    }
+
     private void encounteredDependency(String name) {
         encounteredDependencies.add(name);
     }
 
     private void discoveredDependencyInfo(final NameVersionDependencyId id) {
-        NameDependencyId nameOnlyId = new NameDependencyId(id.name);
+        NameDependencyId nameOnlyId = nameDependencyId(id.name);
 
         //regardless we found the external id for this specific dependency.
         final ExternalId externalId = externalIdFactory.createNameVersionExternalId(Forge.RUBYGEMS, id.name, id.version);
         lazyBuilder.setDependencyInfo(id, id.name, id.version, externalId);
 
-        if (!resolvedDependencies.contains(id.name)) { //if this is our first time encountering a dependency of this name, we become the 'version-less'
-            resolvedDependencies.add(id.name);
+        if (resolvedDependencies.add(id.name)) { //if this is our first time encountering a dependency of this name, we become the 'version-less'
             lazyBuilder.setDependencyInfo(nameOnlyId, id.name, id.version, externalId);
         } else {//otherwise, add us as a child to the version-less
             lazyBuilder.addChildWithParent(id, nameOnlyId);
@@ -160,7 +193,7 @@ public class GemlockParser {
     private void parseSpecPackageLine(final String trimmedLine) {
         final NameVersion parentNameVersion = parseNameVersion(trimmedLine);
         if (StringUtils.isNotBlank(parentNameVersion.getVersion())) {
-            currentParent = new NameDependencyId(parentNameVersion.getName());
+            currentParent = nameDependencyId(parentNameVersion.getName());
             discoveredDependencyInfo(new NameVersionDependencyId(parentNameVersion.getName(), parentNameVersion.getVersion()));
         } else {
             logger.error(String.format("An installed spec did not have a non-fuzzy version: %s", trimmedLine));
@@ -170,7 +203,7 @@ public class GemlockParser {
     //If you have Version, you know everything. Otherwise, you need to find this version later.
     //Generally each parse/process call should either call this or add to encountered.
     private DependencyId processNameVersion(NameVersion nameVersion) {
-        NameDependencyId nameDependencyId = new NameDependencyId(nameVersion.getName());
+        NameDependencyId nameDependencyId = nameDependencyId(nameVersion.getName());
         if (StringUtils.isNotBlank(nameVersion.getVersion())) {
             NameVersionDependencyId nameVersionDependencyId = new NameVersionDependencyId(nameVersion.getName(), nameVersion.getVersion());
             discoveredDependencyInfo(nameVersionDependencyId);
@@ -191,12 +224,14 @@ public class GemlockParser {
     }
 
     private NameVersion parseNameVersion(final String trimmedLine) {
-        final String[] pieces = trimmedLine.split(VERSION_PREFIX_PATTERN);
-        String name = pieces[0].trim();
+        final int versionStart = trimmedLine.indexOf(VERSION_PREFIX);
+        String name = (versionStart < 0 ? trimmedLine : trimmedLine.substring(0, versionStart)).trim();
         String version = "";
 
-        if (pieces.length > 1) {
-            final Optional<String> validVersion = parseValidVersion(pieces[1].trim());
+        if (versionStart >= 0) {
+            final int versionEnd = trimmedLine.indexOf(VERSION_PREFIX, versionStart + VERSION_PREFIX.length());
+            final String versionPiece = versionEnd < 0 ? trimmedLine.substring(versionStart + VERSION_PREFIX.length()) : trimmedLine.substring(versionStart + VERSION_PREFIX.length(), versionEnd);
+            final Optional<String> validVersion = parseValidVersion(versionPiece.trim());
             version = validVersion.orElse("");
         }
 
@@ -25,20 +25,17 @@ package com.blackducksoftware.integration.hub.detect.detector.sbt;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
-import org.xml.sax.SAXException;
 
 import com.blackducksoftware.integration.hub.detect.detector.DetectorType;
 import com.blackducksoftware.integration.hub.detect.workflow.file.DetectFileFinder;
@@ -64,7 +61,7 @@ public class SbtPackager {
         this.detectFileFinder = detectFileFinder;
     }
 
-    public SbtProject extractProject(final String path, final int depth, final String included, final String excluded) throws IOException, SAXException, ParserConfigurationException {
+    public SbtProject extractProject(final String path, final int depth, final String included, final String excluded) throws IOException {
         final List<SbtDependencyModule> rawModules = extractModules(path, depth, included, excluded);
         final List<SbtDependencyModule> modules = rawModules.stream().filter(it -> it.graph != null).collect(Collectors.toList());
         final int skipped = rawModules.size() - modules.size();
@@ -112,7 +109,7 @@ public class SbtPackager {
         return version;
     }
 
-    private List<SbtDependencyModule> extractModules(final String path, final int depth, final String included, final String excluded) throws IOException, SAXException, ParserConfigurationException {
+    private List<SbtDependencyModule> extractModules(final String path, final int depth, final String included, final String excluded) throws IOException {
         final List<File> sbtFiles = detectFileFinder.findFilesToDepth(path, BUILD_SBT_FILENAME, depth);
         final List<File> resolutionCaches = detectFileFinder.findDirectoriesContainingDirectoriesToDepth(path, RESOLUTION_CACHE_DIRECTORY, depth);
 
@@ -120,7 +117,7 @@ public class SbtPackager {
         logger.info(String.format("Found %s resolution caches.", resolutionCaches.size()));
 
         final List<SbtDependencyModule> modules = new ArrayList<>();
-        final List<String> usedReports = new ArrayList<>();
+        final Set<String> usedReports = new HashSet<>();
 
         for (final File sbtFile : sbtFiles) {
             logger.debug(String.format("Found SBT build file: %s", sbtFile.getCanonicalPath()));
@@ -166,8 +163,8 @@ public class SbtPackager {
         return file.getCanonicalPath().startsWith(projectPath.getCanonicalPath());
     }
 
-    private List<SbtDependencyModule> extractReportModules(final String path, final File reportPath, final File source, final String included, final String excluded, final List<String> usedReports)
-        throws IOException, SAXException, ParserConfigurationException {
+    private List<SbtDependencyModule> extractReportModules(final String path, final File reportPath, final File source, final String included, final String excluded, final Set<String> usedReports)
+        throws IOException {
         final List<SbtDependencyModule> modules = new ArrayList<>();
         final String canonical = reportPath.getCanonicalPath();
         if (usedReports.contains(canonical)) {
@@ -200,22 +197,20 @@ public class SbtPackager {
         return modules;
     }
 
-    private List<SbtDependencyModule> makeModuleAggregate(final List<File> reportFiles, final String include, final String exclude) throws SAXException, IOException, ParserConfigurationException {
-        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        final DocumentBuilder builder = factory.newDocumentBuilder();
-
+    private List<SbtDependencyModule> makeModuleAggregate(final List<File> reportFiles, final String include, final String exclude) throws IOException {
         final SbtReportParser parser = new SbtReportParser();
         final SbtDependencyResolver resolver = new SbtDependencyResolver(externalIdFactory);
         final ExcludedIncludedFilter filter = new ExcludedIncludedFilter(exclude, include);
         final SbtModuleAggregator aggregator = new SbtModuleAggregator();
 
-        final List<SbtDependencyModule> modules = new ArrayList<>();
-        for (final File reportFile : reportFiles) {
-            final Document xml = builder.parse(reportFile);
-            logger.debug(String.format("Parsing SBT report file: %s", reportFile.getCanonicalPath()));
-            final SbtReport report = parser.parseReportFromXml(xml);
-            final SbtDependencyModule tree = resolver.resolveReport(report);
-            modules.add(tree);
+        // Reports are independent of each other, so they are parsed and resolved in parallel
+        final List<SbtDependencyModule> modules;
+        try {
+            modules = reportFiles.parallelStream()
+                          .map(reportFile -> parseReportModule(parser, resolver, reportFile))
+                          .collect(Collectors.toList());
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
         }
 
         final List<SbtDependencyModule> includedModules = modules.stream().filter(module -> filter.shouldInclude(module.configuration)).collect(Collectors.toList());
@@ -231,4 +226,14 @@ public class SbtPackager {
         return aggregator.aggregateModules(includedModules);
     }
 
+    private SbtDependencyModule parseReportModule(final SbtReportParser parser, final SbtDependencyResolver resolver, final File reportFile) {
+        try {
+            logger.debug(String.format("Parsing SBT report file: %s", reportFile.getCanonicalPath()));
+            final SbtReport report = parser.parseReport(reportFile);
+            return resolver.resolveReport(report);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
 }
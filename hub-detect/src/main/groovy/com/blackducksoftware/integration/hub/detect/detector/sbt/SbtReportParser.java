@@ -23,14 +23,21 @@
  */
 package com.blackducksoftware.integration.hub.detect.detector.sbt;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
-import org.w3c.dom.Document;
-import org.w3c.dom.Node;
-
-import com.blackducksoftware.integration.hub.detect.util.XmlUtil;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
+/**
+ * Reads an ivy report element by element rather than loading it into a document, only the report's info and its dependency modules, revisions and callers are kept.
+ */
 public class SbtReportParser {
     private static final String IVY_REPORT_NODE_KEY = "ivy-report";
     private static final String INFO_NODE_KEY = "info";
@@ -43,46 +50,93 @@ public class SbtReportParser {
     private static final String CALLER_NODE_KEY = "caller";
     private static final String CALLER_REVISION_NODE_KEY = "callerrev";
 
-    public SbtReport parseReportFromXml(final Document xmlReport) {
-        final Node ivyReport = XmlUtil.getNode(IVY_REPORT_NODE_KEY, xmlReport);
-        final Node infoNode = XmlUtil.getNode(INFO_NODE_KEY, ivyReport);
-        final Node dependenciesNode = XmlUtil.getNode(DEPENDENCIES_NODE_KEY, ivyReport);
-        final List<Node> xmlModules = XmlUtil.getNodeList(MODULE_NODE_KEY, dependenciesNode);
+    // Element depths within a report: ivy-report > dependencies > module > revision > caller
+    private static final int IVY_REPORT_DEPTH = 1;
+    private static final int REPORT_CHILD_DEPTH = 2;
+    private static final int MODULE_DEPTH = 3;
+    private static final int REVISION_DEPTH = 4;
+    private static final int CALLER_DEPTH = 5;
 
-        final String organisation = XmlUtil.getAttribute(ORGANISATION_NODE_KEY, infoNode);
-        final String module = XmlUtil.getAttribute(MODULE_NODE_KEY, infoNode);
-        final String revision = XmlUtil.getAttribute(REVISION_NODE_KEY, infoNode);
-        final String configuration = XmlUtil.getAttribute(CONFIGURATION_NODE_KEY, infoNode);
-        final List<SbtModule> dependencies = xmlModules.stream().map(this::createModule).collect(Collectors.toList());
+    private final XMLInputFactory xmlInputFactory;
 
-        return new SbtReport(organisation, module, revision, configuration, dependencies);
+    public SbtReportParser() {
+        xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
     }
 
-    private SbtModule createModule(final Node xmlModule) {
-        final List<Node> xmlRevisions = XmlUtil.getNodeList(REVISION_NODE_KEY, xmlModule);
-
-        final String name = XmlUtil.getAttribute(NAME_NODE_KEY, xmlModule);
-        final String organisation = XmlUtil.getAttribute(ORGANISATION_NODE_KEY, xmlModule);
-        final List<SbtRevision> revisions = xmlRevisions.stream().map(this::createRevision).collect(Collectors.toList());
-
-        return new SbtModule(organisation, name, revisions);
+    public SbtReport parseReport(final File reportFile) throws IOException {
+        try (InputStream reportInputStream = Files.newInputStream(reportFile.toPath())) {
+            final XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(reportInputStream);
+            try {
+                return parseReport(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (final XMLStreamException e) {
+            throw new IOException(String.format("Unable to parse sbt report %s: %s", reportFile.getAbsolutePath(), e.getMessage()), e);
+        }
     }
 
-    private SbtRevision createRevision(final Node xmlRevision) {
-        final List<Node> xmlCallers = XmlUtil.getNodeList(CALLER_NODE_KEY, xmlRevision);
+    private SbtReport parseReport(final XMLStreamReader reader) throws XMLStreamException {
+        String organisation = null;
+        String module = null;
+        String revision = null;
+        String configuration = null;
+        final List<SbtModule> dependencies = new ArrayList<>();
+
+        boolean inIvyReport = false;
+        boolean inDependencies = false;
+        String moduleOrganisation = null;
+        String moduleName = null;
+        List<SbtRevision> moduleRevisions = null;
+        String revisionName = null;
+        List<SbtCaller> revisionCallers = null;
+
+        int depth = 0;
+        while (reader.hasNext()) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+                final String elementName = reader.getLocalName();
+                if (depth == IVY_REPORT_DEPTH) {
+                    inIvyReport = IVY_REPORT_NODE_KEY.equals(elementName);
+                } else if (depth == REPORT_CHILD_DEPTH && inIvyReport) {
+                    if (INFO_NODE_KEY.equals(elementName) && module == null) {
+                        organisation = reader.getAttributeValue(null, ORGANISATION_NODE_KEY);
+                        module = reader.getAttributeValue(null, MODULE_NODE_KEY);
+                        revision = reader.getAttributeValue(null, REVISION_NODE_KEY);
+                        configuration = reader.getAttributeValue(null, CONFIGURATION_NODE_KEY);
+                    }
+                    inDependencies = DEPENDENCIES_NODE_KEY.equals(elementName);
+                } else if (depth == MODULE_DEPTH && inDependencies && MODULE_NODE_KEY.equals(elementName)) {
+                    moduleOrganisation = reader.getAttributeValue(null, ORGANISATION_NODE_KEY);
+                    moduleName = reader.getAttributeValue(null, NAME_NODE_KEY);
+                    moduleRevisions = new ArrayList<>();
+                } else if (depth == REVISION_DEPTH && moduleRevisions != null && REVISION_NODE_KEY.equals(elementName)) {
+                    revisionName = reader.getAttributeValue(null, NAME_NODE_KEY);
+                    revisionCallers = new ArrayList<>();
+                } else if (depth == CALLER_DEPTH && revisionCallers != null && CALLER_NODE_KEY.equals(elementName)) {
+                    final String callerOrganisation = reader.getAttributeValue(null, ORGANISATION_NODE_KEY);
+                    final String callerName = reader.getAttributeValue(null, NAME_NODE_KEY);
+                    final String callerRevision = reader.getAttributeValue(null, CALLER_REVISION_NODE_KEY);
+                    revisionCallers.add(new SbtCaller(callerOrganisation, callerName, callerRevision));
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                if (depth == REVISION_DEPTH && revisionCallers != null) {
+                    moduleRevisions.add(new SbtRevision(revisionName, revisionCallers));
+                    revisionCallers = null;
+                } else if (depth == MODULE_DEPTH && moduleRevisions != null) {
+                    dependencies.add(new SbtModule(moduleOrganisation, moduleName, moduleRevisions));
+                    moduleRevisions = null;
+                } else if (depth == REPORT_CHILD_DEPTH) {
+                    inDependencies = false;
+                }
+                depth--;
+            }
+        }
 
-        final String name = XmlUtil.getAttribute(NAME_NODE_KEY, xmlRevision);
-        final List<SbtCaller> callers = xmlCallers.stream().map(this::createCaller).collect(Collectors.toList());
-
-        return new SbtRevision(name, callers);
-    }
-
-    private SbtCaller createCaller(final Node xmlCaller) {
-        final String organisation = XmlUtil.getAttribute(ORGANISATION_NODE_KEY, xmlCaller);
-        final String name = XmlUtil.getAttribute(NAME_NODE_KEY, xmlCaller);
-        final String revision = XmlUtil.getAttribute(CALLER_REVISION_NODE_KEY, xmlCaller);
-
-        return new SbtCaller(organisation, name, revision);
+        return new SbtReport(organisation, module, revision, configuration, dependencies);
     }
 
 }
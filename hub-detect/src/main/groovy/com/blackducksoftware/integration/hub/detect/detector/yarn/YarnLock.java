@@ -0,0 +1,50 @@
+/**
+ * hub-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.blackducksoftware.integration.hub.detect.detector.yarn;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The entries of a yarn.lock indexed by every fuzzy id (such as 'debug@^2.2.0') that resolves to them.
+ */
+public class YarnLock {
+    private final Map<String, YarnLockEntry> entriesByFuzzyId;
+
+    public YarnLock(final Map<String, YarnLockEntry> entriesByFuzzyId) {
+        this.entriesByFuzzyId = entriesByFuzzyId;
+    }
+
+    public Optional<YarnLockEntry> findEntry(final String fuzzyId) {
+        return Optional.ofNullable(entriesByFuzzyId.get(fuzzyId));
+    }
+
+    public Optional<String> findResolvedVersion(final String fuzzyId) {
+        return findEntry(fuzzyId).map(YarnLockEntry::getVersion);
+    }
+
+    public Map<String, YarnLockEntry> getEntriesByFuzzyId() {
+        return entriesByFuzzyId;
+    }
+}
@@ -43,12 +43,14 @@ import com.blackducksoftware.integration.hub.detect.workflow.search.result.Passe
 
 public class YarnLockDetector extends Detector {
     private static final String YARN_LOCK_FILENAME = "yarn.lock";
+    private static final String PACKAGE_JSON_FILENAME = "package.json";
 
     private final DetectFileFinder fileFinder;
     private final CacheableExecutableFinder cacheableExecutableFinder;
     private final YarnLockExtractor yarnLockExtractor;
 
     private File yarnlock;
+    private File packageJson;
     private String yarnExe = "";
 
     public YarnLockDetector(final DetectorEnvironment environment, final DetectFileFinder fileFinder, final CacheableExecutableFinder cacheableExecutableFinder, final YarnLockExtractor yarnLockExtractor) {
@@ -64,6 +66,7 @@ public class YarnLockDetector extends Detector {
         if (yarnlock == null) {
             return new FileNotFoundDetectorResult(YARN_LOCK_FILENAME);
         }
+        packageJson = fileFinder.findFile(environment.getDirectory(), PACKAGE_JSON_FILENAME);
 
         return new PassedDetectorResult();
     }
@@ -75,7 +78,8 @@ public class YarnLockDetector extends Detector {
             yarnExe = yarn.toString();
         }
 
-        if (StringUtils.isBlank(yarnExe)) {
+        // With a package.json the graph is built from the lock file alone, yarn is only needed for workspaces.
+        if (StringUtils.isBlank(yarnExe) && packageJson == null) {
             return new ExecutableNotFoundDetectorResult("yarn");
         }
 
@@ -84,7 +88,7 @@ public class YarnLockDetector extends Detector {
 
     @Override
     public Extraction extract(final ExtractionId extractionId) {
-        return yarnLockExtractor.extract(environment.getDirectory(), yarnlock, yarnExe);
+        return yarnLockExtractor.extract(environment.getDirectory(), yarnlock, packageJson, yarnExe);
     }
 
 }
@@ -1,52 +1,50 @@
-/**
- * hub-detect
- *
- * Copyright (C) 2019 Black Duck Software, Inc.
- * http://www.blackducksoftware.com/
- *
- * Licensed to the Apache Software Foundation (ASF) under one
- * or more contributor license agreements. See the NOTICE file
- * distributed with this work for additional information
- * regarding copyright ownership. The ASF licenses this file
- * to you under the Apache License, Version 2.0 (the
- * "License"); you may not use this file except in compliance
- * with the License. You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing,
- * software distributed under the License is distributed on an
- * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
- * KIND, either express or implied. See the License for the
- * specific language governing permissions and limitations
- * under the License.
- */
-package com.blackducksoftware.integration.hub.detect.detector.go;
-
-import java.util.List;
-
-import com.google.gson.annotations.SerializedName;
-
-public class GopkgLock {
-    // see https://github.com/golang/dep/blob/master/lock.go for the source of the lock file
-    private List<Project> projects;
-
-    @SerializedName("solve-meta")
-    private SolveMeta solveMeta;
-
-    public List<Project> getProjects() {
-        return projects;
-    }
-
-    public void setProjects(final List<Project> projects) {
-        this.projects = projects;
-    }
-
-    public SolveMeta getSolveMeta() {
-        return solveMeta;
-    }
-
-    public void setSolveMeta(final SolveMeta solveMeta) {
-        this.solveMeta = solveMeta;
-    }
-}
+/**
+ * hub-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.blackducksoftware.integration.hub.detect.detector.yarn;
+
+import java.util.List;
+
+public class YarnLockEntry {
+    private final String name;
+    private final String version;
+    private final List<String> dependencyFuzzyIds;
+
+    public YarnLockEntry(final String name, final String version, final List<String> dependencyFuzzyIds) {
+        this.name = name;
+        this.version = version;
+        this.dependencyFuzzyIds = dependencyFuzzyIds;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public List<String> getDependencyFuzzyIds() {
+        return dependencyFuzzyIds;
+    }
+}
@@ -23,23 +23,36 @@
  */
 package com.blackducksoftware.integration.hub.detect.detector.yarn;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import com.blackducksoftware.integration.hub.detect.configuration.DetectConfiguration;
 import com.blackducksoftware.integration.hub.detect.configuration.DetectProperty;
 import com.blackducksoftware.integration.hub.detect.configuration.PropertyAuthority;
+import com.blackducksoftware.integration.hub.detect.detector.npm.model.PackageJson;
 import com.blackducksoftware.integration.hub.detect.util.executable.Executable;
 import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableOutput;
 import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableRunner;
 import com.blackducksoftware.integration.hub.detect.workflow.codelocation.DetectCodeLocation;
 import com.blackducksoftware.integration.hub.detect.workflow.codelocation.DetectCodeLocationType;
 import com.blackducksoftware.integration.hub.detect.workflow.extraction.Extraction;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.bdio.model.Forge;
 import com.synopsys.integration.bdio.model.externalid.ExternalId;
@@ -49,36 +62,58 @@ public class YarnLockExtractor {
     public static final String OUTPUT_FILE = "detect_yarn_proj_dependencies.txt";
     public static final String ERROR_FILE = "detect_yarn_error.txt";
 
+    private final Logger logger = LoggerFactory.getLogger(YarnLockExtractor.class);
     private final ExternalIdFactory externalIdFactory;
+    private final YarnLockParser yarnLockParser;
+    private final YarnLockGraphTransformer yarnLockGraphTransformer;
     private final YarnListParser yarnListParser;
     private final ExecutableRunner executableRunner;
     private final DetectConfiguration detectConfiguration;
+    private final Gson gson;
 
-    public YarnLockExtractor(final ExternalIdFactory externalIdFactory, final YarnListParser yarnListParser, final ExecutableRunner executableRunner, final DetectConfiguration detectConfiguration) {
+    public YarnLockExtractor(final ExternalIdFactory externalIdFactory, final YarnLockParser yarnLockParser, final YarnLockGraphTransformer yarnLockGraphTransformer, final YarnListParser yarnListParser,
+        final ExecutableRunner executableRunner, final DetectConfiguration detectConfiguration, final Gson gson) {
         this.externalIdFactory = externalIdFactory;
+        this.yarnLockParser = yarnLockParser;
+        this.yarnLockGraphTransformer = yarnLockGraphTransformer;
         this.yarnListParser = yarnListParser;
         this.executableRunner = executableRunner;
         this.detectConfiguration = detectConfiguration;
+        this.gson = gson;
     }
 
-    public Extraction extract(final File directory, final File yarnlock, final String yarnExe) {
+    public Extraction extract(final File directory, final File yarnlock, final File packageJson, final String yarnExe) {
         try {
-            final List<String> yarnLockText = Files.readAllLines(yarnlock.toPath(), StandardCharsets.UTF_8);
-            final List<String> exeArgs = Stream.of("list", "--emoji", "false").collect(Collectors.toCollection(ArrayList::new));
+            final boolean productionOnly = detectConfiguration.getBooleanProperty(DetectProperty.DETECT_YARN_PROD_ONLY, PropertyAuthority.None);
 
-            if (detectConfiguration.getBooleanProperty(DetectProperty.DETECT_YARN_PROD_ONLY, PropertyAuthority.None)) {
-                exeArgs.add("--prod");
+            final YarnLock yarnLock;
+            try (Reader yarnLockReader = new BufferedReader(new InputStreamReader(new FileInputStream(yarnlock), StandardCharsets.UTF_8))) {
+                yarnLock = yarnLockParser.parseYarnLock(yarnLockReader);
             }
 
-            final Executable yarnListExe = new Executable(directory, yarnExe, exeArgs);
-            final ExecutableOutput executableOutput = executableRunner.execute(yarnListExe);
+            final DependencyGraph dependencyGraph;
+            final Optional<List<String>> rootFuzzyIds = findRootFuzzyIds(packageJson, productionOnly);
+            if (rootFuzzyIds.isPresent()) {
+                dependencyGraph = yarnLockGraphTransformer.transform(yarnLock, rootFuzzyIds.get());
+            } else if (StringUtils.isNotBlank(yarnExe)) {
+                final List<String> exeArgs = Stream.of("list", "--emoji", "false").collect(Collectors.toCollection(ArrayList::new));
 
-            if (executableOutput.getReturnCode() != 0) {
-                final Extraction.Builder builder = new Extraction.Builder().failure(String.format("Executing command '%s' returned a non-zero exit code %s", String.join(" ", exeArgs), executableOutput.getReturnCode()));
-                return builder.build();
-            }
+                if (productionOnly) {
+                    exeArgs.add("--prod");
+                }
+
+                final Executable yarnListExe = new Executable(directory, yarnExe, exeArgs);
+                final ExecutableOutput executableOutput = executableRunner.execute(yarnListExe);
+
+                if (executableOutput.getReturnCode() != 0) {
+                    final Extraction.Builder builder = new Extraction.Builder().failure(String.format("Executing command '%s' returned a non-zero exit code %s", String.join(" ", exeArgs), executableOutput.getReturnCode()));
+                    return builder.build();
+                }
 
-            final DependencyGraph dependencyGraph = yarnListParser.parseYarnList(yarnLockText, executableOutput.getStandardOutputAsList());
+                dependencyGraph = yarnListParser.parseYarnList(yarnLockParser.getYarnLockResolvedVersionMap(yarnLock), executableOutput.getStandardOutputAsList());
+            } else {
+                return new Extraction.Builder().failure("The yarn executable is required to extract a yarn project without a package.json or with workspaces.").build();
+            }
 
             final ExternalId externalId = externalIdFactory.createPathExternalId(Forge.NPM, directory.getCanonicalPath());
             final DetectCodeLocation detectCodeLocation = new DetectCodeLocation.Builder(DetectCodeLocationType.YARN, directory.getCanonicalPath(), externalId, dependencyGraph).build();
@@ -89,4 +124,38 @@ public class YarnLockExtractor {
         }
     }
 
+    // The project's own requirements are the roots of the lock file graph, workspaces declare theirs in other package.json files so those still need yarn list.
+    private Optional<List<String>> findRootFuzzyIds(final File packageJsonFile, final boolean productionOnly) throws IOException {
+        if (packageJsonFile == null) {
+            return Optional.empty();
+        }
+        final JsonObject packageJsonObject;
+        try (Reader packageJsonReader = new BufferedReader(new InputStreamReader(new FileInputStream(packageJsonFile), StandardCharsets.UTF_8))) {
+            packageJsonObject = gson.fromJson(packageJsonReader, JsonObject.class);
+        }
+        if (packageJsonObject == null) {
+            logger.debug("The package.json is empty, yarn list will be used to find the dependencies.");
+            return Optional.empty();
+        }
+        if (packageJsonObject.has("workspaces")) {
+            logger.debug("The package.json declares workspaces, yarn list will be used to find the dependencies.");
+            return Optional.empty();
+        }
+        final PackageJson packageJson = gson.fromJson(packageJsonObject, PackageJson.class);
+        final List<String> rootFuzzyIds = new ArrayList<>();
+        addFuzzyIds(rootFuzzyIds, packageJson.dependencies);
+        // Yarn installs optional dependencies in production too, they are only skipped when they fail to install.
+        addFuzzyIds(rootFuzzyIds, packageJson.optionalDependencies);
+        if (!productionOnly) {
+            addFuzzyIds(rootFuzzyIds, packageJson.devDependencies);
+        }
+        return Optional.of(rootFuzzyIds);
+    }
+
+    private void addFuzzyIds(final List<String> fuzzyIds, final Map<String, String> requirements) {
+        if (requirements != null) {
+            requirements.forEach((name, range) -> fuzzyIds.add(name + "@" + range));
+        }
+    }
+
 }
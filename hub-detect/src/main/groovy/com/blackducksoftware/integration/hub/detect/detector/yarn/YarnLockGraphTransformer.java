@@ -0,0 +1,108 @@
+/**
+ * hub-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.blackducksoftware.integration.hub.detect.detector.yarn;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+
+/**
+ * Builds the dependency graph straight from the yarn.lock entries reachable from the project's own requirements, each entry's edges are added once.
+ */
+public class YarnLockGraphTransformer {
+    private final Logger logger = LoggerFactory.getLogger(YarnLockGraphTransformer.class);
+    private final ExternalIdFactory externalIdFactory;
+
+    public YarnLockGraphTransformer(final ExternalIdFactory externalIdFactory) {
+        this.externalIdFactory = externalIdFactory;
+    }
+
+    public DependencyGraph transform(final YarnLock yarnLock, final List<String> rootFuzzyIds) {
+        final MutableDependencyGraph graph = new MutableMapDependencyGraph();
+        final Map<YarnLockEntry, Dependency> dependencies = new HashMap<>();
+        final Set<YarnLockEntry> visited = new HashSet<>();
+        final Deque<YarnLockEntry> pending = new ArrayDeque<>();
+
+        for (final String rootFuzzyId : rootFuzzyIds) {
+            final Optional<YarnLockEntry> entry = yarnLock.findEntry(rootFuzzyId);
+            if (entry.isPresent()) {
+                graph.addChildToRoot(dependencies.computeIfAbsent(entry.get(), this::createDependency));
+                if (visited.add(entry.get())) {
+                    pending.add(entry.get());
+                }
+            } else {
+                logger.debug("No yarn.lock entry found for project dependency: " + rootFuzzyId);
+                graph.addChildToRoot(createUnresolvedDependency(rootFuzzyId));
+            }
+        }
+
+        while (!pending.isEmpty()) {
+            final YarnLockEntry parentEntry = pending.remove();
+            final Dependency parent = dependencies.get(parentEntry);
+            for (final String childFuzzyId : parentEntry.getDependencyFuzzyIds()) {
+                final Optional<YarnLockEntry> childEntry = yarnLock.findEntry(childFuzzyId);
+                if (childEntry.isPresent()) {
+                    graph.addChildWithParent(dependencies.computeIfAbsent(childEntry.get(), this::createDependency), parent);
+                    if (visited.add(childEntry.get())) {
+                        pending.add(childEntry.get());
+                    }
+                } else {
+                    logger.debug("No yarn.lock entry found for dependency: " + childFuzzyId);
+                    graph.addChildWithParent(createUnresolvedDependency(childFuzzyId), parent);
+                }
+            }
+        }
+
+        return graph;
+    }
+
+    private Dependency createDependency(final YarnLockEntry entry) {
+        final ExternalId externalId = externalIdFactory.createNameVersionExternalId(Forge.NPM, entry.getName(), entry.getVersion());
+        return new Dependency(entry.getName(), entry.getVersion(), externalId);
+    }
+
+    private Dependency createUnresolvedDependency(final String fuzzyId) {
+        final int separator = fuzzyId.indexOf('@', 1);
+        final String name = separator > 0 ? fuzzyId.substring(0, separator) : fuzzyId;
+        final String version = separator > 0 ? fuzzyId.substring(separator + 1) : "";
+        final ExternalId externalId = externalIdFactory.createNameVersionExternalId(Forge.NPM, name, version);
+        return new Dependency(name, version, externalId);
+    }
+}
@@ -23,48 +23,168 @@
  */
 package com.blackducksoftware.integration.hub.detect.detector.yarn;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
-
-import org.apache.commons.lang3.StringUtils;
 
 public class YarnLockParser extends BaseYarnParser {
     public static final String COMMENT_PREFIX = "#";
-    public static final String VERSION_PREFIX = "version \"";
-    public static final String VERSION_SUFFIX = "\"";
+    private static final String VERSION_KEY = "version";
+    private static final String DEPENDENCIES_KEY = "dependencies";
+    private static final String OPTIONAL_DEPENDENCIES_KEY = "optionalDependencies";
 
     public Map<String, String> getYarnLockResolvedVersionMap(final List<String> yarnLockFileAsList) {
+        final YarnLock yarnLock;
+        try {
+            yarnLock = parseYarnLock(new StringReader(String.join("\n", yarnLockFileAsList)));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return getYarnLockResolvedVersionMap(yarnLock);
+    }
+
+    public Map<String, String> getYarnLockResolvedVersionMap(final YarnLock yarnLock) {
         final Map<String, String> yarnLockResolvedVersions = new HashMap<>();
-        final List<String> fuzzyIds = new ArrayList<>();
+        yarnLock.getEntriesByFuzzyId().forEach((fuzzyId, entry) -> yarnLockResolvedVersions.put(fuzzyId, entry.getVersion()));
+        return yarnLockResolvedVersions;
+    }
+
+    /**
+     * Reads the lock file a line at a time, tokenizing each line by hand, and indexes every entry under each of the fuzzy ids in its header.
+     */
+    public YarnLock parseYarnLock(final Reader yarnLockReader) throws IOException {
+        final Map<String, YarnLockEntry> entriesByFuzzyId = new HashMap<>();
+        final BufferedReader reader = new BufferedReader(yarnLockReader);
+
+        List<String> fuzzyIds = Collections.emptyList();
+        String version = null;
+        List<String> dependencies = new ArrayList<>();
+        boolean inDependencies = false;
 
-        for (final String line : yarnLockFileAsList) {
-            if (StringUtils.isBlank(line) || line.trim().startsWith(COMMENT_PREFIX)) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            final int indent = countIndent(line);
+            final int end = trimEnd(line);
+            if (end <= indent || line.startsWith(COMMENT_PREFIX, indent)) {
                 continue;
             }
-
-            final String trimmedLine = line.trim();
-            final int level = getLineLevel(line);
+            final int level = indent / 2;
             if (level == 0) {
-                fuzzyIds.addAll(getFuzzyIdsFromLine(line));
-            } else if (level == 1 && trimmedLine.startsWith(VERSION_PREFIX)) {
-                final String resolvedVersion = trimmedLine.substring(VERSION_PREFIX.length(), trimmedLine.lastIndexOf(VERSION_SUFFIX));
-                fuzzyIds.stream().forEach(fuzzyId -> yarnLockResolvedVersions.put(fuzzyId, resolvedVersion));
-                fuzzyIds.clear();
+                addEntry(entriesByFuzzyId, fuzzyIds, version, dependencies);
+                fuzzyIds = parseFuzzyIds(line, indent, end);
+                version = null;
+                dependencies = new ArrayList<>();
+                inDependencies = false;
+            } else if (level == 1) {
+                final String[] keyValue = parseKeyValue(line, indent, end);
+                inDependencies = keyValue[1] == null && (DEPENDENCIES_KEY.equals(keyValue[0]) || OPTIONAL_DEPENDENCIES_KEY.equals(keyValue[0]));
+                if (VERSION_KEY.equals(keyValue[0])) {
+                    version = keyValue[1];
+                }
+            } else if (inDependencies) {
+                final String[] keyValue = parseKeyValue(line, indent, end);
+                if (keyValue[1] != null) {
+                    dependencies.add(keyValue[0] + "@" + keyValue[1]);
+                }
             }
         }
+        addEntry(entriesByFuzzyId, fuzzyIds, version, dependencies);
 
-        return yarnLockResolvedVersions;
+        return new YarnLock(entriesByFuzzyId);
+    }
+
+    private void addEntry(final Map<String, YarnLockEntry> entriesByFuzzyId, final List<String> fuzzyIds, final String version, final List<String> dependencies) {
+        if (fuzzyIds.isEmpty() || version == null) {
+            return;
+        }
+        final YarnLockEntry entry = new YarnLockEntry(parseName(fuzzyIds.get(0)), version, dependencies);
+        for (final String fuzzyId : fuzzyIds) {
+            entriesByFuzzyId.put(fuzzyId, entry);
+        }
+    }
+
+    private String parseName(final String fuzzyId) {
+        // Scoped packages start with '@', the version separator is the first '@' after that.
+        final int separator = fuzzyId.indexOf('@', 1);
+        return separator > 0 ? fuzzyId.substring(0, separator) : fuzzyId;
+    }
+
+    // An entry header such as: "@scope/a@^1.0.0", a@~1.2.0:
+    private List<String> parseFuzzyIds(final String line, final int start, final int end) {
+        final List<String> fuzzyIds = new ArrayList<>();
+        final int headerEnd = line.charAt(end - 1) == ':' ? end - 1 : end;
+        int tokenStart = start;
+        boolean quoted = false;
+        for (int i = start; i <= headerEnd; i++) {
+            if (i == headerEnd || (line.charAt(i) == ',' && !quoted)) {
+                final String fuzzyId = unquote(line, tokenStart, i);
+                if (!fuzzyId.isEmpty()) {
+                    fuzzyIds.add(fuzzyId);
+                }
+                tokenStart = i + 1;
+            } else if (line.charAt(i) == '"') {
+                quoted = !quoted;
+            }
+        }
+        return fuzzyIds;
+    }
+
+    // A key and an optional value such as: version "1.0.0", "@scope/a" "^1.0.0" or dependencies:
+    private String[] parseKeyValue(final String line, final int start, final int end) {
+        int keyEnd = start;
+        if (line.charAt(start) == '"') {
+            keyEnd = line.indexOf('"', start + 1);
+            keyEnd = keyEnd < 0 ? end : keyEnd + 1;
+        } else {
+            while (keyEnd < end && line.charAt(keyEnd) != ' ') {
+                keyEnd++;
+            }
+        }
+        int valueStart = keyEnd;
+        while (valueStart < end && line.charAt(valueStart) == ' ') {
+            valueStart++;
+        }
+        final int trimmedKeyEnd = keyEnd > start && line.charAt(keyEnd - 1) == ':' ? keyEnd - 1 : keyEnd;
+        final String key = unquote(line, start, trimmedKeyEnd);
+        final String value = valueStart < end ? unquote(line, valueStart, end) : null;
+        return new String[] { key, value };
     }
 
-    private List<String> getFuzzyIdsFromLine(final String s) {
-        final String[] lines = s.split(",");
-        return Arrays.stream(lines)
-                   .map(line -> line.trim().replaceAll("\"", "").replaceAll(":", ""))
-                   .collect(Collectors.toList());
+    private String unquote(final String line, int start, int end) {
+        while (start < end && line.charAt(start) == ' ') {
+            start++;
+        }
+        while (end > start && line.charAt(end - 1) == ' ') {
+            end--;
+        }
+        if (end - start >= 2 && line.charAt(start) == '"' && line.charAt(end - 1) == '"') {
+            start++;
+            end--;
+        }
+        return line.substring(start, end);
+    }
+
+    private int countIndent(final String line) {
+        int indent = 0;
+        while (indent < line.length() && line.charAt(indent) == ' ') {
+            indent++;
+        }
+        return indent;
+    }
+
+    private int trimEnd(final String line) {
+        int end = line.length();
+        while (end > 0 && Character.isWhitespace(line.charAt(end - 1))) {
+            end--;
+        }
+        return end;
     }
 
 }
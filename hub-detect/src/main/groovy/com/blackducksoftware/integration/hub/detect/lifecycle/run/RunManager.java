@@ -24,6 +24,10 @@
 package com.blackducksoftware.integration.hub.detect.lifecycle.run;
 
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -57,6 +61,8 @@ import com.blackducksoftware.integration.hub.detect.workflow.codelocation.BdioCo
 import com.blackducksoftware.integration.hub.detect.workflow.codelocation.CodeLocationNameManager;
 import com.blackducksoftware.integration.hub.detect.workflow.event.Event;
 import com.blackducksoftware.integration.hub.detect.workflow.event.EventSystem;
+import com.blackducksoftware.integration.hub.detect.workflow.extraction.ExtractionOptions;
+import com.blackducksoftware.integration.hub.detect.workflow.extraction.PreparationOptions;
 import com.blackducksoftware.integration.hub.detect.workflow.file.DirectoryManager;
 import com.blackducksoftware.integration.hub.detect.workflow.hub.BlackduckPostActions;
 import com.blackducksoftware.integration.hub.detect.workflow.hub.BlackduckReportOptions;
@@ -92,6 +98,19 @@ public class RunManager {
     }
 
     public RunResult run() throws DetectUserFriendlyException, InterruptedException, IntegrationException {
+        ExecutorService executorService = Executors.newCachedThreadPool();
+        try {
+            return run(executorService);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Stages only wait on the results they need: the project is created as soon as its name is known, BDIO files are created while it is being created,
+     * and the BDIO upload, the scans and Polaris run side by side once it exists. Post actions wait for all of them.
+     */
+    private RunResult run(ExecutorService executorService) throws DetectUserFriendlyException, InterruptedException, IntegrationException {
         //TODO: Better way for run manager to get dependencies so he can be tested. (And better ways of creating his objects)
         DetectConfiguration detectConfiguration = detectContext.getBean(DetectConfiguration.class);
         DetectConfigurationFactory detectConfigurationFactory = detectContext.getBean(DetectConfigurationFactory.class);
@@ -112,6 +131,16 @@ public class RunManager {
 
         DetectToolFilter detectToolFilter = runOptions.getDetectToolFilter();
 
+        ProjectNameVersionOptions projectNameVersionOptions = detectConfigurationFactory.createProjectNameVersionOptions(directoryManager.getSourceDirectory().getName());
+        ProjectNameVersionDecider projectNameVersionDecider = new ProjectNameVersionDecider(projectNameVersionOptions);
+
+        Future<Optional<ProjectVersionWrapper>> projectVersionWrapperFuture = null;
+        Optional<NameVersion> providedProjectNameVersion = projectNameVersionDecider.findProvidedProjectNameVersion();
+        if (providedProjectNameVersion.isPresent()) {
+            logger.info("Project name and version were provided, project actions will run alongside the code location tools.");
+            projectVersionWrapperFuture = executorService.submit(() -> performProjectActions(providedProjectNameVersion.get(), runOptions, detectConfigurationFactory, connectivityManager));
+        }
+
         logger.info(ReportConstants.RUN_SEPARATOR);
         if (detectToolFilter.shouldInclude(DetectTool.DOCKER)) {
             logger.info("Will include the docker tool.");
@@ -135,9 +164,11 @@ public class RunManager {
             logger.info("Will include the detector tool.");
             String projectBomTool = detectConfiguration.getProperty(DetectProperty.DETECT_PROJECT_DETECTOR, PropertyAuthority.None);
             SearchOptions searchOptions = detectConfigurationFactory.createSearchOptions(directoryManager.getSourceDirectory());
+            PreparationOptions preparationOptions = detectConfigurationFactory.createPreparationOptions();
+            ExtractionOptions extractionOptions = detectConfigurationFactory.createExtractionOptions();
             DetectorTool detectorTool = new DetectorTool(detectContext);
 
-            DetectorToolResult detectorToolResult = detectorTool.performDetectors(searchOptions, projectBomTool);
+            DetectorToolResult detectorToolResult = detectorTool.performDetectors(searchOptions, preparationOptions, extractionOptions, projectBomTool);
             runResult.addToolNameVersionIfPresent(DetectTool.DETECTOR, detectorToolResult.bomToolProjectNameVersion);
             runResult.addDetectCodeLocations(detectorToolResult.bomToolCodeLocations);
             runResult.addApplicableDetectors(detectorToolResult.applicableDetectorTypes);
@@ -155,39 +186,32 @@ public class RunManager {
 
         logger.info("Determining project info.");
 
-        ProjectNameVersionOptions projectNameVersionOptions = detectConfigurationFactory.createProjectNameVersionOptions(directoryManager.getSourceDirectory().getName());
-        ProjectNameVersionDecider projectNameVersionDecider = new ProjectNameVersionDecider(projectNameVersionOptions);
         NameVersion projectNameVersion = projectNameVersionDecider.decideProjectNameVersion(runOptions.getPreferredTools(), runResult.getDetectToolProjectInfo());
 
         logger.info("Project name: " + projectNameVersion.getName());
         logger.info("Project version: " + projectNameVersion.getVersion());
 
-        Optional<ProjectVersionWrapper> projectVersionWrapper = Optional.empty();
-
-        if (connectivityManager.isDetectOnline() && connectivityManager.getBlackDuckServicesFactory().isPresent()) {
-            BlackDuckServicesFactory blackDuckServicesFactory = connectivityManager.getBlackDuckServicesFactory().get();
-            logger.info("Getting or creating project.");
-            DetectProjectServiceOptions options = detectConfigurationFactory.createDetectProjectServiceOptions();
-            DetectProjectService detectProjectService = new DetectProjectService(blackDuckServicesFactory, options);
-            projectVersionWrapper = Optional.of(detectProjectService.createOrUpdateHubProject(projectNameVersion));
-            if (projectVersionWrapper.isPresent() && runOptions.shouldUnmapCodeLocations()) {
-                logger.info("Unmapping code locations.");
-                DetectCodeLocationUnmapService detectCodeLocationUnmapService = new DetectCodeLocationUnmapService(blackDuckServicesFactory.createBlackDuckService(), blackDuckServicesFactory.createCodeLocationService());
-                detectCodeLocationUnmapService.unmapCodeLocations(projectVersionWrapper.get().getProjectVersionView());
-            } else {
-                logger.debug("Will not unmap code locations: Project view was not present, or should not unmap code locations.");
-            }
-        } else {
-            logger.debug("Detect is not online, and will not create the project.");
+        BlackDuckSignatureScannerTool blackDuckSignatureScannerTool = null;
+        if (detectToolFilter.shouldInclude(DetectTool.SIGNATURE_SCAN)) {
+            logger.info("Determining signature scan paths and exclusions in the background.");
+            BlackDuckSignatureScannerOptions blackDuckSignatureScannerOptions = detectConfigurationFactory.createBlackDuckSignatureScannerOptions();
+            blackDuckSignatureScannerTool = new BlackDuckSignatureScannerTool(blackDuckSignatureScannerOptions, detectContext);
+            blackDuckSignatureScannerTool.startScanPathDiscovery(projectNameVersion, runResult.getDockerTar());
         }
 
-        logger.info("Completed project and version actions.");
+        if (projectVersionWrapperFuture == null) {
+            projectVersionWrapperFuture = executorService.submit(() -> performProjectActions(projectNameVersion, runOptions, detectConfigurationFactory, connectivityManager));
+        }
 
         logger.info("Processing Detect Code Locations.");
-        CodeLocationWaitData codeLocationWaitData = new CodeLocationWaitData();
         BdioManager bdioManager = new BdioManager(detectInfo, new SimpleBdioFactory(), new IntegrationEscapeUtil(), codeLocationNameManager, detectConfiguration, bdioCodeLocationCreator, directoryManager, eventSystem);
         BdioResult bdioResult = bdioManager.createBdioFiles(runOptions.getAggregateName(), projectNameVersion, runResult.getDetectCodeLocations());
 
+        // Code locations must only be uploaded or scanned once the existing ones have been unmapped.
+        Optional<ProjectVersionWrapper> projectVersionWrapper = await(projectVersionWrapperFuture);
+        logger.info("Completed project and version actions.");
+
+        Future<Optional<CodeLocationCreationData<UploadBatchOutput>>> bdioUploadFuture = null;
         if (bdioResult.getUploadTargets().size() > 0) {
             logger.info("Created " + bdioResult.getUploadTargets().size() + " BDIO files.");
             bdioResult.getUploadTargets().forEach(it -> eventSystem.publishEvent(Event.OutputFileOfInterest, it.getUploadFile()));
@@ -195,52 +219,64 @@ public class RunManager {
                 logger.info("Uploading BDIO files.");
                 BlackDuckServicesFactory blackDuckServicesFactory = connectivityManager.getBlackDuckServicesFactory().get();
                 DetectBdioUploadService detectBdioUploadService = new DetectBdioUploadService(detectConfiguration, blackDuckServicesFactory.createBdioUploadService());
-                CodeLocationCreationData<UploadBatchOutput> uploadBatchOutputCodeLocationCreationData = detectBdioUploadService.uploadBdioFiles(bdioResult.getUploadTargets());
-                codeLocationWaitData.setFromBdioCodeLocationCreationData(uploadBatchOutputCodeLocationCreationData);
+                bdioUploadFuture = executorService.submit(() -> Optional.of(detectBdioUploadService.uploadBdioFiles(bdioResult.getUploadTargets())));
             }
         } else {
             logger.debug("Did not create any BDIO files.");
         }
 
-        logger.info("Completed Detect Code Location processing.");
-
-        logger.info(ReportConstants.RUN_SEPARATOR);
-        if (detectToolFilter.shouldInclude(DetectTool.SIGNATURE_SCAN)) {
-            logger.info("Will include the signature scanner tool.");
-            BlackDuckSignatureScannerOptions blackDuckSignatureScannerOptions = detectConfigurationFactory.createBlackDuckSignatureScannerOptions();
-            BlackDuckSignatureScannerTool blackDuckSignatureScannerTool = new BlackDuckSignatureScannerTool(blackDuckSignatureScannerOptions, detectContext);
-            SignatureScannerToolResult signatureScannerToolResult = blackDuckSignatureScannerTool.runScanTool(projectNameVersion, runResult.getDockerTar());
-            if (signatureScannerToolResult.getResult() == Result.SUCCESS && signatureScannerToolResult.getCreationData().isPresent()) {
-                codeLocationWaitData.setFromSignatureScannerCodeLocationCreationData(signatureScannerToolResult.getCreationData().get());
+        // Both scanners take the next override code location name, so they run one after the other to keep those names stable.
+        final BlackDuckSignatureScannerTool signatureScannerTool = blackDuckSignatureScannerTool;
+        Future<Optional<SignatureScannerToolResult>> scanFuture = executorService.submit(() -> {
+            Optional<SignatureScannerToolResult> signatureScannerToolResult = Optional.empty();
+            if (signatureScannerTool != null) {
+                logger.info("Will include the signature scanner tool.");
+                signatureScannerToolResult = Optional.of(signatureScannerTool.runScanTool(projectNameVersion, runResult.getDockerTar()));
+                logger.info("Signature scanner actions finished.");
+            } else {
+                logger.info("Signature scan tool will not be run.");
             }
-            logger.info("Signature scanner actions finished.");
-        } else {
-            logger.info("Signature scan tool will not be run.");
-        }
 
-        logger.info(ReportConstants.RUN_SEPARATOR);
-        if (detectToolFilter.shouldInclude(DetectTool.BINARY_SCAN)) {
-            logger.info("Will include the binary scanner tool.");
-            if (connectivityManager.isDetectOnline() && connectivityManager.getBlackDuckServicesFactory().isPresent()) {
-                BlackDuckServicesFactory blackDuckServicesFactory = connectivityManager.getBlackDuckServicesFactory().get();
-                BlackDuckBinaryScannerTool blackDuckBinaryScanner = new BlackDuckBinaryScannerTool(eventSystem, codeLocationNameManager, detectConfiguration, blackDuckServicesFactory);
-                blackDuckBinaryScanner.performBinaryScanActions(projectNameVersion);
+            if (detectToolFilter.shouldInclude(DetectTool.BINARY_SCAN)) {
+                logger.info("Will include the binary scanner tool.");
+                if (connectivityManager.isDetectOnline() && connectivityManager.getBlackDuckServicesFactory().isPresent()) {
+                    BlackDuckServicesFactory blackDuckServicesFactory = connectivityManager.getBlackDuckServicesFactory().get();
+                    BlackDuckBinaryScannerTool blackDuckBinaryScanner = new BlackDuckBinaryScannerTool(eventSystem, codeLocationNameManager, detectConfiguration, blackDuckServicesFactory);
+                    blackDuckBinaryScanner.performBinaryScanActions(projectNameVersion);
+                }
+                logger.info("Binary scanner actions finished.");
+            } else {
+                logger.info("Binary scan tool will not be run.");
             }
-            logger.info("Binary scanner actions finished.");
-        } else {
-            logger.info("Binary scan tool will not be run.");
+            return signatureScannerToolResult;
+        });
+
+        Future<?> polarisFuture = executorService.submit(() -> {
+            if (detectToolFilter.shouldInclude(DetectTool.POLARIS)) {
+                logger.info("Will include the Polaris tool.");
+                PolarisTool polarisTool = new PolarisTool(eventSystem, directoryManager, new ExecutableRunner(), connectionManager);
+                polarisTool.runPolaris(new Slf4jIntLogger(logger), directoryManager.getSourceDirectory());
+                logger.info("Polaris actions finished.");
+            } else {
+                logger.info("Polaris CLI tool will not be run.");
+            }
+            return null;
+        });
+
+        CodeLocationWaitData codeLocationWaitData = new CodeLocationWaitData();
+        if (bdioUploadFuture != null) {
+            Optional<CodeLocationCreationData<UploadBatchOutput>> uploadBatchOutputCodeLocationCreationData = await(bdioUploadFuture);
+            uploadBatchOutputCodeLocationCreationData.ifPresent(codeLocationWaitData::setFromBdioCodeLocationCreationData);
         }
+        logger.info("Completed Detect Code Location processing.");
 
-        logger.info(ReportConstants.RUN_SEPARATOR);
-        if (detectToolFilter.shouldInclude(DetectTool.POLARIS)) {
-            logger.info("Will include the Polaris tool.");
-            PolarisTool polarisTool = new PolarisTool(eventSystem, directoryManager, new ExecutableRunner(), connectionManager);
-            polarisTool.runPolaris(new Slf4jIntLogger(logger), directoryManager.getSourceDirectory());
-            logger.info("Polaris actions finished.");
-        } else {
-            logger.info("Polaris CLI tool will not be run.");
+        Optional<SignatureScannerToolResult> signatureScannerToolResult = await(scanFuture);
+        if (signatureScannerToolResult.isPresent() && signatureScannerToolResult.get().getResult() == Result.SUCCESS && signatureScannerToolResult.get().getCreationData().isPresent()) {
+            codeLocationWaitData.setFromSignatureScannerCodeLocationCreationData(signatureScannerToolResult.get().getCreationData().get());
         }
 
+        await(polarisFuture);
+
         logger.info(ReportConstants.RUN_SEPARATOR);
         if (projectVersionWrapper.isPresent() && connectivityManager.isDetectOnline() && connectivityManager.getBlackDuckServicesFactory().isPresent()) {
             BlackDuckServicesFactory blackDuckServicesFactory = connectivityManager.getBlackDuckServicesFactory().get();
@@ -274,4 +310,48 @@ public class RunManager {
         return runResult;
     }
 
+    private Optional<ProjectVersionWrapper> performProjectActions(NameVersion projectNameVersion, RunOptions runOptions, DetectConfigurationFactory detectConfigurationFactory, ConnectivityManager connectivityManager)
+        throws DetectUserFriendlyException, InterruptedException, IntegrationException {
+        Optional<ProjectVersionWrapper> projectVersionWrapper = Optional.empty();
+
+        if (connectivityManager.isDetectOnline() && connectivityManager.getBlackDuckServicesFactory().isPresent()) {
+            BlackDuckServicesFactory blackDuckServicesFactory = connectivityManager.getBlackDuckServicesFactory().get();
+            logger.info("Getting or creating project.");
+            DetectProjectServiceOptions options = detectConfigurationFactory.createDetectProjectServiceOptions();
+            DetectProjectService detectProjectService = new DetectProjectService(blackDuckServicesFactory, options);
+            projectVersionWrapper = Optional.of(detectProjectService.createOrUpdateHubProject(projectNameVersion));
+            if (projectVersionWrapper.isPresent() && runOptions.shouldUnmapCodeLocations()) {
+                logger.info("Unmapping code locations.");
+                DetectCodeLocationUnmapService detectCodeLocationUnmapService = new DetectCodeLocationUnmapService(blackDuckServicesFactory.createBlackDuckService(), blackDuckServicesFactory.createCodeLocationService());
+                detectCodeLocationUnmapService.unmapCodeLocations(projectVersionWrapper.get().getProjectVersionView());
+            } else {
+                logger.debug("Will not unmap code locations: Project view was not present, or should not unmap code locations.");
+            }
+        } else {
+            logger.debug("Detect is not online, and will not create the project.");
+        }
+
+        return projectVersionWrapper;
+    }
+
+    private <T> T await(Future<T> future) throws DetectUserFriendlyException, InterruptedException, IntegrationException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DetectUserFriendlyException) {
+                throw (DetectUserFriendlyException) cause;
+            } else if (cause instanceof IntegrationException) {
+                throw (IntegrationException) cause;
+            } else if (cause instanceof InterruptedException) {
+                throw (InterruptedException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IntegrationException(cause.getMessage(), cause);
+        }
+    }
+
 }
@@ -45,6 +45,7 @@ import com.blackducksoftware.integration.hub.detect.lifecycle.run.RunResult;
 import com.blackducksoftware.integration.hub.detect.workflow.ConnectivityManager;
 import com.blackducksoftware.integration.hub.detect.workflow.detector.RequiredDetectorChecker;
 import com.blackducksoftware.integration.hub.detect.workflow.diagnostic.DiagnosticManager;
+import com.blackducksoftware.integration.hub.detect.workflow.event.EventSystem;
 import com.blackducksoftware.integration.hub.detect.workflow.file.DirectoryManager;
 import com.blackducksoftware.integration.hub.detect.workflow.report.ReportManager;
 import com.blackducksoftware.integration.hub.detect.workflow.status.DetectStatusManager;
@@ -58,9 +59,10 @@ public class ShutdownManager {
     private final ReportManager reportManager;
     private final DiagnosticManager diagnosticManager;
     private final ConnectivityManager connectivityManager;
+    private final EventSystem eventSystem;
 
     public ShutdownManager(ConnectivityManager connectivityManager, DetectStatusManager detectStatusManager, final ExitCodeManager exitCodeManager,
-        final DirectoryManager directoryManager, final DetectConfiguration detectConfiguration, ReportManager reportManager, DiagnosticManager diagnosticManager) {
+        final DirectoryManager directoryManager, final DetectConfiguration detectConfiguration, ReportManager reportManager, DiagnosticManager diagnosticManager, EventSystem eventSystem) {
         this.detectStatusManager = detectStatusManager;
         this.exitCodeManager = exitCodeManager;
         this.directoryManager = directoryManager;
@@ -68,9 +70,13 @@ public class ShutdownManager {
         this.reportManager = reportManager;
         this.diagnosticManager = diagnosticManager;
         this.connectivityManager = connectivityManager;
+        this.eventSystem = eventSystem;
     }
 
     public void shutdown(Optional<RunResult> runResultOptional) {
+        logger.debug("Delivering queued events.");
+        eventSystem.flush();
+
         if (connectivityManager.getPhoneHomeManager().isPresent()) {
             try {
                 logger.debug("Ending phone home.");
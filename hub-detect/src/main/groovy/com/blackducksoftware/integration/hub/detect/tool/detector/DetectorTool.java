@@ -29,13 +29,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.blackducksoftware.integration.hub.detect.detector.DetectorFactory;
+import com.blackducksoftware.integration.hub.detect.detector.pip.PipInspectorExtractor;
 import com.blackducksoftware.integration.hub.detect.exception.DetectUserFriendlyException;
 import com.blackducksoftware.integration.hub.detect.lifecycle.DetectContext;
 import com.blackducksoftware.integration.hub.detect.workflow.detector.DetectorManager;
 import com.blackducksoftware.integration.hub.detect.workflow.event.Event;
 import com.blackducksoftware.integration.hub.detect.workflow.event.EventSystem;
 import com.blackducksoftware.integration.hub.detect.workflow.extraction.ExtractionManager;
+import com.blackducksoftware.integration.hub.detect.workflow.extraction.ExtractionOptions;
+import com.blackducksoftware.integration.hub.detect.workflow.file.DirectoryIndex;
 import com.blackducksoftware.integration.hub.detect.workflow.extraction.PreparationManager;
+import com.blackducksoftware.integration.hub.detect.workflow.extraction.PreparationOptions;
 import com.blackducksoftware.integration.hub.detect.workflow.project.DetectorEvaluationNameVersionDecider;
 import com.blackducksoftware.integration.hub.detect.workflow.project.DetectorNameVersionDecider;
 import com.blackducksoftware.integration.hub.detect.workflow.search.SearchManager;
@@ -52,22 +56,28 @@ public class DetectorTool {
         this.detectContext = detectContext;
     }
 
-    public DetectorToolResult performDetectors(SearchOptions searchOptions, String projectBomTool) throws DetectUserFriendlyException {
+    public DetectorToolResult performDetectors(SearchOptions searchOptions, PreparationOptions preparationOptions, ExtractionOptions extractionOptions, String projectBomTool) throws DetectUserFriendlyException {
         logger.info("Preparing to initialize detectors.");
         DetectorFactory detectorFactory = detectContext.getBean(DetectorFactory.class);
         EventSystem eventSystem = detectContext.getBean(EventSystem.class);
+        DirectoryIndex directoryIndex = detectContext.getBean(DirectoryIndex.class);
 
         logger.info("Building detector system.");
         DetectorSearchProvider detectorSearchProvider = new DetectorSearchProvider(detectorFactory);
         DetectorSearchEvaluator detectorSearchEvaluator = new DetectorSearchEvaluator();
 
-        SearchManager searchManager = new SearchManager(searchOptions, detectorSearchProvider, detectorSearchEvaluator, eventSystem);
-        PreparationManager preparationManager = new PreparationManager(eventSystem);
-        ExtractionManager extractionManager = new ExtractionManager();
+        SearchManager searchManager = new SearchManager(searchOptions, detectorSearchProvider, detectorSearchEvaluator, eventSystem, directoryIndex);
+        PreparationManager preparationManager = new PreparationManager(preparationOptions, eventSystem);
+        ExtractionManager extractionManager = new ExtractionManager(extractionOptions, eventSystem);
 
         DetectorManager detectorManager = new DetectorManager(searchManager, extractionManager, preparationManager, eventSystem);
         logger.info("Running detectors.");
-        DetectorToolResult detectorToolResult = detectorManager.runDetectors();
+        DetectorToolResult detectorToolResult;
+        try {
+            detectorToolResult = detectorManager.runDetectors();
+        } finally {
+            detectContext.getBean(PipInspectorExtractor.class).closeSessions();
+        }
         logger.info("Finished running detectors.");
         eventSystem.publishEvent(Event.DetectorsComplete, detectorToolResult);
 
@@ -52,8 +52,6 @@ public class DockerInspectorManager {
 
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
-    private final static String DOCKER_SHARED_DIRECTORY_NAME = "docker";
-
     private final DirectoryManager directoryManager;
     private final AirGapManager airGapManager;
     private final DetectFileFinder detectFileFinder;
@@ -72,7 +70,7 @@ public class DockerInspectorManager {
         this.artifactResolver = artifactResolver;
     }
 
-    public DockerInspectorInfo getDockerInspector() throws DetectorException {
+    public synchronized DockerInspectorInfo getDockerInspector() throws DetectorException {
         try {
             if (!hasResolvedInspector) {
                 hasResolvedInspector = true;
@@ -161,9 +159,8 @@ public class DockerInspectorManager {
             ArtifactoryConstants.DOCKER_INSPECTOR_VERSION_OVERRIDE);
         if (location.isPresent()) {
             logger.info("Finding or downloading the docker inspector.");
-            File dockerDirectory = directoryManager.getPermanentDirectory(DOCKER_SHARED_DIRECTORY_NAME);
-            logger.debug(String.format("Downloading docker inspector from '%s' to '%s'.", location.get(), dockerDirectory.getAbsolutePath()));
-            File jarFile = artifactResolver.downloadOrFindArtifact(dockerDirectory, location.get());
+            logger.debug(String.format("Downloading docker inspector from '%s'.", location.get()));
+            File jarFile = artifactResolver.downloadOrFindArtifact(location.get());
             logger.info("Found online docker inspector: " + jarFile.getAbsolutePath());
             return new DockerInspectorInfo(jarFile);
         } else {
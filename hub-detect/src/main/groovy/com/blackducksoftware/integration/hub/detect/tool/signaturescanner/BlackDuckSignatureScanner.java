@@ -28,21 +28,17 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.blackducksoftware.integration.hub.detect.configuration.DetectProperty;
 import com.blackducksoftware.integration.hub.detect.exception.DetectUserFriendlyException;
 import com.blackducksoftware.integration.hub.detect.exitcode.ExitCodeType;
 import com.blackducksoftware.integration.hub.detect.lifecycle.shutdown.ExitCodeRequest;
 import com.blackducksoftware.integration.hub.detect.workflow.codelocation.CodeLocationNameManager;
 import com.blackducksoftware.integration.hub.detect.workflow.event.Event;
 import com.blackducksoftware.integration.hub.detect.workflow.event.EventSystem;
-import com.blackducksoftware.integration.hub.detect.workflow.file.DetectFileFinder;
 import com.blackducksoftware.integration.hub.detect.workflow.file.DirectoryManager;
-import com.blackducksoftware.integration.hub.detect.workflow.hub.ExclusionPatternCreator;
 import com.blackducksoftware.integration.hub.detect.workflow.status.SignatureScanStatus;
 import com.blackducksoftware.integration.hub.detect.workflow.status.StatusType;
 import com.synopsys.integration.blackduck.codelocation.Result;
@@ -60,16 +56,14 @@ public abstract class BlackDuckSignatureScanner {
     private final Logger logger = LoggerFactory.getLogger(BlackDuckSignatureScanner.class);
 
     private final DirectoryManager directoryManager;
-    private final DetectFileFinder detectFileFinder;
     private final CodeLocationNameManager codeLocationNameManager;
     private final BlackDuckSignatureScannerOptions signatureScannerOptions;
     private final EventSystem eventSystem;
     private final ScanBatchRunner scanJobManager;
 
-    public BlackDuckSignatureScanner(final DirectoryManager directoryManager, final DetectFileFinder detectFileFinder, final CodeLocationNameManager codeLocationNameManager,
+    public BlackDuckSignatureScanner(final DirectoryManager directoryManager, final CodeLocationNameManager codeLocationNameManager,
             final BlackDuckSignatureScannerOptions signatureScannerOptions, EventSystem eventSystem, final ScanBatchRunner scanJobManager) {
         this.directoryManager = directoryManager;
-        this.detectFileFinder = detectFileFinder;
         this.codeLocationNameManager = codeLocationNameManager;
         this.signatureScannerOptions = signatureScannerOptions;
         this.eventSystem = eventSystem;
@@ -78,12 +72,12 @@ public abstract class BlackDuckSignatureScanner {
 
     protected abstract ScanBatch createScanBatch(NameVersion projectNameVersion, File installDirectory, List<SignatureScanPath> signatureScanPaths, File dockerTarFile);
 
-    public ScanBatchOutput performScanActions(NameVersion projectNameVersion, File installDirectory, File dockerTarFile) throws InterruptedException, IntegrationException, DetectUserFriendlyException, IOException {
-        return scanPaths(projectNameVersion, installDirectory, dockerTarFile);
+    public ScanBatchOutput performScanActions(NameVersion projectNameVersion, File installDirectory, List<SignatureScanPath> signatureScanPaths, File dockerTarFile)
+        throws InterruptedException, IntegrationException, DetectUserFriendlyException, IOException {
+        return scanPaths(projectNameVersion, installDirectory, signatureScanPaths, dockerTarFile);
     }
 
-    private ScanBatchOutput scanPaths(final NameVersion projectNameVersion, File installDirectory, File dockerTarFile) throws IntegrationException, InterruptedException, IOException {
-        List<SignatureScanPath> signatureScanPaths = determinePathsAndExclusions(projectNameVersion, signatureScannerOptions.getMaxDepth(), dockerTarFile);
+    private ScanBatchOutput scanPaths(final NameVersion projectNameVersion, File installDirectory, List<SignatureScanPath> signatureScanPaths, File dockerTarFile) throws IntegrationException, InterruptedException, IOException {
         final ScanBatch scanJob = createScanBatch(projectNameVersion, installDirectory, signatureScanPaths, dockerTarFile);
 
         List<ScanCommandOutput> scanCommandOutputs = new ArrayList<>();
@@ -153,59 +147,6 @@ public abstract class BlackDuckSignatureScanner {
         }
     }
 
-    private List<SignatureScanPath> determinePathsAndExclusions(final NameVersion projectNameVersion, Integer maxDepth, File dockerTarFile) throws IntegrationException, IOException {
-        final String[] providedSignatureScanPaths = signatureScannerOptions.getSignatureScannerPaths();
-        final boolean userProvidedScanTargets = null != providedSignatureScanPaths && providedSignatureScanPaths.length > 0;
-        final String[] providedExclusionPatterns = signatureScannerOptions.getExclusionPatterns();
-        final String[] hubSignatureScannerExclusionNamePatterns = signatureScannerOptions.getExclusionNamePatterns();
-
-        List<SignatureScanPath> signatureScanPaths = new ArrayList<>();
-        if (null != projectNameVersion.getName() && null != projectNameVersion.getVersion() && userProvidedScanTargets) {
-            for (final String path : providedSignatureScanPaths) {
-                logger.info(String.format("Registering explicit scan path %s", path));
-                SignatureScanPath scanPath = createScanPath(path, maxDepth, hubSignatureScannerExclusionNamePatterns, providedExclusionPatterns);
-                signatureScanPaths.add(scanPath);
-            }
-        } else if (dockerTarFile != null) {
-            SignatureScanPath scanPath = createScanPath(dockerTarFile.getCanonicalPath(), maxDepth, hubSignatureScannerExclusionNamePatterns, providedExclusionPatterns);
-            signatureScanPaths.add(scanPath);
-        } else {
-            final String sourcePath = directoryManager.getSourceDirectory().getAbsolutePath();
-            if (userProvidedScanTargets) {
-                logger.warn(String.format("No Project name or version found. Skipping User provided scan targets - registering the source path %s to scan", sourcePath));
-            } else {
-                logger.info(String.format("No scan targets provided - registering the source path %s to scan", sourcePath));
-            }
-            SignatureScanPath scanPath = createScanPath(sourcePath, maxDepth, hubSignatureScannerExclusionNamePatterns, providedExclusionPatterns);
-            signatureScanPaths.add(scanPath);
-        }
-        return signatureScanPaths;
-    }
-
-    private SignatureScanPath createScanPath(final String path, Integer maxDepth, final String[] hubSignatureScannerExclusionNamePatterns, final String[] providedExclusionPatterns) throws IntegrationException {
-        try {
-            final File target = new File(path);
-            final String targetPath = target.getCanonicalPath();
-            final ExclusionPatternCreator exclusionPatternCreator = new ExclusionPatternCreator(detectFileFinder, target);
-
-            final String maxDepthHitMsg = String.format("Maximum depth %d hit while traversing source tree to generate signature scanner exclusion patterns. To search deeper, adjust the value of property %s",
-                    maxDepth, DetectProperty.DETECT_BLACKDUCK_SIGNATURE_SCANNER_EXCLUSION_PATTERN_SEARCH_DEPTH.getPropertyName());
-
-            final Set<String> scanExclusionPatterns = exclusionPatternCreator.determineExclusionPatterns(maxDepthHitMsg, maxDepth, hubSignatureScannerExclusionNamePatterns);
-            if (null != providedExclusionPatterns) {
-                for (final String providedExclusionPattern : providedExclusionPatterns) {
-                    scanExclusionPatterns.add(providedExclusionPattern);
-                }
-            }
-            SignatureScanPath signatureScanPath = new SignatureScanPath();
-            signatureScanPath.targetPath = targetPath;
-            signatureScanPath.exclusions.addAll(scanExclusionPatterns);
-            return signatureScanPath;
-        } catch (final IOException e) {
-            throw new IntegrationException(e.getMessage(), e);
-        }
-    }
-
     protected ScanBatchBuilder createDefaultScanBatchBuilder(final NameVersion projectNameVersion, File installDirectory, final List<SignatureScanPath> signatureScanPaths, File dockerTarFile) {
         final ScanBatchBuilder scanJobBuilder = new ScanBatchBuilder();
         scanJobBuilder.scanMemoryInMegabytes(signatureScannerOptions.getScanMemory());
@@ -25,9 +25,12 @@ package com.blackducksoftware.integration.hub.detect.tool.signaturescanner;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -41,6 +44,7 @@ import com.blackducksoftware.integration.hub.detect.configuration.PropertyAuthor
 import com.blackducksoftware.integration.hub.detect.exception.DetectUserFriendlyException;
 import com.blackducksoftware.integration.hub.detect.lifecycle.DetectContext;
 import com.blackducksoftware.integration.hub.detect.workflow.ConnectivityManager;
+import com.blackducksoftware.integration.hub.detect.workflow.file.DetectFileFinder;
 import com.blackducksoftware.integration.hub.detect.workflow.file.DirectoryManager;
 import com.synopsys.integration.blackduck.codelocation.CodeLocationCreationData;
 import com.synopsys.integration.blackduck.codelocation.CodeLocationCreationService;
@@ -55,13 +59,46 @@ public class BlackDuckSignatureScannerTool {
     private final Logger logger = LoggerFactory.getLogger(BlackDuckSignatureScannerTool.class);
     private DetectContext detectContext;
     private BlackDuckSignatureScannerOptions signatureScannerOptions;
+    private ExecutorService scanPathDiscoveryExecutorService;
+    private Future<List<SignatureScanPath>> signatureScanPathsFuture;
 
     public BlackDuckSignatureScannerTool(final BlackDuckSignatureScannerOptions signatureScannerOptions, DetectContext detectContext) {
         this.signatureScannerOptions = signatureScannerOptions;
         this.detectContext = detectContext;
     }
 
+    /**
+     * Determines the scan paths and their exclusion patterns in the background, so walking large scan targets can overlap with other work. The next call to runScanTool waits for the result.
+     */
+    public void startScanPathDiscovery(NameVersion projectNameVersion, Optional<File> dockerTar) {
+        SignatureScanPathFinder signatureScanPathFinder = createSignatureScanPathFinder();
+        scanPathDiscoveryExecutorService = Executors.newSingleThreadExecutor();
+        try {
+            signatureScanPathsFuture = scanPathDiscoveryExecutorService.submit(() -> signatureScanPathFinder.determinePathsAndExclusions(projectNameVersion, dockerTar.orElse(null)));
+        } finally {
+            scanPathDiscoveryExecutorService.shutdown();
+        }
+    }
+
     public SignatureScannerToolResult runScanTool(NameVersion projectNameVersion, Optional<File> dockerTar) throws DetectUserFriendlyException {
+        try {
+            return runScanToolWithDiscoveredPaths(projectNameVersion, dockerTar);
+        } finally {
+            stopScanPathDiscovery();
+        }
+    }
+
+    // However the scan ends, a discovery that is still walking the scan targets is no longer needed.
+    private void stopScanPathDiscovery() {
+        if (signatureScanPathsFuture != null) {
+            signatureScanPathsFuture.cancel(true);
+        }
+        if (scanPathDiscoveryExecutorService != null) {
+            scanPathDiscoveryExecutorService.shutdownNow();
+        }
+    }
+
+    private SignatureScannerToolResult runScanToolWithDiscoveredPaths(NameVersion projectNameVersion, Optional<File> dockerTar) throws DetectUserFriendlyException {
         DetectConfiguration detectConfiguration = detectContext.getBean(DetectConfiguration.class);
         DetectConfigurationFactory detectConfigurationFactory = detectContext.getBean(DetectConfigurationFactory.class);
         ConnectionManager connectionManager = detectContext.getBean(ConnectionManager.class);
@@ -116,16 +153,17 @@ public class BlackDuckSignatureScannerTool {
         logger.debug("Determined install directory: " + installDirectory.getAbsolutePath());
 
         try {
+            List<SignatureScanPath> signatureScanPaths = getSignatureScanPaths(projectNameVersion, dockerTar);
             if (hubServerConfig.isPresent()) {
                 logger.debug("Signature scan is online.");
                 CodeLocationCreationService codeLocationCreationService = connectivityManager.getBlackDuckServicesFactory().get().createCodeLocationCreationService();
                 OnlineBlackDuckSignatureScanner blackDuckSignatureScanner = detectContext.getBean(OnlineBlackDuckSignatureScanner.class, signatureScannerOptions, scanBatchRunner, codeLocationCreationService, hubServerConfig.get());
-                CodeLocationCreationData<ScanBatchOutput> codeLocationCreationData = blackDuckSignatureScanner.performOnlineScan(projectNameVersion, installDirectory, dockerTar.orElse(null));
+                CodeLocationCreationData<ScanBatchOutput> codeLocationCreationData = blackDuckSignatureScanner.performOnlineScan(projectNameVersion, installDirectory, signatureScanPaths, dockerTar.orElse(null));
                 return SignatureScannerToolResult.createOnlineResult(codeLocationCreationData);
             } else {
                 logger.debug("Signature scan is offline.");
                 OfflineBlackDuckSignatureScanner blackDuckSignatureScanner = detectContext.getBean(OfflineBlackDuckSignatureScanner.class, signatureScannerOptions, scanBatchRunner);
-                ScanBatchOutput scanBatchOutput = blackDuckSignatureScanner.performScanActions(projectNameVersion, installDirectory, dockerTar.orElse(null));
+                ScanBatchOutput scanBatchOutput = blackDuckSignatureScanner.performScanActions(projectNameVersion, installDirectory, signatureScanPaths, dockerTar.orElse(null));
                 return SignatureScannerToolResult.createOfflineResult(scanBatchOutput);
             }
         } catch (IOException | InterruptedException | IntegrationException e) {
@@ -137,4 +175,26 @@ public class BlackDuckSignatureScannerTool {
         }
     }
 
+    private List<SignatureScanPath> getSignatureScanPaths(NameVersion projectNameVersion, Optional<File> dockerTar) throws IntegrationException, IOException, InterruptedException {
+        if (signatureScanPathsFuture == null) {
+            return createSignatureScanPathFinder().determinePathsAndExclusions(projectNameVersion, dockerTar.orElse(null));
+        }
+        try {
+            return signatureScanPathsFuture.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IntegrationException) {
+                throw (IntegrationException) e.getCause();
+            } else if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IntegrationException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private SignatureScanPathFinder createSignatureScanPathFinder() {
+        DirectoryManager directoryManager = detectContext.getBean(DirectoryManager.class);
+        DetectFileFinder detectFileFinder = detectContext.getBean(DetectFileFinder.class);
+        return new SignatureScanPathFinder(directoryManager, detectFileFinder, signatureScannerOptions);
+    }
+
 }
\ No newline at end of file
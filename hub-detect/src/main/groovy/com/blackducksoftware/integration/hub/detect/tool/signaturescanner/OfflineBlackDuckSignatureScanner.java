@@ -28,7 +28,6 @@ import java.util.List;
 
 import com.blackducksoftware.integration.hub.detect.workflow.codelocation.CodeLocationNameManager;
 import com.blackducksoftware.integration.hub.detect.workflow.event.EventSystem;
-import com.blackducksoftware.integration.hub.detect.workflow.file.DetectFileFinder;
 import com.blackducksoftware.integration.hub.detect.workflow.file.DirectoryManager;
 import com.synopsys.integration.blackduck.codelocation.signaturescanner.ScanBatch;
 import com.synopsys.integration.blackduck.codelocation.signaturescanner.ScanBatchBuilder;
@@ -37,9 +36,8 @@ import com.synopsys.integration.blackduck.codelocation.signaturescanner.Signatur
 import com.synopsys.integration.util.NameVersion;
 
 public class OfflineBlackDuckSignatureScanner extends BlackDuckSignatureScanner {
-    public OfflineBlackDuckSignatureScanner(final DirectoryManager directoryManager, final DetectFileFinder detectFileFinder,
-            final CodeLocationNameManager codeLocationNameManager, final BlackDuckSignatureScannerOptions signatureScannerOptions, final EventSystem eventSystem, final ScanBatchRunner scanBatchRunner) {
-        super(directoryManager, detectFileFinder, codeLocationNameManager, signatureScannerOptions, eventSystem, scanBatchRunner);
+    public OfflineBlackDuckSignatureScanner(final DirectoryManager directoryManager, final CodeLocationNameManager codeLocationNameManager, final BlackDuckSignatureScannerOptions signatureScannerOptions, final EventSystem eventSystem, final ScanBatchRunner scanBatchRunner) {
+        super(directoryManager, codeLocationNameManager, signatureScannerOptions, eventSystem, scanBatchRunner);
     }
 
     @Override
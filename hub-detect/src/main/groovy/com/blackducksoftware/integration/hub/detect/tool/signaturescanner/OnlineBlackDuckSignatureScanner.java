@@ -30,7 +30,6 @@ import java.util.List;
 import com.blackducksoftware.integration.hub.detect.exception.DetectUserFriendlyException;
 import com.blackducksoftware.integration.hub.detect.workflow.codelocation.CodeLocationNameManager;
 import com.blackducksoftware.integration.hub.detect.workflow.event.EventSystem;
-import com.blackducksoftware.integration.hub.detect.workflow.file.DetectFileFinder;
 import com.blackducksoftware.integration.hub.detect.workflow.file.DirectoryManager;
 import com.synopsys.integration.blackduck.codelocation.CodeLocationCreationData;
 import com.synopsys.integration.blackduck.codelocation.CodeLocationCreationService;
@@ -49,17 +48,17 @@ public class OnlineBlackDuckSignatureScanner extends BlackDuckSignatureScanner {
     private final CodeLocationCreationService codeLocationCreationService;
     private final BlackDuckServerConfig hubServerConfig;
 
-    public OnlineBlackDuckSignatureScanner(final DirectoryManager directoryManager, final DetectFileFinder detectFileFinder,
-        final CodeLocationNameManager codeLocationNameManager, final BlackDuckSignatureScannerOptions signatureScannerOptions, final EventSystem eventSystem, final ScanBatchRunner scanBatchRunner, final CodeLocationCreationService codeLocationCreationService,
+    public OnlineBlackDuckSignatureScanner(final DirectoryManager directoryManager, final CodeLocationNameManager codeLocationNameManager, final BlackDuckSignatureScannerOptions signatureScannerOptions, final EventSystem eventSystem, final ScanBatchRunner scanBatchRunner, final CodeLocationCreationService codeLocationCreationService,
         final BlackDuckServerConfig hubServerConfig) {
-        super(directoryManager, detectFileFinder, codeLocationNameManager, signatureScannerOptions, eventSystem, scanBatchRunner);
+        super(directoryManager, codeLocationNameManager, signatureScannerOptions, eventSystem, scanBatchRunner);
         this.codeLocationCreationService = codeLocationCreationService;
         this.hubServerConfig = hubServerConfig;
     }
 
-    public CodeLocationCreationData<ScanBatchOutput> performOnlineScan(NameVersion projectNameVersion, File installDirectory, File dockerTarFile) throws InterruptedException, IntegrationException, DetectUserFriendlyException, IOException {
+    public CodeLocationCreationData<ScanBatchOutput> performOnlineScan(NameVersion projectNameVersion, File installDirectory, List<SignatureScanPath> signatureScanPaths, File dockerTarFile)
+        throws InterruptedException, IntegrationException, DetectUserFriendlyException, IOException {
         NotificationTaskRange notificationTaskRange = codeLocationCreationService.calculateCodeLocationRange();
-        ScanBatchOutput scanBatchOutput = performScanActions(projectNameVersion, installDirectory, dockerTarFile);
+        ScanBatchOutput scanBatchOutput = performScanActions(projectNameVersion, installDirectory, signatureScanPaths, dockerTarFile);
         CodeLocationCreationData<ScanBatchOutput> creationData = new CodeLocationCreationData<>(notificationTaskRange, scanBatchOutput);
         return creationData;
     }
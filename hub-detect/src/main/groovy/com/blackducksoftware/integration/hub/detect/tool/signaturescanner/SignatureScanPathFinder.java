@@ -0,0 +1,108 @@
+/**
+ * hub-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.blackducksoftware.integration.hub.detect.tool.signaturescanner;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.blackducksoftware.integration.hub.detect.configuration.DetectProperty;
+import com.blackducksoftware.integration.hub.detect.workflow.file.DetectFileFinder;
+import com.blackducksoftware.integration.hub.detect.workflow.file.DirectoryManager;
+import com.blackducksoftware.integration.hub.detect.workflow.hub.ExclusionPatternCreator;
+import com.synopsys.integration.exception.IntegrationException;
+import com.synopsys.integration.util.NameVersion;
+
+public class SignatureScanPathFinder {
+    private final Logger logger = LoggerFactory.getLogger(SignatureScanPathFinder.class);
+
+    private final DirectoryManager directoryManager;
+    private final DetectFileFinder detectFileFinder;
+    private final BlackDuckSignatureScannerOptions signatureScannerOptions;
+
+    public SignatureScanPathFinder(final DirectoryManager directoryManager, final DetectFileFinder detectFileFinder, final BlackDuckSignatureScannerOptions signatureScannerOptions) {
+        this.directoryManager = directoryManager;
+        this.detectFileFinder = detectFileFinder;
+        this.signatureScannerOptions = signatureScannerOptions;
+    }
+
+    public List<SignatureScanPath> determinePathsAndExclusions(final NameVersion projectNameVersion, final File dockerTarFile) throws IntegrationException, IOException {
+        final Integer maxDepth = signatureScannerOptions.getMaxDepth();
+        final String[] providedSignatureScanPaths = signatureScannerOptions.getSignatureScannerPaths();
+        final boolean userProvidedScanTargets = null != providedSignatureScanPaths && providedSignatureScanPaths.length > 0;
+        final String[] providedExclusionPatterns = signatureScannerOptions.getExclusionPatterns();
+        final String[] hubSignatureScannerExclusionNamePatterns = signatureScannerOptions.getExclusionNamePatterns();
+
+        List<SignatureScanPath> signatureScanPaths = new ArrayList<>();
+        if (null != projectNameVersion.getName() && null != projectNameVersion.getVersion() && userProvidedScanTargets) {
+            for (final String path : providedSignatureScanPaths) {
+                logger.info(String.format("Registering explicit scan path %s", path));
+                SignatureScanPath scanPath = createScanPath(path, maxDepth, hubSignatureScannerExclusionNamePatterns, providedExclusionPatterns);
+                signatureScanPaths.add(scanPath);
+            }
+        } else if (dockerTarFile != null) {
+            SignatureScanPath scanPath = createScanPath(dockerTarFile.getCanonicalPath(), maxDepth, hubSignatureScannerExclusionNamePatterns, providedExclusionPatterns);
+            signatureScanPaths.add(scanPath);
+        } else {
+            final String sourcePath = directoryManager.getSourceDirectory().getAbsolutePath();
+            if (userProvidedScanTargets) {
+                logger.warn(String.format("No Project name or version found. Skipping User provided scan targets - registering the source path %s to scan", sourcePath));
+            } else {
+                logger.info(String.format("No scan targets provided - registering the source path %s to scan", sourcePath));
+            }
+            SignatureScanPath scanPath = createScanPath(sourcePath, maxDepth, hubSignatureScannerExclusionNamePatterns, providedExclusionPatterns);
+            signatureScanPaths.add(scanPath);
+        }
+        return signatureScanPaths;
+    }
+
+    private SignatureScanPath createScanPath(final String path, Integer maxDepth, final String[] hubSignatureScannerExclusionNamePatterns, final String[] providedExclusionPatterns) throws IntegrationException {
+        try {
+            final File target = new File(path);
+            final String targetPath = target.getCanonicalPath();
+            final ExclusionPatternCreator exclusionPatternCreator = new ExclusionPatternCreator(detectFileFinder, target);
+
+            final String maxDepthHitMsg = String.format("Maximum depth %d hit while traversing source tree to generate signature scanner exclusion patterns. To search deeper, adjust the value of property %s",
+                    maxDepth, DetectProperty.DETECT_BLACKDUCK_SIGNATURE_SCANNER_EXCLUSION_PATTERN_SEARCH_DEPTH.getPropertyName());
+
+            final Set<String> scanExclusionPatterns = exclusionPatternCreator.determineExclusionPatterns(maxDepthHitMsg, maxDepth, hubSignatureScannerExclusionNamePatterns);
+            if (null != providedExclusionPatterns) {
+                for (final String providedExclusionPattern : providedExclusionPatterns) {
+                    scanExclusionPatterns.add(providedExclusionPattern);
+                }
+            }
+            SignatureScanPath signatureScanPath = new SignatureScanPath();
+            signatureScanPath.targetPath = targetPath;
+            signatureScanPath.exclusions.addAll(scanExclusionPatterns);
+            return signatureScanPath;
+        } catch (final IOException e) {
+            throw new IntegrationException(e.getMessage(), e);
+        }
+    }
+}
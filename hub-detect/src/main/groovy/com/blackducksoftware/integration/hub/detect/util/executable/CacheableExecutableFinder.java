@@ -65,7 +65,7 @@ public class CacheableExecutableFinder {
         this.detectConfiguration = detectConfiguration;
     }
 
-    public File getExecutable(final CacheableExecutableType executableType) throws DetectorException {
+    public synchronized File getExecutable(final CacheableExecutableType executableType) throws DetectorException {
         if (alreadyFound.containsKey(executableType)) {
             logger.debug("Already found executable, resolving with cached value.");
             return alreadyFound.get(executableType);
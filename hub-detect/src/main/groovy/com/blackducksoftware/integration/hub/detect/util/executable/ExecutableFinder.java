@@ -28,6 +28,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -44,10 +45,12 @@ public class ExecutableFinder {
 
     private final DetectFileFinder detectFileFinder;
     private final DetectInfo detectInfo;
+    private final ExecutableResolutionCache executableResolutionCache;
 
-    public ExecutableFinder(final DetectFileFinder detectFileFinder, final DetectInfo detectInfo) {
+    public ExecutableFinder(final DetectFileFinder detectFileFinder, final DetectInfo detectInfo, final ExecutableResolutionCache executableResolutionCache) {
         this.detectFileFinder = detectFileFinder;
         this.detectInfo = detectInfo;
+        this.executableResolutionCache = executableResolutionCache;
     }
 
     public String getExecutableName(final ExecutableType executableType) {
@@ -89,10 +92,20 @@ public class ExecutableFinder {
         return executableFile;
     }
 
-    private File findExecutableFileFromSystemPath(final String executable) {
+    private synchronized File findExecutableFileFromSystemPath(final String executable) {
         final String systemPath = System.getenv("PATH");
         if (!cachedSystemExecutables.containsKey(executable)) {
-            cachedSystemExecutables.put(executable, findExecutableFileFromPath(systemPath, executable));
+            final Optional<File> previouslyResolved = executableResolutionCache.getResolvedExecutable(executable, systemPath);
+            if (previouslyResolved.isPresent()) {
+                logger.debug(String.format("Resolved executable %s from the executable cache.", executable));
+                cachedSystemExecutables.put(executable, previouslyResolved.get());
+            } else {
+                final File executableFile = findExecutableFileFromPath(systemPath, executable);
+                if (executableFile != null) {
+                    executableResolutionCache.putResolvedExecutable(executable, systemPath, executableFile);
+                }
+                cachedSystemExecutables.put(executable, executableFile);
+            }
         }
         return cachedSystemExecutables.get(executable);
 
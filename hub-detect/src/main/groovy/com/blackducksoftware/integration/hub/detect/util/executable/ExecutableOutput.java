@@ -23,18 +23,37 @@
  */
 package com.blackducksoftware.integration.hub.detect.util.executable;
 
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 public class ExecutableOutput {
     private int returnCode = 0;
     private final String standardOutput;
     private final String errorOutput;
+    private final File standardOutputFile;
 
     public ExecutableOutput(final int returnCode, final String standardOutput, final String errorOutput) {
+        this(returnCode, standardOutput, errorOutput, null);
+    }
+
+    /**
+     * Used when the standard output was too large to keep in memory and was written to the given file instead.
+     */
+    public ExecutableOutput(final int returnCode, final String standardOutput, final String errorOutput, final File standardOutputFile) {
         this.returnCode = returnCode;
         this.standardOutput = standardOutput;
         this.errorOutput = errorOutput;
+        this.standardOutputFile = standardOutputFile;
     }
     
     public ExecutableOutput(final String standardOutput, final String errorOutput) {
@@ -42,7 +61,48 @@ public class ExecutableOutput {
     }
 
     public List<String> getStandardOutputAsList() {
-        return Arrays.asList(standardOutput.split(System.lineSeparator()));
+        return Arrays.asList(getStandardOutput().split(System.lineSeparator()));
+    }
+
+    /**
+     * Hands each line of the standard output to the consumer without reading a spilled output file into memory.
+     */
+    public void forEachStandardOutputLine(final Consumer<String> lineConsumer) throws IOException {
+        if (standardOutputFile == null) {
+            if (!standardOutput.isEmpty()) {
+                Arrays.stream(standardOutput.split(System.lineSeparator())).forEach(lineConsumer);
+            }
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(standardOutputFile.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineConsumer.accept(line);
+            }
+        }
+    }
+
+    /**
+     * Reads the standard output from the spilled output file when there is one, otherwise from memory. The caller closes the reader.
+     */
+    public Reader openStandardOutputReader() throws IOException {
+        if (standardOutputFile == null) {
+            return new StringReader(standardOutput);
+        }
+        return Files.newBufferedReader(standardOutputFile.toPath(), StandardCharsets.UTF_8);
+    }
+
+    public Optional<File> getStandardOutputFile() {
+        return Optional.ofNullable(standardOutputFile);
+    }
+
+    /**
+     * Removes the file the standard output was spilled to, if any. The standard output is no longer available afterwards.
+     */
+    public void deleteStandardOutputFile() {
+        if (standardOutputFile != null) {
+            standardOutputFile.delete();
+        }
     }
 
     public List<String> getErrorOutputAsList() {
@@ -50,7 +110,14 @@ public class ExecutableOutput {
     }
 
     public String getStandardOutput() {
-        return standardOutput;
+        if (standardOutputFile == null) {
+            return standardOutput;
+        }
+        try {
+            return new String(Files.readAllBytes(standardOutputFile.toPath()), StandardCharsets.UTF_8).trim();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     public String getErrorOutput() {
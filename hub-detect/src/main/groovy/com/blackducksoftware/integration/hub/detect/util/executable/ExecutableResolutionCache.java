@@ -0,0 +1,155 @@
+/**
+ * hub-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.blackducksoftware.integration.hub.detect.util.executable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.blackducksoftware.integration.hub.detect.workflow.file.DetectFileUtils;
+
+/**
+ * Remembers executables resolved from a search path across invocations of detect.
+ * Resolutions are keyed by the search path they were found on together with the modified time of every directory on it, so adding or removing an executable anywhere on the path resolves it again.
+ * A resolution is only trusted while the executable has the modified time it had when it was cached.
+ * The output of a version check is remembered the same way, keyed by the executable's path and modified time and the search path it ran with, so warm runs do not start the executable at all.
+ */
+public class ExecutableResolutionCache {
+    private static final String CACHE_FILE_NAME = "executable-resolution-cache.properties";
+    private static final String VALUE_SEPARATOR = "|";
+
+    private final Logger logger = LoggerFactory.getLogger(ExecutableResolutionCache.class);
+    private final File cacheDirectory;
+
+    private Properties entries = null;
+
+    public ExecutableResolutionCache(final File cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    public synchronized Optional<File> getResolvedExecutable(final String executableName, final String searchPath) {
+        final String value = getEntries().getProperty(resolutionKey(executableName, searchPath));
+        if (value == null) {
+            return Optional.empty();
+        }
+        final String path = StringUtils.substringBeforeLast(value, VALUE_SEPARATOR);
+        final File executable = new File(path);
+        if (!isUnchanged(executable, StringUtils.substringAfterLast(value, VALUE_SEPARATOR))) {
+            logger.debug(String.format("Cached executable %s has changed and will be resolved again.", path));
+            return Optional.empty();
+        }
+        return Optional.of(executable);
+    }
+
+    public synchronized void putResolvedExecutable(final String executableName, final String searchPath, final File executable) {
+        put(resolutionKey(executableName, searchPath), executable.getAbsolutePath() + VALUE_SEPARATOR + executable.lastModified());
+    }
+
+    public synchronized Optional<String> getVersionOutput(final File executable, final String searchPath) {
+        if (!executable.isFile()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(getEntries().getProperty(versionKey(executable, searchPath)));
+    }
+
+    public synchronized void putVersionOutput(final File executable, final String searchPath, final String versionOutput) {
+        if (executable.isFile()) {
+            put(versionKey(executable, searchPath), StringUtils.defaultString(versionOutput));
+        }
+    }
+
+    private boolean isUnchanged(final File executable, final String cachedModified) {
+        return executable.isFile() && Long.toString(executable.lastModified()).equals(cachedModified);
+    }
+
+    private String resolutionKey(final String executableName, final String searchPath) {
+        return "resolved." + executableName + "." + hash(getSearchPathState(searchPath));
+    }
+
+    private String versionKey(final File executable, final String searchPath) {
+        final String executableState = executable.getAbsolutePath() + VALUE_SEPARATOR + executable.lastModified();
+        return "version." + executable.getName() + "." + hash(executableState + File.pathSeparator + getSearchPathState(searchPath));
+    }
+
+    private String getSearchPathState(final String searchPath) {
+        final StringBuilder searchPathState = new StringBuilder();
+        for (final String searchDirectory : StringUtils.split(StringUtils.defaultString(searchPath), File.pathSeparator)) {
+            searchPathState.append(searchDirectory).append(VALUE_SEPARATOR).append(new File(searchDirectory).lastModified()).append(File.pathSeparator);
+        }
+        return searchPathState.toString();
+    }
+
+    private Properties getEntries() {
+        if (entries == null) {
+            entries = new Properties();
+            final File cacheFile = new File(cacheDirectory, CACHE_FILE_NAME);
+            if (cacheFile.isFile()) {
+                try (InputStream inputStream = Files.newInputStream(cacheFile.toPath())) {
+                    entries.load(inputStream);
+                } catch (final IOException e) {
+                    logger.debug("Unable to read the executable resolution cache, it will be rebuilt: " + e.getMessage());
+                    entries.clear();
+                }
+            }
+        }
+        return entries;
+    }
+
+    private void put(final String key, final String value) {
+        final Properties currentEntries = getEntries();
+        if (value.equals(currentEntries.getProperty(key))) {
+            return;
+        }
+        currentEntries.setProperty(key, value);
+        try {
+            DetectFileUtils.writeAtomically(new File(cacheDirectory, CACHE_FILE_NAME), outputStream -> currentEntries.store(outputStream, null));
+        } catch (final IOException e) {
+            logger.debug("Unable to write the executable resolution cache: " + e.getMessage());
+        }
+    }
+
+    private String hash(final String value) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            final byte[] hash = digest.digest(StringUtils.defaultString(value).getBytes(StandardCharsets.UTF_8));
+            final StringBuilder hex = new StringBuilder();
+            for (final byte b : hash) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -24,6 +24,7 @@
 package com.blackducksoftware.integration.hub.detect.util.executable;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
 import java.util.List;
@@ -76,14 +77,50 @@ public class ExecutableRunner {
         return runExecutable(executable, logger::debug, logger::trace);
     }
 
+    /**
+     * Hands each line of standard output to the consumer as the executable produces it. The returned output will not contain the standard output.
+     */
+    public ExecutableOutput executeStreaming(final Executable executable, final Consumer<String> standardOutputConsumer) throws ExecutableRunnerException {
+        return runExecutable(executable, standardOutputConsumer, logger::info, logger::trace);
+    }
+
+    /**
+     * Keeps the standard output in memory until it is larger than the threshold, after which it is written to a file in the spill directory.
+     * The caller should call deleteStandardOutputFile on the returned output once it has been parsed.
+     */
+    public ExecutableOutput executeSpilling(final Executable executable, final File spillDirectory, final long spillThresholdInChars) throws ExecutableRunnerException {
+        final SpillingOutputCollector collector = new SpillingOutputCollector(spillDirectory, spillThresholdInChars);
+        final ExecutableOutput streamedOutput;
+        try {
+            streamedOutput = runExecutable(executable, collector, logger::info, logger::trace);
+            collector.close();
+        } catch (final ExecutableRunnerException e) {
+            collector.discard();
+            throw e;
+        } catch (final IOException e) {
+            collector.discard();
+            throw new ExecutableRunnerException(e);
+        }
+        if (collector.isSpilled()) {
+            logger.debug("Executable output was written to: " + collector.getSpillFile().getAbsolutePath());
+            return new ExecutableOutput(streamedOutput.getReturnCode(), "", streamedOutput.getErrorOutput(), collector.getSpillFile());
+        }
+        return new ExecutableOutput(streamedOutput.getReturnCode(), collector.getOutput().trim(), streamedOutput.getErrorOutput());
+    }
+
     public ExecutableOutput runExecutable(final Executable executable, final Consumer<String> standardLoggingMethod, final Consumer<String> traceLoggingMethod) throws ExecutableRunnerException {
+        return runExecutable(executable, null, standardLoggingMethod, traceLoggingMethod);
+    }
+
+    private ExecutableOutput runExecutable(final Executable executable, final Consumer<String> standardOutputConsumer, final Consumer<String> standardLoggingMethod, final Consumer<String> traceLoggingMethod)
+        throws ExecutableRunnerException {
         standardLoggingMethod.accept(String.format("Running executable >%s", executable.getMaskedExecutableDescription()));
         try {
             final ProcessBuilder processBuilder = executable.createProcessBuilder();
             final Process process = processBuilder.start();
 
             try (InputStream standardOutputStream = process.getInputStream(); InputStream standardErrorStream = process.getErrorStream()) {
-                final ExecutableStreamThread standardOutputThread = new ExecutableStreamThread(standardOutputStream, standardLoggingMethod, traceLoggingMethod);
+                final ExecutableStreamThread standardOutputThread = new ExecutableStreamThread(standardOutputStream, standardOutputConsumer, standardLoggingMethod, traceLoggingMethod);
                 standardOutputThread.start();
 
                 final ExecutableStreamThread errorOutputThread = new ExecutableStreamThread(standardErrorStream, standardLoggingMethod, traceLoggingMethod);
@@ -95,12 +132,18 @@ public class ExecutableRunner {
                 standardOutputThread.join();
                 errorOutputThread.join();
 
+                if (standardOutputThread.getLineConsumerFailure() != null) {
+                    throw new ExecutableRunnerException(standardOutputThread.getLineConsumerFailure());
+                }
+
                 final String standardOutput = standardOutputThread.getExecutableOutput().trim();
                 final String errorOutput = errorOutputThread.getExecutableOutput().trim();
 
                 final ExecutableOutput output = new ExecutableOutput(returnCode, standardOutput, errorOutput);
                 return output;
             }
+        } catch (final ExecutableRunnerException e) {
+            throw e;
         } catch (final Exception e) {
             throw new ExecutableRunnerException(e);
         }
@@ -28,43 +28,85 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.function.Consumer;
 
+import org.slf4j.MDC;
+
 public class ExecutableStreamThread extends Thread {
     private final BufferedReader bufferedReader;
     private final StringBuilder stringBuilder;
+    private final Consumer<String> lineConsumer;
     private final Consumer<String> outputLoggingMethod;
     private final Consumer<String> traceLoggingMethod;
+    private final Map<String, String> loggingContext;
 
     private String executableOutput;
+    private RuntimeException lineConsumerFailure;
 
     public ExecutableStreamThread(final InputStream executableStream, final Consumer<String> outputLoggingMethod, final Consumer<String> traceLoggingMethod) {
+        this(executableStream, null, outputLoggingMethod, traceLoggingMethod);
+    }
+
+    /**
+     * If a line consumer is provided, each line is handed to it as it is read and the output is not kept in memory.
+     */
+    public ExecutableStreamThread(final InputStream executableStream, final Consumer<String> lineConsumer, final Consumer<String> outputLoggingMethod, final Consumer<String> traceLoggingMethod) {
         super(Thread.currentThread().getName() + "-Executable_Stream_Thread");
+        this.lineConsumer = lineConsumer;
         this.outputLoggingMethod = outputLoggingMethod;
         this.traceLoggingMethod = traceLoggingMethod;
         final InputStreamReader reader = new InputStreamReader(executableStream, StandardCharsets.UTF_8);
         this.bufferedReader = new BufferedReader(reader);
-        this.stringBuilder = new StringBuilder();
+        this.stringBuilder = lineConsumer == null ? new StringBuilder() : null;
+        // The output is logged on behalf of the thread that started the executable, so it keeps that thread's logging context
+        this.loggingContext = MDC.getCopyOfContextMap();
     }
 
     @Override
     public void run() {
+        if (loggingContext != null) {
+            MDC.setContextMap(loggingContext);
+        }
         try {
             String line;
             final String separator = System.lineSeparator();
             while ((line = bufferedReader.readLine()) != null) {
-                stringBuilder.append(line + separator);
+                if (lineConsumer != null) {
+                    consumeLine(line);
+                } else {
+                    stringBuilder.append(line).append(separator);
+                }
                 outputLoggingMethod.accept(line);
             }
         } catch (final IOException e) {
             // Ignore
             traceLoggingMethod.accept(e.toString());
         }
-        this.executableOutput = stringBuilder.toString();
+        this.executableOutput = stringBuilder == null ? "" : stringBuilder.toString();
+    }
+
+    private void consumeLine(final String line) {
+        if (lineConsumerFailure != null) {
+            return;
+        }
+        try {
+            lineConsumer.accept(line);
+        } catch (final RuntimeException e) {
+            // Reported once the thread is joined, the stream still has to be drained so the process can finish.
+            lineConsumerFailure = e;
+        }
     }
 
     public String getExecutableOutput() {
         return executableOutput;
     }
 
+    /**
+     * The first exception thrown by the line consumer, after which no further lines were handed to it.
+     */
+    public RuntimeException getLineConsumerFailure() {
+        return lineConsumerFailure;
+    }
+
 }
@@ -0,0 +1,114 @@
+/**
+ * hub-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.blackducksoftware.integration.hub.detect.util.executable;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.function.Consumer;
+
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Collects output lines in memory until they pass a size threshold, after which everything collected so far and every following line is written to a file instead.
+ */
+public class SpillingOutputCollector implements Consumer<String>, Closeable {
+    private final File spillDirectory;
+    private final long spillThresholdInChars;
+    private final String separator = System.lineSeparator();
+
+    private StringBuilder buffer = new StringBuilder();
+    private File spillFile;
+    private BufferedWriter spillWriter;
+    private IOException spillFailure;
+
+    public SpillingOutputCollector(final File spillDirectory, final long spillThresholdInChars) {
+        this.spillDirectory = spillDirectory;
+        this.spillThresholdInChars = spillThresholdInChars;
+    }
+
+    @Override
+    public void accept(final String line) {
+        if (spillFailure != null) {
+            return;
+        }
+        try {
+            if (spillWriter != null) {
+                spillWriter.write(line);
+                spillWriter.write(separator);
+                return;
+            }
+            buffer.append(line).append(separator);
+            if (buffer.length() > spillThresholdInChars) {
+                spill();
+            }
+        } catch (final IOException e) {
+            // Reported when the collector is closed, the stream still has to be drained so the process can finish.
+            spillFailure = e;
+        }
+    }
+
+    private void spill() throws IOException {
+        spillDirectory.mkdirs();
+        spillFile = File.createTempFile("executable-output-", ".txt", spillDirectory);
+        spillWriter = Files.newBufferedWriter(spillFile.toPath(), StandardCharsets.UTF_8);
+        spillWriter.append(buffer);
+        buffer = null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (spillWriter != null) {
+            spillWriter.close();
+        }
+        if (spillFailure != null) {
+            throw spillFailure;
+        }
+    }
+
+    /**
+     * Closes the collector and deletes anything it spilled, for when the output will not be handed out.
+     */
+    public void discard() {
+        IOUtils.closeQuietly(spillWriter);
+        if (spillFile != null) {
+            spillFile.delete();
+        }
+    }
+
+    public boolean isSpilled() {
+        return spillFile != null;
+    }
+
+    public File getSpillFile() {
+        return spillFile;
+    }
+
+    public String getOutput() {
+        return buffer == null ? "" : buffer.toString();
+    }
+}
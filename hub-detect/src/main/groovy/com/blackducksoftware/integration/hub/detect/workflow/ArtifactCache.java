@@ -0,0 +1,261 @@
+/**
+ * hub-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.blackducksoftware.integration.hub.detect.workflow;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.blackducksoftware.integration.hub.detect.workflow.file.DetectFileUtils;
+
+/**
+ * Keeps artifacts downloaded from Artifactory, and the properties used to locate them, across invocations of detect.
+ * Artifacts are stored by the sha-256 of their content and verified before they are reused, properties are reused until they are older than the time to live and revalidated with the validators Artifactory returned after that.
+ */
+public class ArtifactCache {
+    private static final String INDEX_FILE_NAME = "artifact-cache.properties";
+    private static final String INDEX_LOCK_FILE_NAME = "artifact-cache.lock";
+    private static final String VALUE_SEPARATOR = "|";
+
+    private final Logger logger = LoggerFactory.getLogger(ArtifactCache.class);
+    private final File cacheDirectory;
+    private final long propertyTimeToLive;
+
+    private Properties entries = null;
+
+    public ArtifactCache(final File cacheDirectory, final long propertyTimeToLive) {
+        this.cacheDirectory = cacheDirectory;
+        this.propertyTimeToLive = propertyTimeToLive;
+    }
+
+    public synchronized Optional<CachedProperty> getProperty(final String propertyUrl) {
+        final String value = getEntries().getProperty(propertyKey(propertyUrl));
+        if (value == null) {
+            return Optional.empty();
+        }
+        final String[] pieces = value.split("\\" + VALUE_SEPARATOR, 4);
+        if (pieces.length != 4 || !StringUtils.isNumeric(pieces[0])) {
+            return Optional.empty();
+        }
+        final long fetchedAt = Long.parseLong(pieces[0]);
+        final boolean fresh = System.currentTimeMillis() - fetchedAt < propertyTimeToLive;
+        return Optional.of(new CachedProperty(pieces[3], StringUtils.trimToNull(pieces[1]), StringUtils.trimToNull(pieces[2]), fresh));
+    }
+
+    public synchronized void putProperty(final String propertyUrl, final String propertyValue, final String entityTag, final String lastModified) {
+        final String value = System.currentTimeMillis() + VALUE_SEPARATOR + StringUtils.defaultString(entityTag) + VALUE_SEPARATOR + StringUtils.defaultString(lastModified) + VALUE_SEPARATOR + propertyValue;
+        put(propertyKey(propertyUrl), value);
+    }
+
+    public synchronized void refreshProperty(final String propertyUrl, final CachedProperty cachedProperty) {
+        putProperty(propertyUrl, cachedProperty.getValue(), cachedProperty.getEntityTag(), cachedProperty.getLastModified());
+    }
+
+    /**
+     * Finds the artifact previously downloaded from the given source, only if its content still has the hash it was stored with.
+     */
+    public Optional<File> findArtifact(final String source) {
+        final String value;
+        synchronized (this) {
+            value = getEntries().getProperty(artifactKey(source));
+        }
+        if (value == null) {
+            return Optional.empty();
+        }
+        final String sha256 = StringUtils.substringBefore(value, "/");
+        final File artifact = new File(cacheDirectory, value);
+        if (!artifact.isFile()) {
+            logger.debug(String.format("Cached artifact %s no longer exists.", artifact.getAbsolutePath()));
+            return Optional.empty();
+        }
+        try (InputStream inputStream = Files.newInputStream(artifact.toPath())) {
+            final String actualSha256 = sha256(inputStream);
+            if (!sha256.equals(actualSha256)) {
+                logger.warn(String.format("Cached artifact %s is corrupt and will be downloaded again.", artifact.getAbsolutePath()));
+                Files.deleteIfExists(artifact.toPath());
+                return Optional.empty();
+            }
+        } catch (final IOException e) {
+            logger.debug(String.format("Unable to verify cached artifact %s: %s", artifact.getAbsolutePath(), e.getMessage()));
+            return Optional.empty();
+        }
+        return Optional.of(artifact);
+    }
+
+    /**
+     * Stores the content downloaded from the given source at '<sha256>/<fileName>' in the cache directory.
+     * The content is written to a temporary file first and only moved into place once it is complete and, when an expected hash is provided, matches it.
+     */
+    public File storeArtifact(final String source, final String fileName, final InputStream content, final String expectedSha256) throws IOException {
+        cacheDirectory.mkdirs();
+        final Path temporaryFile = Files.createTempFile(cacheDirectory.toPath(), fileName, ".part");
+        try {
+            final String sha256;
+            try (OutputStream outputStream = Files.newOutputStream(temporaryFile)) {
+                final MessageDigest digest = createDigest();
+                try (DigestInputStream digestInputStream = new DigestInputStream(content, digest)) {
+                    IOUtils.copy(digestInputStream, outputStream);
+                }
+                sha256 = toHex(digest.digest());
+            }
+            if (StringUtils.isNotBlank(expectedSha256) && !expectedSha256.equalsIgnoreCase(sha256)) {
+                throw new IOException(String.format("The artifact downloaded from %s has sha-256 %s but %s was expected.", source, sha256, expectedSha256));
+            }
+            final String relativePath = sha256 + "/" + fileName;
+            final File artifact = new File(cacheDirectory, relativePath);
+            artifact.getParentFile().mkdirs();
+            Files.move(temporaryFile, artifact.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            synchronized (this) {
+                put(artifactKey(source), relativePath);
+            }
+            return artifact;
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private String propertyKey(final String propertyUrl) {
+        return "property." + sha256(propertyUrl);
+    }
+
+    private String artifactKey(final String source) {
+        return "artifact." + sha256(source);
+    }
+
+    private Properties getEntries() {
+        if (entries == null) {
+            entries = readIndex();
+        }
+        return entries;
+    }
+
+    private Properties readIndex() {
+        final Properties index = new Properties();
+        final File indexFile = new File(cacheDirectory, INDEX_FILE_NAME);
+        if (indexFile.isFile()) {
+            try (InputStream inputStream = Files.newInputStream(indexFile.toPath())) {
+                index.load(inputStream);
+            } catch (final IOException e) {
+                logger.debug("Unable to read the artifact cache, it will be rebuilt: " + e.getMessage());
+                index.clear();
+            }
+        }
+        return index;
+    }
+
+    private void put(final String key, final String value) {
+        getEntries().setProperty(key, value);
+        // Other invocations of detect may have added entries since the index was read, so the index is read again and updated while holding the lock.
+        try {
+            cacheDirectory.mkdirs();
+            final Path lockFile = new File(cacheDirectory, INDEX_LOCK_FILE_NAME).toPath();
+            try (FileChannel lockChannel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE); FileLock lock = lockChannel.lock()) {
+                final Properties currentEntries = readIndex();
+                currentEntries.setProperty(key, value);
+                DetectFileUtils.writeAtomically(new File(cacheDirectory, INDEX_FILE_NAME), outputStream -> currentEntries.store(outputStream, null));
+                entries = currentEntries;
+            }
+        } catch (final IOException e) {
+            logger.debug("Unable to write the artifact cache: " + e.getMessage());
+        }
+    }
+
+    private String sha256(final String value) {
+        return toHex(createDigest().digest(StringUtils.defaultString(value).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private String sha256(final InputStream inputStream) throws IOException {
+        final MessageDigest digest = createDigest();
+        final byte[] buffer = new byte[8192];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return toHex(digest.digest());
+    }
+
+    private MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String toHex(final byte[] hash) {
+        final StringBuilder hex = new StringBuilder();
+        for (final byte b : hash) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    public static class CachedProperty {
+        private final String value;
+        private final String entityTag;
+        private final String lastModified;
+        private final boolean fresh;
+
+        public CachedProperty(final String value, final String entityTag, final String lastModified, final boolean fresh) {
+            this.value = value;
+            this.entityTag = entityTag;
+            this.lastModified = lastModified;
+            this.fresh = fresh;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public String getEntityTag() {
+            return entityTag;
+        }
+
+        public String getLastModified() {
+            return lastModified;
+        }
+
+        public boolean isFresh() {
+            return fresh;
+        }
+    }
+}
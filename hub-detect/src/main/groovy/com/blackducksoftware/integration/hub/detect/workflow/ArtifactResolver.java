@@ -27,11 +27,11 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,6 +41,7 @@ import com.blackducksoftware.integration.hub.detect.exception.DetectUserFriendly
 import com.google.gson.Gson;
 import com.synopsys.integration.exception.IntegrationException;
 import com.synopsys.integration.rest.connection.RestConnection;
+import com.synopsys.integration.rest.exception.IntegrationRestException;
 import com.synopsys.integration.rest.request.Request;
 import com.synopsys.integration.rest.request.Response;
 
@@ -48,10 +49,12 @@ public class ArtifactResolver {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
     private final ConnectionManager connectionManager;
     private final Gson gson;
+    private final ArtifactCache artifactCache;
 
-    public ArtifactResolver(final ConnectionManager connectionManager, final Gson gson) {
+    public ArtifactResolver(final ConnectionManager connectionManager, final Gson gson, final ArtifactCache artifactCache) {
         this.connectionManager = connectionManager;
         this.gson = gson;
+        this.artifactCache = artifactCache;
     }
 
     /**
@@ -109,10 +112,26 @@ public class ArtifactResolver {
 
     private Optional<String> downloadProperty(String apiUrl, String propertyKey) throws IntegrationException, DetectUserFriendlyException, IOException {
         String propertyUrl = apiUrl + "?properties=" + propertyKey;
+        Optional<ArtifactCache.CachedProperty> cachedProperty = artifactCache.getProperty(propertyUrl);
+        if (cachedProperty.isPresent() && cachedProperty.get().isFresh()) {
+            logger.debug("Using cached property: " + cachedProperty.get().getValue());
+            return Optional.of(cachedProperty.get().getValue());
+        }
         logger.debug("Downloading property: " + propertyUrl);
-        final Request request = new Request.Builder().uri(propertyUrl).build();
+        final Request.Builder requestBuilder = new Request.Builder().uri(propertyUrl);
+        if (cachedProperty.isPresent()) {
+            if (StringUtils.isNotBlank(cachedProperty.get().getEntityTag())) {
+                requestBuilder.addAdditionalHeader("If-None-Match", cachedProperty.get().getEntityTag());
+            }
+            if (StringUtils.isNotBlank(cachedProperty.get().getLastModified())) {
+                requestBuilder.addAdditionalHeader("If-Modified-Since", cachedProperty.get().getLastModified());
+            }
+        }
         final RestConnection restConnection = connectionManager.createUnauthenticatedRestConnection(propertyUrl);
-        try (final Response response = restConnection.execute(request)) {
+        try (final Response response = restConnection.execute(requestBuilder.build())) {
+            if (cachedProperty.isPresent() && isNotModified(response.getStatusCode())) {
+                return reuseCachedProperty(propertyUrl, cachedProperty.get());
+            }
             try (final InputStreamReader reader = new InputStreamReader(response.getContent())) {
                 logger.debug("Downloaded property, attempting to parse response.");
                 Map json = gson.fromJson(reader, Map.class);
@@ -121,47 +140,64 @@ public class ArtifactResolver {
                 Optional<String> foundProperty = propertyUrls.stream().findFirst();
                 if (foundProperty.isPresent()) {
                     logger.debug("Successfully parsed property: " + propertyUrls);
+                    artifactCache.putProperty(propertyUrl, foundProperty.get(), response.getHeaderValue("ETag"), response.getHeaderValue("Last-Modified"));
                 } else {
                     logger.debug("Failed to find property.");
                 }
                 return foundProperty;
             }
+        } catch (final IntegrationRestException e) {
+            if (cachedProperty.isPresent() && isNotModified(e.getHttpStatusCode())) {
+                return reuseCachedProperty(propertyUrl, cachedProperty.get());
+            }
+            throw e;
         }
     }
 
+    private boolean isNotModified(final Integer statusCode) {
+        return statusCode != null && statusCode == HttpURLConnection.HTTP_NOT_MODIFIED;
+    }
+
+    private Optional<String> reuseCachedProperty(String propertyUrl, ArtifactCache.CachedProperty cachedProperty) {
+        logger.debug("Property has not been modified, using cached property: " + cachedProperty.getValue());
+        artifactCache.refreshProperty(propertyUrl, cachedProperty);
+        return Optional.of(cachedProperty.getValue());
+    }
+
     public String parseFileName(String source) {
         String[] pieces = source.split("/");
         String filename = pieces[pieces.length - 1];
         return filename;
     }
 
-    public File downloadOrFindArtifact(File targetDir, String source) throws IntegrationException, DetectUserFriendlyException, IOException {
-        logger.debug("Downloading or finding artifact.");
-        String fileName = parseFileName(source);
-        logger.debug("Determined filename would be: " + fileName);
-        File fileTarget = new File(targetDir, fileName);
-        logger.debug(String.format("Looking for artifact at '%s' or downloading from '%s'.", fileTarget.getAbsolutePath(), source));
-        if (fileTarget.exists()) {
-            logger.debug("Artifact exists. Returning existing file.");
-            return fileTarget;
+    /**
+     * Finds the artifact in the artifact cache, downloading it into the cache when it was never downloaded or the cached copy fails verification.
+     * @param source The url of the artifact.
+     * @return the verified artifact in the cache
+     */
+    public File downloadOrFindArtifact(String source) throws IntegrationException, DetectUserFriendlyException, IOException {
+        logger.debug(String.format("Looking for cached artifact from '%s'.", source));
+        Optional<File> cachedArtifact = artifactCache.findArtifact(source);
+        if (cachedArtifact.isPresent()) {
+            logger.debug("Artifact exists. Returning cached file: " + cachedArtifact.get().getAbsolutePath());
+            return cachedArtifact.get();
         } else {
             logger.debug("Artifact does not exist. Will attempt to download it.");
-            return downloadArtifact(fileTarget, source);
+            return downloadArtifact(source);
         }
     }
 
-    public File downloadArtifact(File target, String source) throws DetectUserFriendlyException, IntegrationException, IOException {
-        logger.debug(String.format("Downloading for artifact to '%s' from '%s'.", target.getAbsolutePath(), source));
+    private File downloadArtifact(String source) throws DetectUserFriendlyException, IntegrationException, IOException {
+        String fileName = parseFileName(source);
+        logger.debug(String.format("Downloading artifact '%s' from '%s'.", fileName, source));
         final Request request = new Request.Builder().uri(source).build();
         final RestConnection restConnection = connectionManager.createUnauthenticatedRestConnection(source);
         try (Response response = restConnection.execute(request)) {
-            logger.debug("Deleting existing file.");
-            target.delete();
             logger.debug("Writing to file.");
-            final InputStream jarBytesInputStream = response.getContent();
-            FileUtils.copyInputStreamToFile(jarBytesInputStream, target);
-            logger.debug("Successfully wrote response to file.");
-            return target;
+            final InputStream artifactInputStream = response.getContent();
+            final File artifact = artifactCache.storeArtifact(source, fileName, artifactInputStream, response.getHeaderValue("X-Checksum-Sha256"));
+            logger.debug("Successfully wrote response to file: " + artifact.getAbsolutePath());
+            return artifact;
         }
     }
 
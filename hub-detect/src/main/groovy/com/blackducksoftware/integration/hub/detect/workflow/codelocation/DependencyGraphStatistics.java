@@ -0,0 +1,58 @@
+/**
+ * hub-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.blackducksoftware.integration.hub.detect.workflow.codelocation;
+
+public class DependencyGraphStatistics {
+    private final int dependencyCount;
+    private final int relationshipCount;
+    private final int directDependencyCount;
+    private final int maxDepth;
+
+    public DependencyGraphStatistics(final int dependencyCount, final int relationshipCount, final int directDependencyCount, final int maxDepth) {
+        this.dependencyCount = dependencyCount;
+        this.relationshipCount = relationshipCount;
+        this.directDependencyCount = directDependencyCount;
+        this.maxDepth = maxDepth;
+    }
+
+    public int getDependencyCount() {
+        return dependencyCount;
+    }
+
+    public int getRelationshipCount() {
+        return relationshipCount;
+    }
+
+    public int getDirectDependencyCount() {
+        return directDependencyCount;
+    }
+
+    public int getTransitiveDependencyCount() {
+        return dependencyCount - directDependencyCount;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * hub-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.blackducksoftware.integration.hub.detect.workflow.codelocation;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+
+public class DependencyGraphStatisticsCalculator {
+    /**
+     * Visits every dependency and relationship once, breadth first from the root dependencies, so the depth of a dependency is the length of the shortest path to it.
+     */
+    public DependencyGraphStatistics calculate(final DependencyGraph graph) {
+        final Set<ExternalId> visited = new HashSet<>();
+        Queue<ExternalId> currentLevel = new ArrayDeque<>();
+        for (final ExternalId rootDependency : graph.getRootDependencyExternalIds()) {
+            if (visited.add(rootDependency)) {
+                currentLevel.add(rootDependency);
+            }
+        }
+        final int directDependencyCount = visited.size();
+
+        int relationshipCount = 0;
+        int maxDepth = 0;
+        while (!currentLevel.isEmpty()) {
+            maxDepth++;
+            final Queue<ExternalId> nextLevel = new ArrayDeque<>();
+            for (final ExternalId parent : currentLevel) {
+                for (final ExternalId child : graph.getChildrenExternalIdsForParent(parent)) {
+                    relationshipCount++;
+                    if (visited.add(child)) {
+                        nextLevel.add(child);
+                    }
+                }
+            }
+            currentLevel = nextLevel;
+        }
+
+        return new DependencyGraphStatistics(visited.size(), relationshipCount, directDependencyCount, maxDepth);
+    }
+}
@@ -33,6 +33,8 @@ public class DetectCodeLocation {
     private final ExternalId externalId;
     private final DependencyGraph dependencyGraph;
 
+    private DependencyGraphStatistics dependencyGraphStatistics;
+
     public static class Builder {
         private final DetectCodeLocationType codeLocationType;
         private final String sourcePath;
@@ -85,4 +87,12 @@ public class DetectCodeLocation {
         return dependencyGraph;
     }
 
+    // Calculated once and shared by every report that describes this code location.
+    public synchronized DependencyGraphStatistics getDependencyGraphStatistics() {
+        if (dependencyGraphStatistics == null) {
+            dependencyGraphStatistics = new DependencyGraphStatisticsCalculator().calculate(dependencyGraph);
+        }
+        return dependencyGraphStatistics;
+    }
+
 }
@@ -27,6 +27,8 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.io.output.TeeOutputStream;
 import org.slf4j.Logger;
@@ -35,12 +37,15 @@ import org.slf4j.LoggerFactory;
 import com.blackducksoftware.integration.hub.detect.detector.ExtractionId;
 import com.blackducksoftware.integration.hub.detect.workflow.event.Event;
 import com.blackducksoftware.integration.hub.detect.workflow.event.EventSystem;
+import com.blackducksoftware.integration.hub.detect.workflow.extraction.ExtractionManager;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
 
 public class DiagnosticLogger {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
@@ -53,7 +58,7 @@ public class DiagnosticLogger {
     private File stdOutFile;
     private FileOutputStream stdOutStream;
     private FileAppender<ILoggingEvent> fileAppender;
-    private FileAppender<ILoggingEvent> extractionAppender;
+    private final Map<String, FileAppender<ILoggingEvent>> extractionAppenders = new ConcurrentHashMap<>();
 
     public DiagnosticLogger(File logDirectory, EventSystem eventSystem) {
 
@@ -64,7 +69,7 @@ public class DiagnosticLogger {
 
         logger.info("Attempting to redirect log messages.");
         try {
-            fileAppender = addAppender(getLogFile().getCanonicalPath());
+            fileAppender = addAppender(getLogFile().getCanonicalPath(), null);
         } catch (final IOException e) {
             logger.info("Failed to redirect.", e);
         }
@@ -103,7 +108,7 @@ public class DiagnosticLogger {
         final File logFile = new File(logDir, extractionId.toUniqueString() + ".txt");
         try {
             final String logFilePath = logFile.getCanonicalPath();
-            extractionAppender = addAppender(logFilePath);
+            extractionAppenders.put(extractionId.toUniqueString(), addAppender(logFilePath, new ExtractionFilter(extractionId.toUniqueString())));
             logger.info("Redirected to file: " + logFilePath);
         } catch (final IOException e) {
             logger.info("Failed to redirect.", e);
@@ -113,6 +118,7 @@ public class DiagnosticLogger {
 
     public void stopLoggingExtraction(final ExtractionId extractionId) {
         logger.info("Diagnostics finished redirecting for extraction: " + extractionId.toUniqueString());
+        final FileAppender<ILoggingEvent> extractionAppender = extractionAppenders.remove(extractionId.toUniqueString());
         if (extractionAppender != null) {
             removeAppender(extractionAppender);
             extractionAppender.stop();
@@ -126,10 +132,10 @@ public class DiagnosticLogger {
 
     private void removeAppender(final FileAppender<ILoggingEvent> appender) {
         final ch.qos.logback.classic.Logger logbackLogger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(LOGBACK_LOGGER_NAME);
-        logbackLogger.detachAppender(extractionAppender);
+        logbackLogger.detachAppender(appender);
     }
 
-    private FileAppender<ILoggingEvent> addAppender(final String file) {
+    private FileAppender<ILoggingEvent> addAppender(final String file, final Filter<ILoggingEvent> filter) {
         final LoggerContext lc = (LoggerContext) LoggerFactory.getILoggerFactory();
         final PatternLayoutEncoder ple = new PatternLayoutEncoder();
 
@@ -141,6 +147,11 @@ public class DiagnosticLogger {
         appender.setFile(file);
         appender.setEncoder(ple);
         appender.setContext(lc);
+        if (filter != null) {
+            filter.setContext(lc);
+            filter.start();
+            appender.addFilter(filter);
+        }
         appender.start();
 
         final ch.qos.logback.classic.Logger logbackLogger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(LOGBACK_LOGGER_NAME);
@@ -160,6 +171,21 @@ public class DiagnosticLogger {
         return dest;
     }
 
+    // Extractions may run concurrently, so an extraction log only accepts lines logged while that extraction is the thread's context
+    private static class ExtractionFilter extends Filter<ILoggingEvent> {
+        private final String extractionId;
+
+        public ExtractionFilter(final String extractionId) {
+            this.extractionId = extractionId;
+        }
+
+        @Override
+        public FilterReply decide(final ILoggingEvent event) {
+            final String eventExtractionId = event.getMDCPropertyMap().get(ExtractionManager.EXTRACTION_ID_MDC_KEY);
+            return extractionId.equals(eventExtractionId) ? FilterReply.NEUTRAL : FilterReply.DENY;
+        }
+    }
+
     private void closeOut() {
         try {
             stdOutStream.flush();
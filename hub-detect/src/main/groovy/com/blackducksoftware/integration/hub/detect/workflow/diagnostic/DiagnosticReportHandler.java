@@ -93,9 +93,9 @@ public class DiagnosticReportHandler {
         this.runId = runId;
         createReports();
 
-        eventSystem.registerListener(Event.DetectorsComplete, event -> completedBomToolEvaluations(event.evaluatedDetectors));
-        eventSystem.registerListener(Event.CodeLocationsCalculated, event -> completedCodeLocations(event.getCodeLocationNames()));
-        eventSystem.registerListener(Event.DetectorsProfiled, event -> detectorsProfiled(event));
+        eventSystem.registerAsyncListener(Event.DetectorsComplete, event -> completedBomToolEvaluations(event.evaluatedDetectors));
+        eventSystem.registerAsyncListener(Event.CodeLocationsCalculated, event -> completedCodeLocations(event.getCodeLocationNames()));
+        eventSystem.registerAsyncListener(Event.DetectorsProfiled, event -> detectorsProfiled(event));
     }
 
     public void finish() {
@@ -125,6 +125,6 @@ public class DiagnosticSystem {
         directoriesToCompress.add(directoryManager.getRunHomeDirectory());
 
         final DiagnosticZipCreator zipper = new DiagnosticZipCreator();
-        return zipper.createDiagnosticZip(detectRun.getRunId(), directoryManager.getRunsOutputDirectory(), directoriesToCompress);
+        return zipper.createDiagnosticZip(detectRun.getRunId(), directoryManager.getRunsOutputDirectory(), directoriesToCompress, relevantFileTracker.getRelevantFiles());
     }
 }
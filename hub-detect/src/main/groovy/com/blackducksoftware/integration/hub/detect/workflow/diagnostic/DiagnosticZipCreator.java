@@ -23,39 +23,68 @@
  */
 package com.blackducksoftware.integration.hub.detect.workflow.diagnostic;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
+import org.apache.commons.compress.archivers.zip.ParallelScatterZipCreator;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+// Each entry is deflated on a worker thread into its own scatter file, streaming through fixed size buffers,
+// and the entries are then copied into the zip in the order they were added.
 public class DiagnosticZipCreator {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
     public boolean createDiagnosticZip(final String runId, final File outputDirectory, final List<File> compressList) {
+        return createDiagnosticZip(runId, outputDirectory, compressList, Collections.emptyMap());
+    }
+
+    // referencedFiles maps the location a file should appear at under the output directory to the file (or directory) that actually holds it.
+    public boolean createDiagnosticZip(final String runId, final File outputDirectory, final List<File> compressList, final Map<File, File> referencedFiles) {
         try {
             final String zipPath = "detect-run-" + runId + ".zip";
             final File zip = new File(outputDirectory, zipPath);
             logger.info("Diagnostics zip location: " + zip.toPath());
-            try (FileOutputStream fileStream = new FileOutputStream(zip)) {
-                try (ZipOutputStream outputStream = new ZipOutputStream(fileStream)) {
-                    for (final File file : compressList) {
-                        compress(outputStream, outputDirectory.toPath(), file.toPath(), zip, runId);
+
+            // The zip creator only shuts its executor down once it has written the zip, so it is shut down here if anything fails before that.
+            final ExecutorService executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+            try {
+                final ParallelScatterZipCreator zipCreator = new ParallelScatterZipCreator(executorService);
+                for (final File file : compressList) {
+                    compress(zipCreator, outputDirectory.toPath(), file.toPath(), file.toPath(), runId);
+                }
+                for (final Map.Entry<File, File> referencedFile : referencedFiles.entrySet()) {
+                    try {
+                        compress(zipCreator, outputDirectory.toPath(), referencedFile.getValue().toPath(), referencedFile.getKey().toPath(), runId);
+                    } catch (final IOException e) {
+                        logger.error("Failed to add relevant file to zip: " + referencedFile.getValue().toString(), e);
                     }
-                    logger.info("Diagnostics file created at: " + zip.getCanonicalPath());
                 }
+
+                try (ZipArchiveOutputStream outputStream = new ZipArchiveOutputStream(zip)) {
+                    zipCreator.writeTo(outputStream);
+                }
+            } finally {
+                executorService.shutdownNow();
             }
+            logger.info("Diagnostics file created at: " + zip.getCanonicalPath());
             return true;
         } catch (final Exception e) {
             logger.error("Failed to create zip.", e);
@@ -84,23 +113,31 @@ public class DiagnosticZipCreator {
         }
     }
 
-    public void compress(final ZipOutputStream outputStream, final Path sourceDir, final Path toCompress, final File out, final String removePiece) throws IOException {
+    private void compress(final ParallelScatterZipCreator zipCreator, final Path sourceDir, final Path toCompress, final Path zipLocation, final String removePiece) throws IOException {
         Files.walkFileTree(toCompress, new SimpleFileVisitor<Path>() {
             @Override
             public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) {
-                try {
-                    final Path targetFile = sourceDir.relativize(file);
-                    final String target = toZipEntryName(targetFile, removePiece);
-                    logger.debug("Adding file to zip: " + target);
-                    outputStream.putNextEntry(new ZipEntry(target));
-                    final byte[] bytes = Files.readAllBytes(file);
-                    outputStream.write(bytes, 0, bytes.length);
-                    outputStream.closeEntry();
-                } catch (final IOException e) {
-                    logger.error("Failed to write to zip.", e);
+                final Path targetFile = sourceDir.relativize(zipLocation.resolve(toCompress.relativize(file)));
+                final String target = toZipEntryName(targetFile, removePiece);
+                if (!Files.isReadable(file)) {
+                    logger.error("Skipping unreadable file, it will not be added to the zip: " + file.toString());
+                    return FileVisitResult.CONTINUE;
                 }
+                logger.debug("Adding file to zip: " + target);
+                final ZipArchiveEntry entry = new ZipArchiveEntry(target);
+                entry.setMethod(ZipEntry.DEFLATED);
+                zipCreator.addArchiveEntry(entry, () -> openEntryStream(file));
                 return FileVisitResult.CONTINUE;
             }
         });
     }
+
+    private InputStream openEntryStream(final Path file) {
+        try {
+            return Files.newInputStream(file);
+        } catch (final IOException e) {
+            logger.error("Failed to write to zip.", e);
+            return new ByteArrayInputStream(new byte[0]);
+        }
+    }
 }
@@ -25,9 +25,10 @@ package com.blackducksoftware.integration.hub.detect.workflow.diagnostic;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.stream.Stream;
 
-import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,7 +37,8 @@ import com.blackducksoftware.integration.hub.detect.workflow.file.DirectoryManag
 
 //In some cases, when debugging detect it is helpful to have access to files not available in detect's output folder
 // such as a build.gradle, pacakage lock, or other non-detect generated file.
-//This class provides a mechanism for copying these files into detect's output folder for eventually inclusion in diagnostics.
+//This class provides a mechanism for referencing these files, under a location in detect's output folder, for eventual inclusion in diagnostics.
+//The files are not copied; they are read when the diagnostics zip is created.
 //Files generated by detect will automatically be included in diagnostics by virtue of being in the run directory.
 public class RelevantFileTracker {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
@@ -49,6 +51,7 @@ public class RelevantFileTracker {
 
     private InterestMode interestMode;
     private File relevantDirectory;
+    private final Map<File, File> relevantFiles = new LinkedHashMap<>();
 
     public RelevantFileTracker(boolean diagnosticMode, boolean protectedMode, DirectoryManager directoryManager) {
         if (diagnosticMode && protectedMode) {
@@ -64,7 +67,7 @@ public class RelevantFileTracker {
         }
     }
 
-    public boolean registerRelevantFile(final ExtractionId extractionId, final File file) {
+    public synchronized boolean registerRelevantFile(final ExtractionId extractionId, final File file) {
         if (this.interestMode == InterestMode.AllFiles) {
             return registerRelevantFile(file, extractionId.toUniqueString());
         }
@@ -80,28 +83,36 @@ public class RelevantFileTracker {
                 logger.debug("Asked to track file '" + file.getPath() + "' but it is already being tracked.");
                 return false;
             }
-            if (file.isFile()) {
+            if (file.isFile() || file.isDirectory()) {
                 final File dest = findNextAvailableRelevant(directoryName, file.getName());
-                FileUtils.copyFile(file, dest);
-            } else if (file.isDirectory()) {
-                final File dest = findNextAvailableRelevant(directoryName, file.getName());
-                FileUtils.copyDirectory(file, dest);
+                relevantFiles.put(dest, file);
             }
             return true;
         } catch (final Exception e) {
-            logger.trace("Failed to copy file to relevant directory:" + file.toString());
+            logger.trace("Failed to track relevant file:" + file.toString());
             return false;
         }
     }
 
+    /**
+     * The tracked files keyed by the location they should appear at in the relevant directory.
+     */
+    public synchronized Map<File, File> getRelevantFiles() {
+        return new LinkedHashMap<>(relevantFiles);
+    }
+
     private boolean isChildOfTrackedFolder(final File file) {
         final Path filePath = file.toPath();
-        return Stream.of(relevantDirectory).anyMatch(trackedFile -> filePath.startsWith(trackedFile.toPath()));
+        return Stream.concat(Stream.of(relevantDirectory), relevantFiles.values().stream()).anyMatch(trackedFile -> filePath.startsWith(trackedFile.toPath()));
+    }
+
+    private boolean isAvailable(final File relevantFile) {
+        return !relevantFile.exists() && !relevantFiles.containsKey(relevantFile);
     }
 
     private File findNextAvailableRelevant(final String directoryName, final String name) {
         final File given = new File(new File(relevantDirectory, directoryName), name);
-        if (given.exists()) {
+        if (!isAvailable(given)) {
             return findNextAvailableRelevant(directoryName, name, 1);
         } else {
             return given;
@@ -110,7 +121,7 @@ public class RelevantFileTracker {
 
     private File findNextAvailableRelevant(final String directoryName, final String name, final int attempt) {
         final File next = new File(new File(relevantDirectory, directoryName), name + "_" + attempt);
-        if (next.exists()) {
+        if (!isAvailable(next)) {
             return findNextAvailableRelevant(directoryName, name, attempt + 1);
         } else {
             return next;
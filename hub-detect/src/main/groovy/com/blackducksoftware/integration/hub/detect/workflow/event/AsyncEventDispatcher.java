@@ -0,0 +1,99 @@
+/**
+ * hub-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.blackducksoftware.integration.hub.detect.workflow.event;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers events to asynchronous listeners on a single worker thread, so each listener sees its events in the order they were published.
+ * The queue is bounded, publishers wait for room rather than letting slow listeners hold an unbounded backlog.
+ */
+class AsyncEventDispatcher {
+    private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final BlockingQueue<Runnable> queue;
+    private final Thread worker;
+
+    AsyncEventDispatcher(final int capacity) {
+        queue = new ArrayBlockingQueue<>(capacity);
+        worker = new Thread(this::drain, "detect-event-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    void dispatch(final Runnable delivery) {
+        if (isWorkerThread() || !worker.isAlive()) {
+            // A listener publishing from the worker would wait on its own queue, and a stopped worker would never take from it.
+            delivery.run();
+            return;
+        }
+        try {
+            queue.put(delivery);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.debug("Interrupted while queueing an event, delivering it on the publishing thread.");
+            delivery.run();
+        }
+    }
+
+    void flush() {
+        if (isWorkerThread()) {
+            return;
+        }
+        final CountDownLatch delivered = new CountDownLatch(1);
+        dispatch(delivered::countDown);
+        try {
+            delivered.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.debug("Interrupted while waiting for queued events to be delivered.");
+        }
+    }
+
+    private boolean isWorkerThread() {
+        return Thread.currentThread() == worker;
+    }
+
+    private void drain() {
+        while (true) {
+            final Runnable delivery;
+            try {
+                delivery = queue.take();
+            } catch (final InterruptedException e) {
+                return;
+            }
+            // Anything a listener throws, errors included, is contained to its own delivery so the worker keeps draining and flush never waits on a dead thread.
+            try {
+                delivery.run();
+            } catch (final Throwable e) {
+                logger.error("An event listener failed: " + e.getMessage());
+                logger.debug("An event listener threw an exception.", e);
+            }
+        }
+    }
+}
@@ -23,21 +23,38 @@
  */
 package com.blackducksoftware.integration.hub.detect.workflow.event;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Listener registries are copy-on-write so events can be published from any thread without locking.
+ * Listeners registered as asynchronous are delivered off the publishing thread, call flush before reading state they maintain.
+ */
 public class EventSystem {
+    private static final int DEFAULT_ASYNC_QUEUE_CAPACITY = 1000;
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
+    private final int asyncQueueCapacity;
+
+    private final Map<EventType, List<EventListener>> eventListenerMap = new ConcurrentHashMap<>();
+    private AsyncEventDispatcher asyncEventDispatcher = null;
+
+    public EventSystem() {
+        this(DEFAULT_ASYNC_QUEUE_CAPACITY);
+    }
 
-    Map<EventType, List<EventListener>> eventListenerMap = new HashMap<>();
+    public EventSystem(final int asyncQueueCapacity) {
+        this.asyncQueueCapacity = asyncQueueCapacity;
+    }
 
     public <T> void publishEvent(EventType<T> event, T payload) {
-        for (EventListener listener : safelyGetListeners(event)) {
+        for (EventListener listener : eventListenerMap.getOrDefault(event, Collections.emptyList())) {
             listener.eventOccured(payload);
         }
     }
@@ -46,18 +63,60 @@ public class EventSystem {
         safelyGetListeners(event).add(listener);
     }
 
+    /**
+     * Registers a listener that is delivered its events in publish order on the event dispatch thread instead of the publishing thread.
+     */
+    public <T> void registerAsyncListener(EventType<T> event, EventListener<T> listener) {
+        final AsyncEventDispatcher dispatcher = getAsyncEventDispatcher();
+        safelyGetListeners(event).add(new AsyncEventListener<>(listener, dispatcher));
+    }
+
     public <T> void unregisterListener(EventType<T> event, EventListener<T> listener) {
-        safelyGetListeners(event).remove(listener);
+        safelyGetListeners(event).removeIf(it -> it == listener || (it instanceof AsyncEventListener && ((AsyncEventListener) it).getDelegate() == listener));
+    }
+
+    /**
+     * Waits until every event published so far has been delivered to the asynchronous listeners.
+     */
+    public void flush() {
+        final AsyncEventDispatcher dispatcher;
+        synchronized (this) {
+            dispatcher = asyncEventDispatcher;
+        }
+        if (dispatcher != null) {
+            logger.debug("Waiting for queued events to be delivered.");
+            dispatcher.flush();
+        }
+    }
+
+    private synchronized AsyncEventDispatcher getAsyncEventDispatcher() {
+        if (asyncEventDispatcher == null) {
+            asyncEventDispatcher = new AsyncEventDispatcher(asyncQueueCapacity);
+        }
+        return asyncEventDispatcher;
     }
 
     private List<EventListener> safelyGetListeners(EventType event) {
-        List<EventListener> listeners;
-        if (eventListenerMap.containsKey(event)) {
-            listeners = eventListenerMap.get(event);
-        } else {
-            listeners = new ArrayList<>();
-            eventListenerMap.put(event, listeners);
+        // Events may be published from extraction threads while listeners are still being registered.
+        return eventListenerMap.computeIfAbsent(event, key -> new CopyOnWriteArrayList<>());
+    }
+
+    private static class AsyncEventListener<T> implements EventListener<T> {
+        private final EventListener<T> delegate;
+        private final AsyncEventDispatcher dispatcher;
+
+        AsyncEventListener(final EventListener<T> delegate, final AsyncEventDispatcher dispatcher) {
+            this.delegate = delegate;
+            this.dispatcher = dispatcher;
+        }
+
+        @Override
+        public void eventOccured(final T event) {
+            dispatcher.dispatch(() -> delegate.eventOccured(event));
+        }
+
+        EventListener<T> getDelegate() {
+            return delegate;
         }
-        return listeners;
     }
 }
@@ -23,16 +23,25 @@
  */
 package com.blackducksoftware.integration.hub.detect.workflow.extraction;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 
 import com.blackducksoftware.integration.hub.detect.detector.DetectorType;
 import com.blackducksoftware.integration.hub.detect.detector.ExtractionId;
 import com.blackducksoftware.integration.hub.detect.workflow.codelocation.DetectCodeLocation;
+import com.blackducksoftware.integration.hub.detect.workflow.event.Event;
+import com.blackducksoftware.integration.hub.detect.workflow.event.EventSystem;
 import com.blackducksoftware.integration.hub.detect.workflow.extraction.Extraction.ExtractionResultType;
 import com.blackducksoftware.integration.hub.detect.workflow.report.util.ObjectPrinter;
 import com.blackducksoftware.integration.hub.detect.workflow.report.util.ReportConstants;
@@ -40,24 +49,36 @@ import com.blackducksoftware.integration.hub.detect.workflow.report.writer.InfoL
 import com.blackducksoftware.integration.hub.detect.workflow.search.result.DetectorEvaluation;
 
 public class ExtractionManager {
+    // Set on the thread running an extraction so its log lines can be told apart from those of concurrent extractions
+    public static final String EXTRACTION_ID_MDC_KEY = "extractionId";
+
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
-    public ExtractionManager() {
+    private final ExtractionOptions extractionOptions;
+    private final EventSystem eventSystem;
+
+    public ExtractionManager(final ExtractionOptions extractionOptions, final EventSystem eventSystem) {
+        this.extractionOptions = extractionOptions;
+        this.eventSystem = eventSystem;
     }
 
     public ExtractionResult performExtractions(final List<DetectorEvaluation> results) {
         final List<DetectorEvaluation> extractable = results.stream().filter(result -> result.isExtractable()).collect(Collectors.toList());
 
+        // Ids are assigned up front in evaluation order so they do not depend on the order in which extractions happen to run.
         for (int i = 0; i < extractable.size(); i++) {
             final DetectorEvaluation detectorEvaluation = extractable.get(i);
-            final String progress = Integer.toString((int) Math.floor((i * 100.0f) / extractable.size()));
-            logger.info(String.format("Extracting %d of %d (%s%%)", i + 1, extractable.size(), progress));
-            logger.info(ReportConstants.SEPERATOR);
-
             final ExtractionId extractionId = new ExtractionId(detectorEvaluation.getDetector().getDetectorType(), Integer.toString(i));
             detectorEvaluation.setExtractionId(extractionId);
+        }
 
-            extract(extractable.get(i));
+        if (extractionOptions.extractionThreads > 1 && extractable.size() > 1) {
+            performConcurrentExtractions(extractable);
+        } else {
+            for (int i = 0; i < extractable.size(); i++) {
+                logProgress(i, extractable.size());
+                extract(extractable.get(i));
+            }
         }
 
         final Set<DetectorType> succesfulBomToolGroups = extractable.stream()
@@ -78,7 +99,56 @@ public class ExtractionManager {
         return new ExtractionResult(codeLocations, succesfulBomToolGroups, failedBomToolGroups);
     }
 
-    private void extract(final DetectorEvaluation result) { //TODO: Replace reporting.
+    private void performConcurrentExtractions(final List<DetectorEvaluation> extractable) {
+        // The heavyweight and parser pools together never exceed the configured thread count and the parsers always keep at least one thread.
+        final int heavyweightThreads = Math.max(1, Math.min(extractionOptions.heavyweightExtractionThreads, extractionOptions.extractionThreads - 1));
+        final int parserThreads = extractionOptions.extractionThreads - heavyweightThreads;
+        logger.info(String.format("Running %d extractions in parallel using %d heavyweight and %d parser threads.", extractable.size(), heavyweightThreads, parserThreads));
+
+        final ExecutorService heavyweightExecutor = Executors.newFixedThreadPool(heavyweightThreads);
+        final ExecutorService parserExecutor = Executors.newFixedThreadPool(parserThreads);
+        final AtomicInteger started = new AtomicInteger(0);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (final DetectorEvaluation detectorEvaluation : extractable) {
+                final ExtractionResourceClass resourceClass = ExtractionResourceClass.forDetectorType(detectorEvaluation.getDetector().getDetectorType());
+                final ExecutorService executor = resourceClass == ExtractionResourceClass.HEAVYWEIGHT_PROCESS ? heavyweightExecutor : parserExecutor;
+                futures.add(executor.submit(() -> {
+                    logProgress(started.getAndIncrement(), extractable.size());
+                    extract(detectorEvaluation);
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for extractions to finish.", e);
+        } catch (final ExecutionException e) {
+            throw new RuntimeException("An extraction failed unexpectedly.", e.getCause());
+        } finally {
+            heavyweightExecutor.shutdownNow();
+            parserExecutor.shutdownNow();
+        }
+    }
+
+    private void logProgress(final int index, final int total) {
+        final String progress = Integer.toString((int) Math.floor((index * 100.0f) / total));
+        logger.info(String.format("Extracting %d of %d (%s%%)", index + 1, total, progress));
+        logger.info(ReportConstants.SEPERATOR);
+    }
+
+    private void extract(final DetectorEvaluation result) {
+        MDC.put(EXTRACTION_ID_MDC_KEY, result.getExtractionId().toUniqueString());
+        try {
+            extractWithinContext(result);
+        } finally {
+            MDC.remove(EXTRACTION_ID_MDC_KEY);
+        }
+    }
+
+    private void extractWithinContext(final DetectorEvaluation result) { //TODO: Replace reporting.
+        eventSystem.publishEvent(Event.ExtractionStarted, result);
 
         logger.info("Starting extraction: " + result.getDetector().getDetectorType() + " - " + result.getDetector().getName());
         logger.info("Identifier: " + result.getExtractionId().toUniqueString());
@@ -100,6 +170,7 @@ public class ExtractionManager {
             logger.info(result.getExtraction().description);
         }
         logger.info(ReportConstants.SEPERATOR);
+        eventSystem.publishEvent(Event.ExtractionEnded, result);
 
     }
 
@@ -23,8 +23,13 @@
  */
 package com.blackducksoftware.integration.hub.detect.workflow.extraction;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -39,9 +44,11 @@ import com.blackducksoftware.integration.hub.detect.workflow.search.result.Excep
 public class PreparationManager {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
 
+    private final PreparationOptions preparationOptions;
     private final EventSystem eventSystem;
 
-    public PreparationManager(final EventSystem eventSystem) {
+    public PreparationManager(final PreparationOptions preparationOptions, final EventSystem eventSystem) {
+        this.preparationOptions = preparationOptions;
         this.eventSystem = eventSystem;
     }
 
@@ -58,9 +65,38 @@ public class PreparationManager {
         }
     }
 
+    // Each evaluation is prepared entirely on one worker, so its ExtractableStarted and ExtractableEnded events bracket only its own extractable() call.
+    private void prepareConcurrently(final List<DetectorEvaluation> applicable) {
+        final int threads = Math.min(preparationOptions.preparationThreads, applicable.size());
+        logger.info(String.format("Preparing %d detectors using %d threads.", applicable.size(), threads));
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (final DetectorEvaluation result : applicable) {
+                futures.add(executorService.submit(() -> prepare(result)));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for detectors to be prepared.", e);
+        } catch (final ExecutionException e) {
+            throw new RuntimeException("A detector could not be prepared.", e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
     public PreparationResult prepareExtractions(final List<DetectorEvaluation> results) {
-        for (final DetectorEvaluation result : results) {
-            prepare(result);
+        final List<DetectorEvaluation> applicable = results.stream().filter(it -> it.isApplicable()).collect(Collectors.toList());
+        if (preparationOptions.preparationThreads > 1 && applicable.size() > 1) {
+            prepareConcurrently(applicable);
+        } else {
+            for (final DetectorEvaluation result : results) {
+                prepare(result);
+            }
         }
 
         final Set<DetectorType> succesfulBomToolGroups = results.stream()
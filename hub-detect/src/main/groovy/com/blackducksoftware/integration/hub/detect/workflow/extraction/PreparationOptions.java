@@ -21,23 +21,12 @@
  * specific language governing permissions and limitations
  * under the License.
  */
-package com.blackducksoftware.integration.hub.detect.detector.npm.model;
+package com.blackducksoftware.integration.hub.detect.workflow.extraction;
 
-import java.util.Map;
-
-import com.google.gson.annotations.SerializedName;
-
-public class PackageLockDependency {
-    @SerializedName("version")
-    public String version;
-
-    @SerializedName("dev")
-    public Boolean dev;
-
-    @SerializedName("requires")
-    public Map<String, String> requires;
-
-    @SerializedName("dependencies")
-    public Map<String, PackageLockDependency> dependencies;
+public class PreparationOptions {
+    public final int preparationThreads;
 
+    public PreparationOptions(int preparationThreads) {
+        this.preparationThreads = preparationThreads;
+    }
 }
@@ -30,9 +30,16 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOCase;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +47,17 @@ import org.slf4j.LoggerFactory;
 public class DetectFileFinder {
     private final Logger logger = LoggerFactory.getLogger(DetectFileFinder.class);
 
+    private final DirectoryIndex directoryIndex;
+    private final Map<String, Pattern> compiledPatterns = new ConcurrentHashMap<>();
+
+    public DetectFileFinder() {
+        this(new DirectoryIndex());
+    }
+
+    public DetectFileFinder(final DirectoryIndex directoryIndex) {
+        this.directoryIndex = directoryIndex;
+    }
+
     public String extractFinalPieceFromPath(final String path) {
         if (path == null || path.length() == 0) {
             return "";
@@ -57,7 +75,7 @@ public class DetectFileFinder {
     }
 
     public boolean containsAllFiles(final File sourceDirectory, final String... filenamePatterns) {
-        if (!sourceDirectory.isDirectory()) {
+        if (!directoryIndex.getIndexedChildren(sourceDirectory).isPresent() && !sourceDirectory.isDirectory()) {
             return false;
         }
 
@@ -96,6 +114,10 @@ public class DetectFileFinder {
     }
 
     public List<File> findFiles(final File sourceDirectory, final String filenamePattern) {
+        final Optional<List<DirectoryIndex.IndexedFile>> indexedChildren = directoryIndex.getIndexedChildren(sourceDirectory);
+        if (indexedChildren.isPresent()) {
+            return findIndexedFiles(indexedChildren.get(), filenamePattern);
+        }
         if (!sourceDirectory.isDirectory()) {
             return null;
         }
@@ -106,6 +128,50 @@ public class DetectFileFinder {
         return Arrays.asList(foundFiles);
     }
 
+    private List<File> findIndexedFiles(final List<DirectoryIndex.IndexedFile> indexedChildren, final String filenamePattern) {
+        final Pattern pattern = compiledPatterns.computeIfAbsent(filenamePattern, this::compileWildcard);
+        final List<File> foundFiles = indexedChildren.stream()
+                                          .filter(it -> pattern.matcher(it.getName()).matches())
+                                          .map(DirectoryIndex.IndexedFile::getFile)
+                                          .collect(Collectors.toList());
+        if (foundFiles.isEmpty()) {
+            return null;
+        }
+        return foundFiles;
+    }
+
+    /**
+     * Returns a matcher that accepts a file name when it matches any of the patterns, using the same wildcard rules as the other find methods.
+     */
+    public Predicate<String> createFilenameMatcher(final String... filenamePatterns) {
+        final List<Pattern> patterns = Arrays.stream(filenamePatterns)
+                                           .map(filenamePattern -> compiledPatterns.computeIfAbsent(filenamePattern, this::compileWildcard))
+                                           .collect(Collectors.toList());
+        return filename -> patterns.stream().anyMatch(pattern -> pattern.matcher(filename).matches());
+    }
+
+    // Equivalent to FilenameUtils.wildcardMatchOnSystem but compiled once per pattern rather than re-tokenized for every file name.
+    private Pattern compileWildcard(final String wildcard) {
+        final StringBuilder regex = new StringBuilder();
+        final StringBuilder literal = new StringBuilder();
+        for (final char character : wildcard.toCharArray()) {
+            if (character == '*' || character == '?') {
+                if (literal.length() > 0) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(character == '*' ? ".*" : ".");
+            } else {
+                literal.append(character);
+            }
+        }
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        final int flags = IOCase.SYSTEM.isCaseSensitive() ? Pattern.DOTALL : Pattern.DOTALL | Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+        return Pattern.compile(regex.toString(), flags);
+    }
+
     public List<File> findFilesToDepth(final File sourceDirectory, final String filenamePattern, final int maxDepth) {
         return findFilesRecursive(sourceDirectory, 0, maxDepth, null, true, filenamePattern);
     }
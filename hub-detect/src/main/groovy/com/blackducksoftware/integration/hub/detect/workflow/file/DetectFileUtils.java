@@ -25,7 +25,11 @@ package com.blackducksoftware.integration.hub.detect.workflow.file;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 
 import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
@@ -52,4 +56,26 @@ public class DetectFileUtils {
         }
         return file;
     }
+
+    /**
+     * Replaces the file with the content the writer produces. The content is written to a temporary file in the same directory and moved into place once it is complete,
+     * so other invocations of detect sharing the file never read it partially written. The temporary file is removed if anything fails.
+     */
+    public static void writeAtomically(final File file, final ContentWriter contentWriter) throws IOException {
+        final File directory = file.getAbsoluteFile().getParentFile();
+        directory.mkdirs();
+        final Path temporaryFile = Files.createTempFile(directory.toPath(), file.getName(), ".tmp");
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(temporaryFile)) {
+                contentWriter.write(outputStream);
+            }
+            Files.move(temporaryFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    public interface ContentWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
 }
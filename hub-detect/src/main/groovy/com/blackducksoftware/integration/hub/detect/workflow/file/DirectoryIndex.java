@@ -0,0 +1,105 @@
+/**
+ * hub-detect
+ *
+ * Copyright (C) 2019 Black Duck Software, Inc.
+ * http://www.blackducksoftware.com/
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.blackducksoftware.integration.hub.detect.workflow.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the contents of directories so that the many detectors evaluated against a single directory do not each list it again.
+ * Directories are only answered from the index after they have been explicitly indexed, anything else falls back to the file system.
+ */
+public class DirectoryIndex {
+    private final Logger logger = LoggerFactory.getLogger(DirectoryIndex.class);
+
+    private final Map<File, List<IndexedFile>> index = new ConcurrentHashMap<>();
+
+    public void indexDirectory(final File directory) {
+        final List<IndexedFile> children = new ArrayList<>();
+        try {
+            // A walk of depth one hands every child to visitFile together with the attributes it already read, so no extra stat is needed per child
+            Files.walkFileTree(directory.toPath(), EnumSet.of(FileVisitOption.FOLLOW_LINKS), 1, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) {
+                    children.add(new IndexedFile(file.toFile(), attributes));
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (final IOException e) {
+            logger.debug(String.format("Could not index directory %s, it will be searched directly: %s", directory.getAbsolutePath(), e.getMessage()));
+            return;
+        }
+        index.put(directory, Collections.unmodifiableList(children));
+    }
+
+    public Optional<List<IndexedFile>> getIndexedChildren(final File directory) {
+        return Optional.ofNullable(index.get(directory));
+    }
+
+    public void clear() {
+        index.clear();
+    }
+
+    public static class IndexedFile {
+        private final File file;
+        private final BasicFileAttributes attributes;
+
+        public IndexedFile(final File file, final BasicFileAttributes attributes) {
+            this.file = file;
+            this.attributes = attributes;
+        }
+
+        public File getFile() {
+            return file;
+        }
+
+        public String getName() {
+            return file.getName();
+        }
+
+        public boolean isDirectory() {
+            return attributes.isDirectory();
+        }
+
+        public BasicFileAttributes getAttributes() {
+            return attributes;
+        }
+    }
+}
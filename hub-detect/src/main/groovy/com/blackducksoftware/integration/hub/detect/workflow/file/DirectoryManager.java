@@ -29,6 +29,7 @@ import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -84,7 +85,8 @@ public class DirectoryManager {
     private final Map<OutputDirectory, File> outputDirectories = new HashMap<>();
     private final Map<RunDirectory, File> runDirectories = new HashMap<>();
 
-    private final Map<ExtractionId, File> extractionDirectories = new HashMap<>();
+    // Extractions run in parallel, so each directory is created at most once under the map's own locking
+    private final Map<ExtractionId, File> extractionDirectories = new ConcurrentHashMap<>();
 
     private final List<File> temporaryFiles = new ArrayList<>();
 
@@ -138,15 +140,11 @@ public class DirectoryManager {
     }
 
     public File getExtractionOutputDirectory(final ExtractionId extractionId) {
-        if (extractionDirectories.containsKey(extractionId)) {
-            return extractionDirectories.get(extractionId);
-        } else {
-            final String directoryName = extractionId.toUniqueString();
-            final File newDirectory = new File(getRunDirectory(RunDirectory.Extraction), directoryName);
+        return extractionDirectories.computeIfAbsent(extractionId, id -> {
+            final File newDirectory = new File(getRunDirectory(RunDirectory.Extraction), id.toUniqueString());
             newDirectory.mkdir();
-            extractionDirectories.put(extractionId, newDirectory);
             return newDirectory;
-        }
+        });
     }
 
     public File getSourceDirectory() {
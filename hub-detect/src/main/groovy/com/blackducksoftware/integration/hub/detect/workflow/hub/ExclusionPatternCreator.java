@@ -25,10 +25,24 @@ package com.blackducksoftware.integration.hub.detect.workflow.hub;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Collections;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,40 +60,128 @@ public class ExclusionPatternCreator {
         this.scanTarget = scanTarget;
     }
 
+    /**
+     * Walks the scan target for files and directories matching the name patterns. Matching directories are not descended into, and each top level directory of the target is walked in parallel.
+     */
     public Set<String> determineExclusionPatterns(final String maxDepthHitMsg, final int maxDepth, final String... hubSignatureScannerExclusionNamePatterns) {
-        if (null == hubSignatureScannerExclusionNamePatterns || hubSignatureScannerExclusionNamePatterns.length < 1 && scanTarget.isDirectory()) {
-            return Collections.emptySet();
-        }
         final Set<String> scanExclusionPatterns = new HashSet<>();
+        if (null == hubSignatureScannerExclusionNamePatterns || hubSignatureScannerExclusionNamePatterns.length < 1 || !scanTarget.isDirectory()) {
+            return scanExclusionPatterns;
+        }
         try {
-            final String scanTargetPath = scanTarget.getCanonicalPath();
-            final List<File> matchingFiles = detectFileFinder.findAllFilesToDepth(scanTarget, new StringBuilder(maxDepthHitMsg), maxDepth, hubSignatureScannerExclusionNamePatterns);
-            for (final File matchingFile : matchingFiles) {
-                final String matchingFilePath = matchingFile.getCanonicalPath();
-                final String scanExclusionPattern = createExclusionPatternFromPaths(scanTargetPath, matchingFilePath);
-                scanExclusionPatterns.add(scanExclusionPattern);
+            final Path scanTargetPath = scanTarget.getCanonicalFile().toPath();
+            final ExclusionVisitor visitor = new ExclusionVisitor(scanTargetPath, maxDepthHitMsg, detectFileFinder.createFilenameMatcher(hubSignatureScannerExclusionNamePatterns));
+            if (maxDepth < 1) {
+                visitor.maxDepthHit(scanTargetPath);
+                return scanExclusionPatterns;
             }
-        } catch (final IOException e) {
+
+            final List<Path> directoriesToWalk = new ArrayList<>();
+            try (final DirectoryStream<Path> children = Files.newDirectoryStream(scanTargetPath)) {
+                for (final Path child : children) {
+                    if (!visitor.visitEntry(child, readAttributes(child))) {
+                        continue;
+                    }
+                    if (maxDepth > 1) {
+                        directoriesToWalk.add(child);
+                    } else {
+                        visitor.maxDepthHit(child);
+                    }
+                }
+            }
+
+            directoriesToWalk.parallelStream().forEach(directory -> {
+                try {
+                    Files.walkFileTree(directory, EnumSet.of(FileVisitOption.FOLLOW_LINKS), maxDepth - 1, visitor);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            scanExclusionPatterns.addAll(visitor.getExclusionPatterns());
+        } catch (final IOException | UncheckedIOException e) {
             logger.warn("Problem encountered finding the exclusion patterns for the scanner. " + e.getMessage());
             logger.debug(e.getMessage(), e);
         }
         return scanExclusionPatterns;
     }
 
-    private String createExclusionPatternFromPaths(final String rootPath, final String targetPath) {
-        String scanExclusionPattern = targetPath.replace(rootPath, "/");
-        if (scanExclusionPattern.contains("\\\\")) {
-            scanExclusionPattern = scanExclusionPattern.replace("\\\\", "/");
+    private BasicFileAttributes readAttributes(final Path path) throws IOException {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (final IOException e) {
+            // Broken links are still matched by name, like any other file.
+            return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
         }
-        if (scanExclusionPattern.contains("\\")) {
-            scanExclusionPattern = scanExclusionPattern.replace("\\", "/");
+    }
+
+    private class ExclusionVisitor extends SimpleFileVisitor<Path> {
+        private final Path scanTargetPath;
+        private final String maxDepthHitMsg;
+        private final Predicate<String> filenameMatcher;
+        private final AtomicBoolean maxDepthHitReported = new AtomicBoolean(false);
+        private final Set<String> exclusionPatterns = ConcurrentHashMap.newKeySet();
+
+        public ExclusionVisitor(final Path scanTargetPath, final String maxDepthHitMsg, final Predicate<String> filenameMatcher) {
+            this.scanTargetPath = scanTargetPath;
+            this.maxDepthHitMsg = maxDepthHitMsg;
+            this.filenameMatcher = filenameMatcher;
         }
-        if (scanExclusionPattern.contains("//")) {
-            scanExclusionPattern = scanExclusionPattern.replace("//", "/");
+
+        public Set<String> getExclusionPatterns() {
+            return exclusionPatterns;
+        }
+
+        /**
+         * Returns true when the entry is a directory that should be descended into.
+         */
+        public boolean visitEntry(final Path path, final BasicFileAttributes attributes) {
+            if (filenameMatcher.test(path.getFileName().toString())) {
+                exclusionPatterns.add(createExclusionPattern(scanTargetPath.relativize(path)));
+                return false;
+            }
+            return attributes.isDirectory();
         }
-        if (!scanExclusionPattern.endsWith("/")) {
-            scanExclusionPattern = scanExclusionPattern + "/";
+
+        public void maxDepthHit(final Path directory) {
+            if (maxDepthHitReported.compareAndSet(false, true)) {
+                logger.warn(String.format(maxDepthHitMsg, directory.toAbsolutePath().toString()));
+            }
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) {
+            // The root of each walk was already matched against the patterns by the caller.
+            if (!scanTargetPath.equals(dir.getParent()) && !visitEntry(dir, attrs)) {
+                return FileVisitResult.SKIP_SUBTREE;
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+            // Directories at the maximum walk depth are reported here rather than in preVisitDirectory.
+            if (visitEntry(file, attrs)) {
+                maxDepthHit(file);
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
+            if (exc instanceof FileSystemLoopException) {
+                logger.debug("Skipping directory that links back to one of its parents: " + file.toString());
+            } else {
+                logger.warn("Contents could not be accessed: " + file.toString());
+            }
+            return FileVisitResult.CONTINUE;
+        }
+    }
+
+    private String createExclusionPattern(final Path relativePath) {
+        final StringBuilder scanExclusionPattern = new StringBuilder("/");
+        for (final Path name : relativePath) {
+            scanExclusionPattern.append(name.toString()).append("/");
         }
-        return scanExclusionPattern;
+        return scanExclusionPattern.toString();
     }
 }
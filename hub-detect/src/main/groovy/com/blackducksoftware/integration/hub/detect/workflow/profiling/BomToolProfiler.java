@@ -33,10 +33,11 @@ import com.blackducksoftware.integration.hub.detect.workflow.event.Event;
 import com.blackducksoftware.integration.hub.detect.workflow.event.EventSystem;
 
 public class BomToolProfiler {
-    public BomToolTimekeeper applicableTimekeeper = new BomToolTimekeeper();
-    public BomToolTimekeeper extractableTimekeeper = new BomToolTimekeeper();
-    public BomToolTimekeeper extractionTimekeeper = new BomToolTimekeeper();
-    private EventSystem eventSystem;
+    // Applicable events are published from the detector search threads and extraction events from the extraction threads
+    private final BomToolTimekeeper applicableTimekeeper = new BomToolTimekeeper();
+    private final BomToolTimekeeper extractableTimekeeper = new BomToolTimekeeper();
+    private final BomToolTimekeeper extractionTimekeeper = new BomToolTimekeeper();
+    private final EventSystem eventSystem;
 
     public BomToolProfiler(EventSystem eventSystem) {
         this.eventSystem = eventSystem;
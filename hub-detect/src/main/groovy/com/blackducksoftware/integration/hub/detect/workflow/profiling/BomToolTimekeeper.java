@@ -24,9 +24,9 @@
 package com.blackducksoftware.integration.hub.detect.workflow.profiling;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.time.StopWatch;
 
@@ -34,16 +34,10 @@ import com.blackducksoftware.integration.hub.detect.detector.Detector;
 
 public class BomToolTimekeeper {
 
-    private final Map<Detector, StopWatch> bomToolMap = new HashMap<>();
+    private final Map<Detector, StopWatch> bomToolMap = new ConcurrentHashMap<>();
 
     private StopWatch getStopWatch(final Detector detector) {
-        if (bomToolMap.containsKey(detector)) {
-            return bomToolMap.get(detector);
-        } else {
-            final StopWatch sw = new StopWatch();
-            bomToolMap.put(detector, sw);
-            return sw;
-        }
+        return bomToolMap.computeIfAbsent(detector, key -> new StopWatch());
     }
 
     public void started(final Detector detector) {
@@ -56,10 +50,9 @@ public class BomToolTimekeeper {
 
     public List<DetectorTime> getTimings() {
         final List<DetectorTime> bomToolTimings = new ArrayList<>();
-        for (final Detector detector : bomToolMap.keySet()) {
-            final StopWatch sw = bomToolMap.get(detector);
-            final long ms = sw.getTime();
-            final DetectorTime detectorTime = new DetectorTime(detector, ms);
+        for (final Map.Entry<Detector, StopWatch> entry : bomToolMap.entrySet()) {
+            final long ms = entry.getValue().getTime();
+            final DetectorTime detectorTime = new DetectorTime(entry.getKey(), ms);
             bomToolTimings.add(detectorTime);
         }
         return bomToolTimings;
@@ -47,6 +47,16 @@ public class ProjectNameVersionDecider {
         this.projectVersionOptions = projectVersionOptions;
     }
 
+    /**
+     * The project name and version when both were provided, in which case no tool can change them.
+     */
+    public Optional<NameVersion> findProvidedProjectNameVersion() {
+        if (StringUtils.isNotBlank(projectVersionOptions.overrideProjectName) && StringUtils.isNotBlank(projectVersionOptions.overrideProjectVersionName)) {
+            return Optional.of(new NameVersion(projectVersionOptions.overrideProjectName, projectVersionOptions.overrideProjectVersionName));
+        }
+        return Optional.empty();
+    }
+
     public NameVersion decideProjectNameVersion(String preferredDetectTools, final List<DetectToolProjectInfo> detectToolProjectInfo) {
 
         Optional<String> decidedProjectName = Optional.empty();
@@ -23,15 +23,16 @@
  */
 package com.blackducksoftware.integration.hub.detect.workflow.report;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import com.blackducksoftware.integration.hub.detect.workflow.codelocation.DependencyGraphStatistics;
 import com.blackducksoftware.integration.hub.detect.workflow.codelocation.DetectCodeLocation;
 import com.blackducksoftware.integration.hub.detect.workflow.codelocation.DetectCodeLocationType;
 import com.blackducksoftware.integration.hub.detect.workflow.report.writer.ReportWriter;
 import com.blackducksoftware.integration.hub.detect.workflow.search.result.DetectorEvaluation;
-import com.synopsys.integration.bdio.graph.DependencyGraph;
 
 public class CodeLocationReporter {
     public void writeCodeLocationReport(final ReportWriter writer, final ReportWriter writer2, final List<DetectorEvaluation> detectorEvaluations, final Map<DetectCodeLocation, String> codeLocationNameMap) {
@@ -43,22 +44,28 @@ public class CodeLocationReporter {
                                                                   .flatMap(it -> it.getExtraction().codeLocations.stream())
                                                                   .collect(Collectors.toList());
 
-        final CodeLocationDependencyCounter counter = new CodeLocationDependencyCounter();
-        final Map<DetectCodeLocation, Integer> dependencyCounts = counter.countCodeLocations(codeLocationsToCount);
-        final Map<DetectCodeLocationType, Integer> dependencyAggregates = counter.aggregateCountsByGroup(dependencyCounts);
+        final Map<DetectCodeLocationType, Integer> dependencyAggregates = aggregateCountsByGroup(codeLocationsToCount);
 
-        succesfullDetectorEvaluations.forEach(it -> writeBomToolEvaluationDetails(writer, it, dependencyCounts, codeLocationNameMap));
+        succesfullDetectorEvaluations.forEach(it -> writeBomToolEvaluationDetails(writer, it, codeLocationNameMap));
         writeBomToolCounts(writer2, dependencyAggregates);
 
     }
 
-    private void writeBomToolEvaluationDetails(final ReportWriter writer, final DetectorEvaluation evaluation, final Map<DetectCodeLocation, Integer> dependencyCounts, final Map<DetectCodeLocation, String> codeLocationNameMap) {
+    private Map<DetectCodeLocationType, Integer> aggregateCountsByGroup(final List<DetectCodeLocation> codeLocations) {
+        final Map<DetectCodeLocationType, Integer> dependencyCounts = new HashMap<>();
+        for (final DetectCodeLocation codeLocation : codeLocations) {
+            dependencyCounts.merge(codeLocation.getCodeLocationType(), codeLocation.getDependencyGraphStatistics().getDependencyCount(), Integer::sum);
+        }
+        return dependencyCounts;
+    }
+
+    private void writeBomToolEvaluationDetails(final ReportWriter writer, final DetectorEvaluation evaluation, final Map<DetectCodeLocation, String> codeLocationNameMap) {
         for (final DetectCodeLocation codeLocation : evaluation.getExtraction().codeLocations) {
-            writeCodeLocationDetails(writer, codeLocation, dependencyCounts.get(codeLocation), codeLocationNameMap.get(codeLocation), evaluation.getExtractionId().toUniqueString());
+            writeCodeLocationDetails(writer, codeLocation, codeLocationNameMap.get(codeLocation), evaluation.getExtractionId().toUniqueString());
         }
     }
 
-    private void writeCodeLocationDetails(final ReportWriter writer, final DetectCodeLocation codeLocation, final Integer dependencyCount, final String codeLocationName, final String extractionId) {
+    private void writeCodeLocationDetails(final ReportWriter writer, final DetectCodeLocation codeLocation, final String codeLocationName, final String extractionId) {
 
         writer.writeSeperator();
         writer.writeLine("Name : " + codeLocationName);
@@ -66,10 +73,13 @@ public class CodeLocationReporter {
         writer.writeLine("Extraction : " + extractionId);
         writer.writeLine("Detect Code Location Type : " + codeLocation.getCodeLocationType());
 
-        final DependencyGraph graph = codeLocation.getDependencyGraph();
+        final DependencyGraphStatistics statistics = codeLocation.getDependencyGraphStatistics();
 
-        writer.writeLine("Root Dependencies : " + graph.getRootDependencies().size());
-        writer.writeLine("Total Dependencies : " + dependencyCount);
+        writer.writeLine("Root Dependencies : " + statistics.getDirectDependencyCount());
+        writer.writeLine("Transitive Dependencies : " + statistics.getTransitiveDependencyCount());
+        writer.writeLine("Total Dependencies : " + statistics.getDependencyCount());
+        writer.writeLine("Relationships : " + statistics.getRelationshipCount());
+        writer.writeLine("Max Depth : " + statistics.getMaxDepth());
 
     }
 
@@ -69,12 +69,19 @@ public class ExtractionSummarizer extends DetectorEvaluationSummarizer {
                                                        .filter(it -> it.getExtraction().result == ExtractionResultType.EXCEPTION)
                                                        .collect(Collectors.toList());
 
-        final List<String> codeLocationNames = extractions.stream()
-                                                   .flatMap(it -> it.getExtraction().codeLocations.stream())
+        final List<DetectCodeLocation> codeLocations = extractions.stream()
+                                                           .flatMap(it -> it.getExtraction().codeLocations.stream())
+                                                           .collect(Collectors.toList());
+
+        final List<String> codeLocationNames = codeLocations.stream()
                                                    .map(codeLocation -> codeLocationNameMap.get(codeLocation))
                                                    .collect(Collectors.toList());
 
-        return new ExtractionSummaryData(directory, success, failure, exception, codeLocationNames);
+        final int dependencyCount = codeLocations.stream()
+                                        .mapToInt(codeLocation -> codeLocation.getDependencyGraphStatistics().getDependencyCount())
+                                        .sum();
+
+        return new ExtractionSummaryData(directory, success, failure, exception, codeLocationNames, dependencyCount);
     }
 
 }
@@ -34,13 +34,16 @@ public class ExtractionSummaryData {
     private final List<DetectorEvaluation> failed;
     private final List<DetectorEvaluation> exception;
     private final List<String> codeLocationNames;
+    private final int dependencyCount;
 
-    public ExtractionSummaryData(final String directory, final List<DetectorEvaluation> success, final List<DetectorEvaluation> failed, final List<DetectorEvaluation> exception, final List<String> codeLocationNames) {
+    public ExtractionSummaryData(final String directory, final List<DetectorEvaluation> success, final List<DetectorEvaluation> failed, final List<DetectorEvaluation> exception, final List<String> codeLocationNames,
+        final int dependencyCount) {
         this.directory = directory;
         this.success = success;
         this.failed = failed;
         this.exception = exception;
         this.codeLocationNames = codeLocationNames;
+        this.dependencyCount = dependencyCount;
     }
 
     public String getDirectory() {
@@ -62,4 +65,8 @@ public class ExtractionSummaryData {
     public List<String> getCodeLocationNames() {
         return codeLocationNames;
     }
+
+    public int getDependencyCount() {
+        return dependencyCount;
+    }
 }
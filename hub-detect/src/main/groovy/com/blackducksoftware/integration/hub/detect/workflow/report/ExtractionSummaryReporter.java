@@ -49,6 +49,7 @@ public class ExtractionSummaryReporter {
                 writer.writeLine(it.getDirectory());
                 writer.writeLine("\tCode locations: " + it.getCodeLocationNames().size());
                 it.getCodeLocationNames().stream().forEach(name -> writer.writeLine("\t\t" + name));
+                writer.writeLine("\tDependencies: " + it.getDependencyCount());
                 writeEvaluationsIfNotEmpty(writer, "\tSuccess: ", it.getSuccess());
                 writeEvaluationsIfNotEmpty(writer, "\tFailure: ", it.getFailed());
                 writeEvaluationsIfNotEmpty(writer, "\tException: ", it.getException());
@@ -68,12 +68,18 @@ public class OverviewSummarizer extends DetectorEvaluationSummarizer {
                     error = evaluation.getExtractabilityMessage();
                 }
                 boolean wasExtracted = evaluation.getExtraction() != null && evaluation.getExtraction().result == Extraction.ExtractionResultType.SUCCESS;
+                int dependencyCount = 0;
+                if (wasExtracted) {
+                    dependencyCount = evaluation.getExtraction().codeLocations.stream()
+                                          .mapToInt(codeLocation -> codeLocation.getDependencyGraphStatistics().getDependencyCount())
+                                          .sum();
+                }
                 if (evaluation.getExtraction() != null && StringUtils.isNotBlank(evaluation.getExtraction().description)) {
                     error = evaluation.getExtraction().description;
                 }
                 Map<String, String> associatedData = new HashMap<>();
                 ObjectPrinter.populateObjectPrivate(null, evaluation.getDetector(), associatedData);
-                OverviewSummaryData overviewSummaryData = new OverviewSummaryData(directory, name, wasExtractable, wasExtracted, associatedData, error);
+                OverviewSummaryData overviewSummaryData = new OverviewSummaryData(directory, name, wasExtractable, wasExtracted, dependencyCount, associatedData, error);
                 overviewSummaryDatas.add(overviewSummaryData);
             }
 
@@ -30,15 +30,17 @@ public class OverviewSummaryData {
     private final String detectorName;
     private final boolean wasExtractable;
     private final boolean wasExtracted;
+    private final int dependencyCount;
 
     private Map<String, String> associatedData;
     private String errorReason;
 
-    public OverviewSummaryData(final String directory, final String detectorName, final boolean wasExtractable, final boolean wasExtracted, final Map<String, String> associatedData, final String errorReason) {
+    public OverviewSummaryData(final String directory, final String detectorName, final boolean wasExtractable, final boolean wasExtracted, final int dependencyCount, final Map<String, String> associatedData, final String errorReason) {
         this.directory = directory;
         this.detectorName = detectorName;
         this.wasExtractable = wasExtractable;
         this.wasExtracted = wasExtracted;
+        this.dependencyCount = dependencyCount;
         this.associatedData = associatedData;
         this.errorReason = errorReason;
     }
@@ -66,4 +68,8 @@ public class OverviewSummaryData {
     public boolean wasExtracted() {
         return wasExtracted;
     }
+
+    public int getDependencyCount() {
+        return dependencyCount;
+    }
 }
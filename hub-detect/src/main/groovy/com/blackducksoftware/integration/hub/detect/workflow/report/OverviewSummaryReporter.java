@@ -47,6 +47,9 @@ public class OverviewSummaryReporter {
             writer.writeLine("DETECTOR: " + data.getDetectorName());
             writer.writeLine("\tEXTRACTABLE: " + data.wasExtractable());
             writer.writeLine("\tEXTRACTED: " + data.wasExtracted());
+            if (data.wasExtracted()) {
+                writer.writeLine("\tDEPENDENCIES: " + data.getDependencyCount());
+            }
             if (StringUtils.isNotBlank(data.getErrorReason())) {
                 writer.writeLine("\tERROR: " + data.getErrorReason());
             }
@@ -30,7 +30,10 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -45,6 +48,7 @@ import com.blackducksoftware.integration.hub.detect.detector.DetectorException;
 import com.blackducksoftware.integration.hub.detect.detector.DetectorType;
 import com.blackducksoftware.integration.hub.detect.exception.DetectUserFriendlyException;
 import com.blackducksoftware.integration.hub.detect.exitcode.ExitCodeType;
+import com.blackducksoftware.integration.hub.detect.workflow.file.DirectoryIndex;
 import com.blackducksoftware.integration.hub.detect.workflow.search.result.DetectorEvaluation;
 import com.blackducksoftware.integration.hub.detect.workflow.search.rules.DetectorSearchRuleSet;
 
@@ -52,11 +56,26 @@ public class DetectorFinder {
     private final Logger logger = LoggerFactory.getLogger(DetectorFinder.class);
 
     public List<DetectorEvaluation> findApplicableBomTools(final File initialDirectory, final DetectorFinderOptions options) throws DetectorException, DetectUserFriendlyException {
+        if (options.getSearchThreads() > 1) {
+            return findApplicableBomToolsInParallel(initialDirectory, options);
+        }
         final List<File> subDirectories = new ArrayList<>();
         subDirectories.add(initialDirectory);
         return findApplicableBomTools(subDirectories, new HashSet<Detector>(), 0, options);
     }
 
+    private List<DetectorEvaluation> findApplicableBomToolsInParallel(final File initialDirectory, final DetectorFinderOptions options) throws DetectUserFriendlyException {
+        logger.info(String.format("Searching for detectors using %d threads.", options.getSearchThreads()));
+        final ForkJoinPool searchPool = new ForkJoinPool(options.getSearchThreads());
+        try {
+            return searchPool.invoke(new DirectorySearchTask(initialDirectory, new HashSet<Detector>(), 0, options));
+        } catch (final DirectorySearchException e) {
+            throw e.getDetectUserFriendlyException();
+        } finally {
+            searchPool.shutdown();
+        }
+    }
+
     private List<DetectorEvaluation> findApplicableBomTools(final List<File> directoriesToSearch, final Set<Detector> appliedBefore, final int depth, final DetectorFinderOptions options)
         throws DetectorException, DetectUserFriendlyException {
 
@@ -79,22 +98,12 @@ public class DetectorFinder {
             logger.info("Searching directory: " + directory.getPath());
 
             final Set<DetectorType> applicableTypes = new HashSet<>();
-            final Set<Detector> applied = new HashSet<>();
             final List<DetectorEvaluation> evaluations = processDirectory(directory, appliedBefore, depth, options);
             results.addAll(evaluations);
 
-            final List<Detector> appliedBomTools = evaluations.stream()
-                                                       .filter(it -> it.isApplicable())
-                                                       .map(it -> it.getDetector())
-                                                       .collect(Collectors.toList());
-
-            applied.addAll(appliedBomTools);
-
             // TODO: Used to have a remaining detectors and would bail early here, not sure how to go about that?
-            final Set<Detector> everApplied = new HashSet<>();
-            everApplied.addAll(applied);
-            everApplied.addAll(appliedBefore);
-            final List<File> subdirectories = getSubDirectories(directory, options.getExcludedDirectories());
+            final Set<Detector> everApplied = determineEverApplied(evaluations, appliedBefore);
+            final List<File> subdirectories = getSubDirectories(directory, options);
             final List<DetectorEvaluation> recursiveResults = findApplicableBomTools(subdirectories, everApplied, depth + 1, options);
             results.addAll(recursiveResults);
 
@@ -104,28 +113,51 @@ public class DetectorFinder {
         return results;
     }
 
+    private Set<Detector> determineEverApplied(final List<DetectorEvaluation> evaluations, final Set<Detector> appliedBefore) {
+        final List<Detector> appliedBomTools = evaluations.stream()
+                                                   .filter(it -> it.isApplicable())
+                                                   .map(it -> it.getDetector())
+                                                   .collect(Collectors.toList());
+
+        final Set<Detector> everApplied = new HashSet<>();
+        everApplied.addAll(appliedBomTools);
+        everApplied.addAll(appliedBefore);
+        return everApplied;
+    }
+
     private List<DetectorEvaluation> processDirectory(final File directory, final Set<Detector> appliedBefore, final int depth, final DetectorFinderOptions options) {
+        options.getDirectoryIndex().indexDirectory(directory);
         final DetectorEnvironment environment = new DetectorEnvironment(directory, appliedBefore, depth, options.getDetectorFilter(), options.getForceNestedSearch());
         final DetectorSearchRuleSet bomToolSet = options.getDetectorSearchProvider().createBomToolSearchRuleSet(environment);
         final List<DetectorEvaluation> evaluations = options.getDetectorSearchEvaluator().evaluate(bomToolSet, options.getEventSystem());
         return evaluations;
     }
 
-    private List<File> getSubDirectories(final File directory, final List<String> excludedDirectories) throws DetectUserFriendlyException {
-        Stream<Path> stream = null;
-        try {
-            // only include directories that do not match the excluded directories
-            final Predicate<File> excludeDirectoriesPredicate = file -> {
-                boolean matchesExcludedDirectory = false;
-                for (final String excludedDirectory : excludedDirectories) {
-                    if (FilenameUtils.wildcardMatchOnSystem(file.getName(), excludedDirectory)) {
-                        matchesExcludedDirectory = true;
-                        break;
-                    }
+    private List<File> getSubDirectories(final File directory, final DetectorFinderOptions options) throws DetectUserFriendlyException {
+        final List<String> excludedDirectories = options.getExcludedDirectories();
+        // only include directories that do not match the excluded directories
+        final Predicate<File> excludeDirectoriesPredicate = file -> {
+            boolean matchesExcludedDirectory = false;
+            for (final String excludedDirectory : excludedDirectories) {
+                if (FilenameUtils.wildcardMatchOnSystem(file.getName(), excludedDirectory)) {
+                    matchesExcludedDirectory = true;
+                    break;
                 }
-                return !matchesExcludedDirectory;
-            };
+            }
+            return !matchesExcludedDirectory;
+        };
+
+        final Optional<List<DirectoryIndex.IndexedFile>> indexedChildren = options.getDirectoryIndex().getIndexedChildren(directory);
+        if (indexedChildren.isPresent()) {
+            return indexedChildren.get().stream()
+                       .filter(it -> it.isDirectory())
+                       .map(it -> it.getFile())
+                       .filter(excludeDirectoriesPredicate)
+                       .collect(Collectors.toList());
+        }
 
+        Stream<Path> stream = null;
+        try {
             stream = Files.list(directory.toPath());
             return stream.map(path -> path.toFile())
                        .filter(file -> file.isDirectory())
@@ -140,4 +172,75 @@ public class DetectorFinder {
             }
         }
     }
+
+    // Searches a single directory and then forks a task for each of its subdirectories. Child results are joined in directory order so the evaluations are in the same order as the serial search.
+    // Evaluations publish their applicable events from the pool threads, which relies on the event system and the detector timekeepers being safe for concurrent use.
+    private class DirectorySearchTask extends RecursiveTask<List<DetectorEvaluation>> {
+        private final File directory;
+        private final Set<Detector> appliedBefore;
+        private final int depth;
+        private final DetectorFinderOptions options;
+
+        public DirectorySearchTask(final File directory, final Set<Detector> appliedBefore, final int depth, final DetectorFinderOptions options) {
+            this.directory = directory;
+            this.appliedBefore = appliedBefore;
+            this.depth = depth;
+            this.options = options;
+        }
+
+        @Override
+        protected List<DetectorEvaluation> compute() {
+            final List<DetectorEvaluation> results = new ArrayList<>();
+
+            if (depth > options.getMaximumDepth()) {
+                return results;
+            }
+
+            if (depth > 0 && options.getExcludedDirectories().contains(directory.getName())) { // NEVER skip at depth 0.
+                logger.info("Skipping excluded directory: " + directory.getPath());
+                return results;
+            }
+
+            logger.info("Searching directory: " + directory.getPath());
+
+            final List<DetectorEvaluation> evaluations = processDirectory(directory, appliedBefore, depth, options);
+            results.addAll(evaluations);
+
+            if (depth + 1 > options.getMaximumDepth()) {
+                return results;
+            }
+
+            final Set<Detector> everApplied = determineEverApplied(evaluations, appliedBefore);
+            final List<File> subdirectories;
+            try {
+                subdirectories = getSubDirectories(directory, options);
+            } catch (final DetectUserFriendlyException e) {
+                throw new DirectorySearchException(e);
+            }
+
+            final List<DirectorySearchTask> subdirectoryTasks = subdirectories.stream()
+                                                                    .map(subdirectory -> new DirectorySearchTask(subdirectory, everApplied, depth + 1, options))
+                                                                    .collect(Collectors.toList());
+            invokeAll(subdirectoryTasks);
+            for (final DirectorySearchTask subdirectoryTask : subdirectoryTasks) {
+                results.addAll(subdirectoryTask.join());
+            }
+
+            return results;
+        }
+    }
+
+    private static class DirectorySearchException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        private final DetectUserFriendlyException detectUserFriendlyException;
+
+        public DirectorySearchException(final DetectUserFriendlyException detectUserFriendlyException) {
+            super(detectUserFriendlyException);
+            this.detectUserFriendlyException = detectUserFriendlyException;
+        }
+
+        public DetectUserFriendlyException getDetectUserFriendlyException() {
+            return detectUserFriendlyException;
+        }
+    }
 }
@@ -27,6 +27,7 @@ import java.util.List;
 
 import com.blackducksoftware.integration.hub.detect.util.filter.DetectFilter;
 import com.blackducksoftware.integration.hub.detect.workflow.event.EventSystem;
+import com.blackducksoftware.integration.hub.detect.workflow.file.DirectoryIndex;
 import com.blackducksoftware.integration.hub.detect.workflow.search.rules.DetectorSearchEvaluator;
 import com.blackducksoftware.integration.hub.detect.workflow.search.rules.DetectorSearchProvider;
 
@@ -39,9 +40,12 @@ public class DetectorFinderOptions {
     private final DetectorSearchProvider detectorSearchProvider;
     private final DetectorSearchEvaluator detectorSearchEvaluator;
     private final EventSystem eventSystem;
+    private final int searchThreads;
+    private final DirectoryIndex directoryIndex;
 
     public DetectorFinderOptions(final List<String> excludedDirectories, final Boolean forceNestedSearch, final int maximumDepth, final DetectFilter detectorFilter,
-        final DetectorSearchProvider detectorSearchProvider, final DetectorSearchEvaluator detectorSearchEvaluator, EventSystem eventSystem) {
+        final DetectorSearchProvider detectorSearchProvider, final DetectorSearchEvaluator detectorSearchEvaluator, EventSystem eventSystem, final int searchThreads,
+        final DirectoryIndex directoryIndex) {
         this.excludedDirectories = excludedDirectories;
         this.forceNestedSearch = forceNestedSearch;
         this.maximumDepth = maximumDepth;
@@ -49,6 +53,8 @@ public class DetectorFinderOptions {
         this.detectorSearchProvider = detectorSearchProvider;
         this.detectorSearchEvaluator = detectorSearchEvaluator;
         this.eventSystem = eventSystem;
+        this.searchThreads = searchThreads;
+        this.directoryIndex = directoryIndex;
     }
 
     public List<String> getExcludedDirectories() {
@@ -78,4 +84,12 @@ public class DetectorFinderOptions {
     public EventSystem getEventSystem() {
         return eventSystem;
     }
+
+    public int getSearchThreads() {
+        return searchThreads;
+    }
+
+    public DirectoryIndex getDirectoryIndex() {
+        return directoryIndex;
+    }
 }
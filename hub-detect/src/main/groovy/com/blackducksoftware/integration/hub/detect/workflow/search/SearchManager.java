@@ -35,6 +35,7 @@ import com.blackducksoftware.integration.hub.detect.detector.DetectorException;
 import com.blackducksoftware.integration.hub.detect.detector.DetectorType;
 import com.blackducksoftware.integration.hub.detect.exception.DetectUserFriendlyException;
 import com.blackducksoftware.integration.hub.detect.workflow.event.EventSystem;
+import com.blackducksoftware.integration.hub.detect.workflow.file.DirectoryIndex;
 import com.blackducksoftware.integration.hub.detect.workflow.search.result.DetectorEvaluation;
 import com.blackducksoftware.integration.hub.detect.workflow.search.rules.DetectorSearchEvaluator;
 import com.blackducksoftware.integration.hub.detect.workflow.search.rules.DetectorSearchProvider;
@@ -46,25 +47,31 @@ public class SearchManager {
     private final DetectorSearchProvider detectorSearchProvider;
     private final DetectorSearchEvaluator detectorSearchEvaluator;
     private final EventSystem eventSystem;
+    private final DirectoryIndex directoryIndex;
 
-    public SearchManager(final SearchOptions searchOptions, final DetectorSearchProvider detectorSearchProvider, final DetectorSearchEvaluator detectorSearchEvaluator, EventSystem eventSystem) {
+    public SearchManager(final SearchOptions searchOptions, final DetectorSearchProvider detectorSearchProvider, final DetectorSearchEvaluator detectorSearchEvaluator, EventSystem eventSystem,
+        final DirectoryIndex directoryIndex) {
         this.searchOptions = searchOptions;
         this.detectorSearchProvider = detectorSearchProvider;
         this.detectorSearchEvaluator = detectorSearchEvaluator;
         this.eventSystem = eventSystem;
+        this.directoryIndex = directoryIndex;
     }
 
     public SearchResult performSearch() throws DetectUserFriendlyException {
         List<DetectorEvaluation> searchResults = new ArrayList<>();
         try {
             final DetectorFinderOptions findOptions = new DetectorFinderOptions(searchOptions.excludedDirectories, searchOptions.forceNestedSearch, searchOptions.maxDepth, searchOptions.detectorFilter, detectorSearchProvider,
-                detectorSearchEvaluator, eventSystem);
+                detectorSearchEvaluator, eventSystem, searchOptions.searchThreads, directoryIndex);
 
             logger.info("Starting search for detectors.");
             final DetectorFinder bomToolTreeWalker = new DetectorFinder();
             searchResults = bomToolTreeWalker.findApplicableBomTools(searchOptions.searchPath, findOptions);
         } catch (final DetectorException e) {
             return new SearchResultBomToolFailed(e);
+        } finally {
+            // The index only reflects the tree as it was during the search, extraction may change it.
+            directoryIndex.clear();
         }
 
         final Set<DetectorType> applicableBomTools = searchResults.stream()
@@ -34,12 +34,14 @@ public class SearchOptions {
     public final boolean forceNestedSearch;
     public final int maxDepth;
     public final DetectFilter detectorFilter;
+    public final int searchThreads;
 
-    public SearchOptions(File searchPath, List<String> excludedDirectories, boolean forceNestedSearch, int maxDepth, DetectFilter detectorFilter) {
+    public SearchOptions(File searchPath, List<String> excludedDirectories, boolean forceNestedSearch, int maxDepth, DetectFilter detectorFilter, int searchThreads) {
         this.searchPath = searchPath;
         this.excludedDirectories = excludedDirectories;
         this.forceNestedSearch = forceNestedSearch;
         this.maxDepth = maxDepth;
         this.detectorFilter = detectorFilter;
+        this.searchThreads = searchThreads;
     }
 }
@@ -35,7 +35,7 @@ public class DetectStatusManager {
     private List<Status> statusSummaries = new ArrayList<>();
 
     public DetectStatusManager(EventSystem eventSystem) {
-        eventSystem.registerListener(Event.StatusSummary, event -> addStatusSummary(event));
+        eventSystem.registerAsyncListener(Event.StatusSummary, event -> addStatusSummary(event));
     }
 
     public void addStatusSummary(Status status) {
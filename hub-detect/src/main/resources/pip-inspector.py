@@ -35,23 +35,87 @@ else:
     from pip.req import parse_requirements
     from pip.download import PipSession
 
+# Printed after each tree in batch mode so the caller knows the inspection is complete
+END_OF_TREE = 'e?'
+BATCH_FIELD_SEPARATOR = '\t'
+
+project_names_by_setup_path = {}
+
+
 def main():
     try:
-        opts, args = getopt.getopt(sys.argv[1:], 'p:r', ['projectname=', 'requirements='])
+        opts, args = getopt.getopt(sys.argv[1:], 'p:rb', ['projectname=', 'requirements=', 'batch'])
     except getopt.GetoptError as error:
         print(str(error))
         print('integration-pip-inspector.py -projectname=<project_name> -requirements=<requirements_path>')
+        print('integration-pip-inspector.py -batch')
         sys.exit(2)
 
     project_name = None
     requirements_path = None
+    batch = False
 
     for opt, arg in opts:
         if opt in '--projectname':
             project_name = arg
         elif opt in '--requirements':
             requirements_path = arg
+        elif opt in '--batch':
+            batch = True
+
+    if batch:
+        run_batch()
+    else:
+        inspect(project_name, requirements_path)
+
+
+# Reads one request per line from stdin: directory, project name, setup.py path and requirements path separated by tabs,
+# with empty fields for values that are not known. Each request is answered with its tree followed by END_OF_TREE.
+def run_batch():
+    while True:
+        line = sys.stdin.readline()
+        if not line:
+            break
+        fields = line.rstrip('\r\n').split(BATCH_FIELD_SEPARATOR) + [''] * 4
+        directory, project_name, setup_path, requirements_path = [field or None for field in fields[:4]]
+        if directory is not None:
+            os.chdir(directory)
+        if project_name is None and setup_path is not None:
+            project_name = resolve_project_name(setup_path)
+        inspect(project_name, requirements_path)
+        print(END_OF_TREE)
+        sys.stdout.flush()
+
+
+# Reads the project name from setup.py inside this interpreter instead of running 'setup.py --name' in a new one
+def resolve_project_name(setup_path):
+    if setup_path in project_names_by_setup_path:
+        return project_names_by_setup_path[setup_path]
 
+    project_name = None
+    working_directory = os.getcwd()
+    standard_output = sys.stdout
+    try:
+        from distutils.core import run_setup
+        os.chdir(os.path.dirname(setup_path))
+        # setup.py may print, which must not end up in the tree output
+        sys.stdout = sys.stderr
+        distribution = run_setup(setup_path, script_args=['--name'], stop_after='init')
+        name = distribution.get_name()
+        if name and name != 'UNKNOWN':
+            project_name = name.replace('_', '-').strip()
+    except BaseException as error:
+        # setup.py can fail or call sys.exit, the request is still answered without a project name
+        sys.stderr.write('Could not read the project name from %s: %r\n' % (setup_path, error))
+    finally:
+        sys.stdout = standard_output
+        os.chdir(working_directory)
+
+    project_names_by_setup_path[setup_path] = project_name
+    return project_name
+
+
+def inspect(project_name, requirements_path):
     project = None
 
     if project_name is not None:
@@ -1,21 +1,23 @@
 package com.blackducksoftware.integration.hub.detect.detector.bitbake;
 
+import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.Test;
 import org.springframework.core.io.ClassPathResource;
 
-import com.paypal.digraph.parser.GraphParser;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
 
 public class GraphParserTransformerTest {
     @Test
     public void transform() throws IOException {
         final GraphParserTransformer graphParserTransformer = new GraphParserTransformer();
-        final InputStream inputStream = new ClassPathResource("/bitbake/recipe-depends.dot").getInputStream();
-        final GraphParser graphParser = new GraphParser(inputStream);
-        final DependencyGraph dependencyGraph = graphParserTransformer.transform(graphParser, "i586-poky-linux");
+        final DependencyGraph dependencyGraph;
+        try (final BufferedReader reader = new BufferedReader(new InputStreamReader(new ClassPathResource("/bitbake/recipe-depends.dot").getInputStream(), StandardCharsets.UTF_8))) {
+            dependencyGraph = graphParserTransformer.transform(reader, "i586-poky-linux");
+        }
 
         assert dependencyGraph.getRootDependencies().size() == 480;
     }
@@ -6,6 +6,7 @@ import java.io.File;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.lang3.SystemUtils;
 import org.junit.Assume;
@@ -45,4 +46,34 @@ public class ApkPackageManagerTest {
         assertEquals("x86_64", pkgs.get(0).getPackageArch());
     }
 
+    @Test
+    public void testBatch() throws ExecutableRunnerException {
+        Assume.assumeFalse(SystemUtils.IS_OS_WINDOWS);
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append("/usr/include/stdlib.h is owned by musl-dev-1.1.18-r3\n");
+        sb.append("/usr/include/zlib.h is owned by zlib-dev-1.2.11-r1\n");
+        sb.append("/some/other/file.h is owned by other-dev-1.0-r0\n");
+        final String pkgMgrOwnedByOutput = sb.toString();
+
+        final File stdlibFile = new File("/usr/include/stdlib.h");
+        final File zlibFile = new File("/usr/include/zlib.h");
+        final File unownedFile = new File("/usr/include/unowned.h");
+        final ApkPackageManager pkgMgr = new ApkPackageManager();
+        final ExecutableRunner executableRunner = Mockito.mock(ExecutableRunner.class);
+        Mockito.when(executableRunner.executeQuietly(null, "apk", "info", "--print-arch")).thenReturn(new ExecutableOutput(0, "x86_64\n", ""));
+        Mockito.when(executableRunner.executeQuietly(null, "apk", Arrays.asList("info", "--who-owns", stdlibFile.getAbsolutePath(), zlibFile.getAbsolutePath(), unownedFile.getAbsolutePath())))
+            .thenReturn(new ExecutableOutput(0, pkgMgrOwnedByOutput, ""));
+
+        final List<DependencyFileDetails> dependencyFiles = Arrays.asList(new DependencyFileDetails(false, stdlibFile), new DependencyFileDetails(false, zlibFile), new DependencyFileDetails(false, unownedFile));
+        final Map<File, List<PackageDetails>> pkgs = pkgMgr.getPackages(null, executableRunner, new HashSet<>(), dependencyFiles);
+        assertEquals(3, pkgs.size());
+        assertEquals(1, pkgs.get(stdlibFile).size());
+        assertEquals("musl-dev", pkgs.get(stdlibFile).get(0).getPackageName());
+        assertEquals(1, pkgs.get(zlibFile).size());
+        assertEquals("zlib-dev", pkgs.get(zlibFile).get(0).getPackageName());
+        assertEquals("1.2.11-r1", pkgs.get(zlibFile).get(0).getPackageVersion());
+        assertEquals(0, pkgs.get(unownedFile).size());
+    }
+
 }
@@ -52,6 +52,49 @@ public class ClangCompileCommandParserTest {
         assertEquals("/testMkFilePath", result.get(i++));
     }
 
+    @Test
+    public void testGetCompilerArgsForPrintingDepsMk() {
+        ClangCompileCommandParser compileCommandParser = new ClangCompileCommandParser();
+
+        List<String> result = compileCommandParser.getCompilerArgsForPrintingDepsMk(
+            "g++ -DDOUBLEQUOTED=\"A value for the compiler\" -MD -MF file.d file.c -o file.o");
+
+        assertEquals(3, result.size());
+        int i=0;
+        assertEquals("-DDOUBLEQUOTED=A value for the compiler", result.get(i++));
+        assertEquals("file.c", result.get(i++));
+        assertEquals("-M", result.get(i++));
+    }
+
+    @Test
+    public void testGetCompilerArgsForPrintingDepsMkWithJoinedValues() {
+        ClangCompileCommandParser compileCommandParser = new ClangCompileCommandParser();
+
+        List<String> result = compileCommandParser.getCompilerArgsForPrintingDepsMk(
+            "g++ -O2 -MMD -MFfile.d file.c -ofile.o");
+
+        assertEquals(3, result.size());
+        int i=0;
+        assertEquals("-O2", result.get(i++));
+        assertEquals("file.c", result.get(i++));
+        assertEquals("-M", result.get(i++));
+    }
+
+    @Test
+    public void testGetCompilerArgsForPrintingDepsMkKeepsFlagsStartingWithOutputOption() {
+        ClangCompileCommandParser compileCommandParser = new ClangCompileCommandParser();
+
+        List<String> result = compileCommandParser.getCompilerArgsForPrintingDepsMk(
+            "clang -objcmt-migrate-literals -opt-record-file=file.yaml file.m -ofile.o");
+
+        assertEquals(4, result.size());
+        int i=0;
+        assertEquals("-objcmt-migrate-literals", result.get(i++));
+        assertEquals("-opt-record-file=file.yaml", result.get(i++));
+        assertEquals("file.m", result.get(i++));
+        assertEquals("-M", result.get(i++));
+    }
+
     @Test
     public void testGetCompilerArgsFromJsonFile() throws IOException {
         final List<CompileCommand> compileCommands = CompileCommandsJsonFile.parseJsonCompilationDatabaseFile(new Gson(), new File("src/test/resources/clang/compile_commands.json"));
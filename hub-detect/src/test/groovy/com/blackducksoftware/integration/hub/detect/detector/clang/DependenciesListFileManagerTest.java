@@ -0,0 +1,62 @@
+package com.blackducksoftware.integration.hub.detect.detector.clang;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableOutput;
+import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableRunner;
+import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableRunnerException;
+
+public class DependenciesListFileManagerTest {
+
+    @Test
+    public void testParsesDependenciesPrintedToStandardOutput() throws ExecutableRunnerException {
+        final ExecutableRunner executableRunner = Mockito.mock(ExecutableRunner.class);
+        Mockito.when(executableRunner.executeFromDirQuietly(Mockito.any(File.class), Mockito.anyString(), Mockito.anyList()))
+            .thenReturn(new ExecutableOutput(0, "file.o: src/file.c \\\n  /usr/include/stdio.h include/file.h", ""));
+
+        final DependenciesListFileManager manager = new DependenciesListFileManager(executableRunner, new ClangCompileCommandParser());
+        final Set<String> paths = manager.generateDependencyFilePaths(createCompileCommand());
+
+        assertEquals(new HashSet<>(Arrays.asList("src/file.c", "/usr/include/stdio.h", "include/file.h")), paths);
+        Mockito.verify(executableRunner).executeFromDirQuietly(new File("/project"), "gcc", Arrays.asList("-c", "src/file.c", "-M"));
+    }
+
+    @Test
+    public void testBlankStandardOutputIsSkipped() throws ExecutableRunnerException {
+        final ExecutableRunner executableRunner = Mockito.mock(ExecutableRunner.class);
+        Mockito.when(executableRunner.executeFromDirQuietly(Mockito.any(File.class), Mockito.anyString(), Mockito.anyList()))
+            .thenReturn(new ExecutableOutput(1, "", "src/file.c: No such file or directory"));
+
+        final DependenciesListFileManager manager = new DependenciesListFileManager(executableRunner, new ClangCompileCommandParser());
+
+        assertTrue(manager.generateDependencyFilePaths(createCompileCommand()).isEmpty());
+    }
+
+    @Test
+    public void testUnparseableOutputIsSkipped() throws ExecutableRunnerException {
+        final ExecutableRunner executableRunner = Mockito.mock(ExecutableRunner.class);
+        Mockito.when(executableRunner.executeFromDirQuietly(Mockito.any(File.class), Mockito.anyString(), Mockito.anyList()))
+            .thenReturn(new ExecutableOutput(0, "not a dependency list", ""));
+
+        final DependenciesListFileManager manager = new DependenciesListFileManager(executableRunner, new ClangCompileCommandParser());
+
+        assertTrue(manager.generateDependencyFilePaths(createCompileCommand()).isEmpty());
+    }
+
+    private CompileCommand createCompileCommand() {
+        final CompileCommandJsonData rawCompileCommand = new CompileCommandJsonData();
+        rawCompileCommand.directory = "/project";
+        rawCompileCommand.command = "gcc -c src/file.c -o file.o";
+        rawCompileCommand.file = "src/file.c";
+        return new CompileCommand(rawCompileCommand);
+    }
+}
@@ -12,6 +12,7 @@
 package com.blackducksoftware.integration.hub.detect.detector.go;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 
 import org.apache.commons.io.IOUtils;
@@ -22,6 +23,7 @@ import com.blackducksoftware.integration.hub.detect.testutils.DependencyGraphRes
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 
 public class GopkgLockParserTest {
@@ -36,4 +38,30 @@ public class GopkgLockParserTest {
 
         DependencyGraphResourceTestUtil.assertGraph("/go/Go_GopkgExpected_graph.json", dependencyGraph);
     }
+
+    @Test
+    public void multiLinePackagesTest() throws IOException {
+        final GopkgLockParser gopkgLockParser = new GopkgLockParser(new ExternalIdFactory());
+        final String gopkgLockContents = String.join("\n",
+            "[[projects]]",
+            "  digest = \"1:abc\"",
+            "  name = \"golang.org/x/net\"",
+            "  packages = [",
+            "    \"context\",",
+            "    \"http2/hpack\", # a comment ]",
+            "  ]",
+            "  pruneopts = \"UT\"",
+            "  revision = \"f4c29de78a2a91c00474a2e689954305c350adf9\"",
+            "",
+            "[solve-meta]",
+            "  input-imports = [\"golang.org/x/net/context\"]",
+            "  solver-name = \"gps-cdcl\"");
+        final DependencyGraph dependencyGraph = gopkgLockParser.parseDepLock(new StringReader(gopkgLockContents));
+
+        Assert.assertEquals(2, dependencyGraph.getRootDependencies().size());
+        for (final Dependency dependency : dependencyGraph.getRootDependencies()) {
+            Assert.assertTrue(dependency.name.equals("net/context") || dependency.name.equals("net/http2/hpack"));
+            Assert.assertEquals("f4c29de78a2a91c00474a2e689954305c350adf9", dependency.version);
+        }
+    }
 }
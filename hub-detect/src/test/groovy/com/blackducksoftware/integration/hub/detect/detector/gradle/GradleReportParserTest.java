@@ -20,7 +20,9 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.Test;
 
@@ -28,6 +30,7 @@ import com.blackducksoftware.integration.hub.detect.testutils.TestUtil;
 import com.blackducksoftware.integration.hub.detect.workflow.codelocation.DetectCodeLocation;
 import com.google.gson.GsonBuilder;
 import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 import com.synopsys.integration.util.NameVersion;
 
@@ -101,6 +104,22 @@ public class GradleReportParserTest {
         System.out.println(new GsonBuilder().setPrettyPrinting().create().toJson(result.get()));
     }
 
+    @Test
+    public void testSharedDependencyPool() throws IOException {
+        final File file = new File("src/test/resources/gradle/dependencyGraph.txt");
+        final GradleReportParser gradleReportParser = new GradleReportParser(new ExternalIdFactory());
+        final Map<String, Dependency> dependencyPool = new ConcurrentHashMap<>();
+        final Optional<DetectCodeLocation> first = gradleReportParser.parseDependencies(file, dependencyPool);
+        final int pooledDependencies = dependencyPool.size();
+        final Optional<DetectCodeLocation> second = gradleReportParser.parseDependencies(file, dependencyPool);
+
+        assertTrue(first.isPresent());
+        assertTrue(second.isPresent());
+        assertTrue(pooledDependencies > 0);
+        assertEquals(pooledDependencies, dependencyPool.size());
+        testUtil.testJsonResource("/gradle/dependencyGraph-expected.json", second.get());
+    }
+
     private void createNewCodeLocationTest(final String gradleInspectorOutputFilePath, final String expectedResourcePath, final String rootProjectFilePath, final String rootProjectName, final String rootProjectVersionName)
         throws IOException {
         final GradleReportParser gradleReportParser = new GradleReportParser(new ExternalIdFactory());
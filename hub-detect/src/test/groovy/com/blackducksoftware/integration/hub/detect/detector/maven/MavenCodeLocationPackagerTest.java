@@ -12,6 +12,7 @@ import org.junit.Test;
 
 import com.blackducksoftware.integration.hub.detect.testutils.TestUtil;
 import com.blackducksoftware.integration.hub.detect.workflow.codelocation.DetectCodeLocation;
+import com.synopsys.integration.bdio.graph.DependencyGraph;
 import com.synopsys.integration.bdio.model.dependency.Dependency;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 
@@ -66,6 +67,29 @@ public class MavenCodeLocationPackagerTest {
         createNewCodeLocationTest(mavenOutputText, "/maven/webgoatCodeLocation.json", 1, "", "");
     }
 
+    @Test
+    public void extractCodeLocationsSkipsLinesWithoutParent() {
+        final String nl = System.lineSeparator();
+        final String mavenOutputText = "[INFO] --- maven-dependency-plugin:2.8:tree (default-cli) @ project ---" + nl
+                                           + "[INFO] group:project:jar:1.0" + nl
+                                           + "[INFO] |  |  \\- group:orphan:jar:1.0:compile" + nl
+                                           + "[INFO] +- group:direct:jar:1.0:compile" + nl
+                                           + "[INFO] |  |  \\- group:skipped:jar:1.0:compile" + nl
+                                           + "[INFO] |  \\- group:transitive:jar:1.0:compile" + nl
+                                           + "[INFO] ------------------------------------------------------------------------" + nl;
+
+        final MavenCodeLocationPackager mavenCodeLocationPackager = new MavenCodeLocationPackager(new ExternalIdFactory());
+        final List<MavenParseResult> result = mavenCodeLocationPackager.extractCodeLocations("/test/path", mavenOutputText, "", "");
+        assertEquals(1, result.size());
+
+        final DependencyGraph graph = result.get(0).codeLocation.getDependencyGraph();
+        assertEquals(1, graph.getRootDependencies().size());
+        final Dependency direct = graph.getRootDependencies().iterator().next();
+        assertEquals("direct", direct.name);
+        assertEquals(1, graph.getChildrenForParent(direct).size());
+        assertEquals("transitive", graph.getChildrenForParent(direct).iterator().next().name);
+    }
+
     @Test
     public void testParseProject() {
         final MavenCodeLocationPackager mavenCodeLocationPackager = new MavenCodeLocationPackager(new ExternalIdFactory());
@@ -305,6 +329,21 @@ public class MavenCodeLocationPackagerTest {
         assertEquals("org.eclipse.scout.sdk.deps:org.eclipse.core.jobs:pants (version selected from", dependency.externalId.createExternalId());
     }
 
+    @Test
+    public void testCalculateLevel() {
+        final MavenCodeLocationPackager mavenCodeLocationPackager = new MavenCodeLocationPackager(null);
+
+        assertEquals(0, mavenCodeLocationPackager.calculateLevel("group:artifact:jar:1.0:compile"));
+
+        assertEquals(1, mavenCodeLocationPackager.calculateLevel("+- group:artifact:jar:1.0:compile"));
+
+        assertEquals(3, mavenCodeLocationPackager.calculateLevel("|  |  \\- group:artifact:jar:1.0:compile"));
+
+        assertEquals(3, mavenCodeLocationPackager.calculateLevel("|     \\- group:artifact:jar:1.0:compile"));
+
+        assertEquals("group:artifact:jar:1.0:compile", mavenCodeLocationPackager.calculateCurrentLevelAndCleanLine("|     \\- group:artifact:jar:1.0:compile"));
+    }
+
     private void createNewCodeLocationTest(final String mavenOutputText, final String expectedResourcePath) {
         createNewCodeLocationTest(mavenOutputText, expectedResourcePath, 1, "", "");
     }
@@ -0,0 +1,65 @@
+package com.blackducksoftware.integration.hub.detect.detector.npm;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.blackducksoftware.integration.hub.detect.configuration.DetectConfiguration;
+import com.blackducksoftware.integration.hub.detect.util.executable.Executable;
+import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableOutput;
+import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableResolutionCache;
+import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableRunner;
+import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableRunnerException;
+
+public class NpmExecutableFinderTest {
+
+    @Test
+    public void testWarmValidationDoesNotRunNpm() throws IOException, ExecutableRunnerException {
+        final File cacheDirectory = Files.createTempDirectory("executables").toFile();
+        try {
+            final File npm = new File(cacheDirectory, "npm");
+            FileUtils.write(npm, "#!/bin/sh", "UTF-8");
+            final DetectConfiguration detectConfiguration = Mockito.mock(DetectConfiguration.class);
+            final ExecutableRunner executableRunner = Mockito.mock(ExecutableRunner.class);
+            Mockito.when(executableRunner.execute(Mockito.any(Executable.class))).thenReturn(new ExecutableOutput(0, "6.4.1", ""));
+
+            final NpmExecutableFinder coldFinder = new NpmExecutableFinder(null, null, executableRunner, detectConfiguration, new ExecutableResolutionCache(cacheDirectory));
+            assertTrue(coldFinder.validateNpm(null, npm.getAbsolutePath()));
+
+            // A later run starts with a new cache instance that reads what the first run wrote
+            final NpmExecutableFinder warmFinder = new NpmExecutableFinder(null, null, executableRunner, detectConfiguration, new ExecutableResolutionCache(cacheDirectory));
+            assertTrue(warmFinder.validateNpm(null, npm.getAbsolutePath()));
+
+            Mockito.verify(executableRunner, Mockito.times(1)).execute(Mockito.any(Executable.class));
+        } finally {
+            FileUtils.deleteDirectory(cacheDirectory);
+        }
+    }
+
+    @Test
+    public void testChangedNpmIsValidatedAgain() throws IOException, ExecutableRunnerException {
+        final File cacheDirectory = Files.createTempDirectory("executables").toFile();
+        try {
+            final File npm = new File(cacheDirectory, "npm");
+            FileUtils.write(npm, "#!/bin/sh", "UTF-8");
+            final DetectConfiguration detectConfiguration = Mockito.mock(DetectConfiguration.class);
+            final ExecutableRunner executableRunner = Mockito.mock(ExecutableRunner.class);
+            Mockito.when(executableRunner.execute(Mockito.any(Executable.class))).thenReturn(new ExecutableOutput(0, "6.4.1", ""));
+
+            final NpmExecutableFinder finder = new NpmExecutableFinder(null, null, executableRunner, detectConfiguration, new ExecutableResolutionCache(cacheDirectory));
+            assertTrue(finder.validateNpm(null, npm.getAbsolutePath()));
+            assertTrue(npm.setLastModified(npm.lastModified() - 10000));
+            assertTrue(finder.validateNpm(null, npm.getAbsolutePath()));
+
+            Mockito.verify(executableRunner, Mockito.times(2)).execute(Mockito.any(Executable.class));
+        } finally {
+            FileUtils.deleteDirectory(cacheDirectory);
+        }
+    }
+}
@@ -1,17 +1,29 @@
 package com.blackducksoftware.integration.hub.detect.detector.npm;
 
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
 import com.blackducksoftware.integration.hub.detect.detector.npm.model.PackageJson;
-import com.blackducksoftware.integration.hub.detect.detector.npm.model.PackageLock;
 import com.blackducksoftware.integration.hub.detect.testutils.DependencyGraphResourceTestUtil;
 import com.blackducksoftware.integration.hub.detect.testutils.TestUtil;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
 import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
 
 public class NpmLockfileParserTest {
@@ -51,8 +63,10 @@ public class NpmLockfileParserTest {
         //So we replicate a package json with every package as root.
         PackageJson packageJson = new PackageJson();
         Gson gson = new Gson();
-        PackageLock packageLock = gson.fromJson(lockFileText, PackageLock.class);
-        packageLock.dependencies.forEach((key, value) -> packageJson.dependencies.put(key, key));
+        JsonObject packageLock = gson.fromJson(lockFileText, JsonObject.class);
+        for (Map.Entry<String, JsonElement> dependency : packageLock.getAsJsonObject("dependencies").entrySet()) {
+            packageJson.dependencies.put(dependency.getKey(), dependency.getKey());
+        }
         String text = gson.toJson(packageJson);
         return Optional.of(text);
     }
@@ -76,4 +90,29 @@ public class NpmLockfileParserTest {
         Assert.assertEquals(result.projectVersion, "1.3.7");
         DependencyGraphResourceTestUtil.assertGraph("/npm/shrinkwrapExpected_graph.json", result.codeLocation.getDependencyGraph());
     }
+
+    @Test
+    public void parseNestedLockFileFromReaderTest() throws IOException {
+        final NpmParseResult result;
+        try (Reader reader = new FileReader(new File("src/test/resources/npm/nested-package-lock.json"))) {
+            result = npmLockfileParser.parse("source", Optional.empty(), reader, true);
+        }
+
+        Assert.assertEquals("nested-project", result.projectName);
+        Assert.assertEquals("1.0.0", result.projectVersion);
+        final DependencyGraph graph = result.codeLocation.getDependencyGraph();
+        Assert.assertEquals(asSet(npm("app-core", "1.0.0"), npm("left-pad", "1.3.0"), npm("shared-util", "1.2.0")), graph.getRootDependencyExternalIds());
+        // The nested left-pad shadows the top level one, while shared-util is only found at the root
+        Assert.assertEquals(asSet(npm("left-pad", "2.0.0"), npm("shared-util", "1.2.0")), graph.getChildrenExternalIdsForParent(npm("app-core", "1.0.0")));
+        // Resolving shared-util from the nested left-pad walks up through app-core to the root
+        Assert.assertEquals(asSet(npm("shared-util", "1.2.0")), graph.getChildrenExternalIdsForParent(npm("left-pad", "2.0.0")));
+    }
+
+    private ExternalId npm(final String name, final String version) {
+        return new ExternalIdFactory().createNameVersionExternalId(Forge.NPM, name, version);
+    }
+
+    private Set<ExternalId> asSet(final ExternalId... externalIds) {
+        return new HashSet<>(Arrays.asList(externalIds));
+    }
 }
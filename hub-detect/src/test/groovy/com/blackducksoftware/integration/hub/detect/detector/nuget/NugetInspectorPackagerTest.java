@@ -4,6 +4,8 @@ import static org.junit.Assert.assertEquals;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -83,6 +85,24 @@ public class NugetInspectorPackagerTest {
         }
     }
 
+    @Test
+    public void createCodeLocationSkipsUnknownProperties() throws IOException {
+        final File dependencyNodeFile = Files.createTempFile("nuget", "_inspection.json").toFile();
+        dependencyNodeFile.deleteOnExit();
+        final String inspection = "{\"Name\": \"Nuget Inspector Inspection Result\", \"Extra\": {\"Containers\": []}, \"Containers\": ["
+                                      + "{\"Name\": \"Example\", \"Version\": \"1.0.0\", \"Type\": \"Project\", \"SourcePath\": \"Example.csproj\", \"Packages\": [], \"Dependencies\": []}"
+                                      + "], \"Trailing\": [1, 2, 3]}";
+        Files.write(dependencyNodeFile.toPath(), inspection.getBytes(StandardCharsets.UTF_8));
+
+        final NugetInspectorPackager packager = new NugetInspectorPackager(gson, new ExternalIdFactory());
+        final NugetParseResult result = packager.createDetectCodeLocation(dependencyNodeFile);
+
+        assertEquals("Example", result.projectName);
+        assertEquals("1.0.0", result.projectVersion);
+        assertEquals(1, result.codeLocations.size());
+        assertEquals("Example.csproj", result.codeLocations.get(0).getSourcePath());
+    }
+
     private void createCodeLocation(final File dependencyNodeFile, final List<String> expectedOutputFiles) throws IOException {
         final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
         final NugetInspectorPackager packager = new NugetInspectorPackager(gson, externalIdFactory);
@@ -0,0 +1,102 @@
+package com.blackducksoftware.integration.hub.detect.detector.pip;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.blackducksoftware.integration.hub.detect.configuration.DetectConfiguration;
+import com.blackducksoftware.integration.hub.detect.configuration.DetectProperty;
+import com.blackducksoftware.integration.hub.detect.configuration.PropertyAuthority;
+import com.blackducksoftware.integration.hub.detect.workflow.extraction.Extraction;
+import com.blackducksoftware.integration.hub.detect.workflow.extraction.Extraction.ExtractionResultType;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+
+public class PipInspectorSessionTest {
+    // The fake inspector is a shell script, so the shell stands in for the python executable
+    private static final String SHELL = "sh";
+    private static final File FAKE_INSPECTOR = new File("src/test/resources/pip/fake-pip-inspector.sh");
+
+    private final File directory = new File("src/test/resources/pip").getAbsoluteFile();
+    private final PipInspectorTreeParser treeParser = new PipInspectorTreeParser(new ExternalIdFactory());
+
+    @Test
+    public void testEachRequestEndsAtTheTerminator() throws IOException {
+        final PipInspectorSession session = new PipInspectorSession(directory, SHELL, FAKE_INSPECTOR);
+        try {
+            final Optional<PipParseResult> first = session.inspect(treeParser.startTree(directory.toString()), directory, "first", null, null);
+            final Optional<PipParseResult> second = session.inspect(treeParser.startTree(directory.toString()), directory, "second", null, null);
+
+            assertEquals("first", first.get().getProjectName());
+            assertEquals(1, first.get().getCodeLocation().getDependencyGraph().getRootDependencies().size());
+            assertEquals("second", second.get().getProjectName());
+            assertTrue(session.isAlive());
+        } finally {
+            session.close();
+        }
+        assertFalse(session.isAlive());
+    }
+
+    @Test
+    public void testProcessExitingBeforeTheTerminatorFails() throws IOException {
+        final PipInspectorSession session = new PipInspectorSession(directory, SHELL, FAKE_INSPECTOR);
+        try {
+            session.inspect(treeParser.startTree(directory.toString()), directory, "exit", null, null);
+            fail("The session should fail when the inspector exits before the end of the tree.");
+        } catch (final IOException e) {
+            // expected
+        } finally {
+            session.close();
+        }
+    }
+
+    @Test
+    public void testTabAndLineBreakAreRejectedWithoutBreakingTheSession() throws IOException {
+        final PipInspectorSession session = new PipInspectorSession(directory, SHELL, FAKE_INSPECTOR);
+        try {
+            // The requirements path is the last field, so the fields before it would be left behind if they were written first
+            assertRejected(session, "requirements\ttxt");
+            assertRejected(session, "requirements\ntxt");
+
+            final Optional<PipParseResult> result = session.inspect(treeParser.startTree(directory.toString()), directory, "valid", null, null);
+            assertEquals("valid", result.get().getProjectName());
+        } finally {
+            session.close();
+        }
+    }
+
+    @Test
+    public void testExtractorRestartsSessionAfterTheProcessDies() {
+        final DetectConfiguration detectConfiguration = Mockito.mock(DetectConfiguration.class);
+        Mockito.when(detectConfiguration.getBooleanProperty(DetectProperty.DETECT_PIP_BATCH, PropertyAuthority.None)).thenReturn(true);
+        Mockito.when(detectConfiguration.getProperty(DetectProperty.DETECT_PIP_PROJECT_NAME, PropertyAuthority.None)).thenReturn("exit", "restarted");
+
+        final PipInspectorExtractor extractor = new PipInspectorExtractor(null, treeParser, detectConfiguration);
+        try {
+            final Extraction failed = extractor.extract(directory, SHELL, FAKE_INSPECTOR, null, null);
+            final Extraction restarted = extractor.extract(directory, SHELL, FAKE_INSPECTOR, null, null);
+
+            assertEquals(ExtractionResultType.EXCEPTION, failed.result);
+            assertEquals(ExtractionResultType.SUCCESS, restarted.result);
+            assertEquals("restarted", restarted.projectName);
+        } finally {
+            extractor.closeSessions();
+        }
+    }
+
+    private void assertRejected(final PipInspectorSession session, final String requirementsFilePath) {
+        try {
+            session.inspect(treeParser.startTree(directory.toString()), directory, "rejected", null, requirementsFilePath);
+            fail("The session should reject a value containing a tab or line break.");
+        } catch (final IOException e) {
+            // expected
+        }
+    }
+}
@@ -96,4 +96,25 @@ public class PipInspectorTreeParserTest {
         final Optional<PipParseResult> invalidParse = parser.parse(invalidText, "");
         Assert.assertFalse(invalidParse.isPresent());
     }
+
+    @Test
+    public void incrementalTreesTest() {
+        final PipInspectorTreeParser.TreeBuilder first = parser.startTree("first");
+        first.addLine("first-project==1.0");
+        first.addLine("    six==1.11.0");
+
+        final PipInspectorTreeParser.TreeBuilder second = parser.startTree("second");
+        second.addLine("n?==v?");
+        second.addLine("    Django==1.10.4");
+        second.addLine("        pytz==2018.5");
+
+        final Optional<PipParseResult> firstParse = first.build();
+        final Optional<PipParseResult> secondParse = second.build();
+        Assert.assertTrue(firstParse.isPresent());
+        Assert.assertEquals("first-project", firstParse.get().getProjectName());
+        Assert.assertEquals(1, firstParse.get().getCodeLocation().getDependencyGraph().getRootDependencies().size());
+        Assert.assertTrue(secondParse.isPresent());
+        Assert.assertEquals("", secondParse.get().getProjectName());
+        Assert.assertEquals(1, secondParse.get().getCodeLocation().getDependencyGraph().getRootDependencies().size());
+    }
 }
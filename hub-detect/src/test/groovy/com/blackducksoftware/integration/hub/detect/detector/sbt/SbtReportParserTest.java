@@ -0,0 +1,76 @@
+package com.blackducksoftware.integration.hub.detect.detector.sbt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Test;
+
+public class SbtReportParserTest {
+
+    @Test
+    public void testParseReport() throws IOException {
+        final SbtReportParser parser = new SbtReportParser();
+        final SbtReport report = parser.parseReport(new File("src/test/resources/sbt/com.example-example_2.12-compile.xml"));
+
+        assertEquals("com.example", report.getOrganisation());
+        assertEquals("example_2.12", report.getModule());
+        assertEquals("0.1.0", report.getRevision());
+        assertEquals("compile", report.getConfiguration());
+        assertEquals(2, report.getDependencies().size());
+
+        final SbtModule scalaLibrary = report.getDependencies().get(0);
+        assertEquals("org.scala-lang", scalaLibrary.getOrganisation());
+        assertEquals("scala-library", scalaLibrary.getName());
+        assertEquals(1, scalaLibrary.getRevisions().size());
+
+        final SbtRevision scalaLibraryRevision = scalaLibrary.getRevisions().get(0);
+        assertEquals("2.12.7", scalaLibraryRevision.getName());
+        assertEquals(2, scalaLibraryRevision.getCallers().size());
+        final SbtCaller projectCaller = scalaLibraryRevision.getCallers().get(0);
+        assertEquals("com.example", projectCaller.getOrganisation());
+        assertEquals("example_2.12", projectCaller.getName());
+        assertEquals("0.1.0", projectCaller.getRevision());
+        final SbtCaller transitiveCaller = scalaLibraryRevision.getCallers().get(1);
+        assertEquals("com.typesafe", transitiveCaller.getOrganisation());
+        assertEquals("config", transitiveCaller.getName());
+        assertEquals("1.3.3", transitiveCaller.getRevision());
+    }
+
+    @Test
+    public void testEvictedRevisionIsKept() throws IOException {
+        final SbtReportParser parser = new SbtReportParser();
+        final SbtReport report = parser.parseReport(new File("src/test/resources/sbt/com.example-example_2.12-compile.xml"));
+
+        final SbtModule config = report.getDependencies().get(1);
+        assertEquals("config", config.getName());
+        assertEquals(2, config.getRevisions().size());
+        assertEquals("1.3.3", config.getRevisions().get(0).getName());
+
+        final SbtRevision evictedRevision = config.getRevisions().get(1);
+        assertEquals("1.3.0", evictedRevision.getName());
+        assertEquals(1, evictedRevision.getCallers().size());
+        assertEquals("ssl-config-core_2.12", evictedRevision.getCallers().get(0).getName());
+        assertEquals("0.3.6", evictedRevision.getCallers().get(0).getRevision());
+    }
+
+    @Test
+    public void testNestedElementsWithTheSameNameAreIgnored() throws IOException {
+        final SbtReportParser parser = new SbtReportParser();
+        final SbtReport report = parser.parseReport(new File("src/test/resources/sbt/com.example-example_2.12-compile.xml"));
+
+        // A module nested in an artifact does not start a new dependency, and a caller nested in evicted-by does not call the revision
+        assertEquals(2, report.getDependencies().size());
+        for (final SbtModule module : report.getDependencies()) {
+            for (final SbtRevision revision : module.getRevisions()) {
+                for (final SbtCaller caller : revision.getCallers()) {
+                    assertFalse("nested-caller".equals(caller.getName()));
+                }
+            }
+        }
+        final SbtRevision configRevision = report.getDependencies().get(1).getRevisions().get(0);
+        assertEquals(1, configRevision.getCallers().size());
+    }
+}
@@ -0,0 +1,91 @@
+package com.blackducksoftware.integration.hub.detect.detector.yarn;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.blackducksoftware.integration.hub.detect.configuration.DetectConfiguration;
+import com.blackducksoftware.integration.hub.detect.configuration.DetectProperty;
+import com.blackducksoftware.integration.hub.detect.configuration.PropertyAuthority;
+import com.blackducksoftware.integration.hub.detect.util.executable.ExecutableRunner;
+import com.blackducksoftware.integration.hub.detect.workflow.extraction.Extraction;
+import com.blackducksoftware.integration.hub.detect.workflow.extraction.Extraction.ExtractionResultType;
+import com.google.gson.Gson;
+import com.synopsys.integration.bdio.graph.DependencyGraph;
+import com.synopsys.integration.bdio.model.Forge;
+import com.synopsys.integration.bdio.model.externalid.ExternalId;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+
+public class YarnLockExtractorTest {
+    private static final File PROJECT_DIRECTORY = new File("src/test/resources/yarn/lock-project");
+
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+
+    @Test
+    public void testTransformFollowsRootAndTransitiveEdges() throws IOException {
+        final YarnLock yarnLock;
+        try (Reader reader = new FileReader(new File(PROJECT_DIRECTORY, "yarn.lock"))) {
+            yarnLock = new YarnLockParser().parseYarnLock(reader);
+        }
+
+        final DependencyGraph graph = new YarnLockGraphTransformer(externalIdFactory).transform(yarnLock, Arrays.asList("debug@^2.2.0", "mocha@^5.2.0", "left-pad@^1.0.0"));
+
+        assertEquals(asSet(npm("debug", "2.6.9"), npm("mocha", "5.2.0"), npm("left-pad", "^1.0.0")), graph.getRootDependencyExternalIds());
+        assertEquals(asSet(npm("ms", "2.0.0")), graph.getChildrenExternalIdsForParent(npm("debug", "2.6.9")));
+        assertEquals(asSet(npm("debug", "2.6.9")), graph.getChildrenExternalIdsForParent(npm("mocha", "5.2.0")));
+        assertFalse(graph.hasDependency(npm("fsevents", "1.2.4")));
+    }
+
+    @Test
+    public void testExtractUsesPackageJsonWithoutYarn() {
+        final Extraction extraction = extract(false);
+
+        assertEquals(ExtractionResultType.SUCCESS, extraction.result);
+        final DependencyGraph graph = extraction.codeLocations.get(0).getDependencyGraph();
+        assertEquals(asSet(npm("debug", "2.6.9"), npm("mocha", "5.2.0"), npm("fsevents", "1.2.4")), graph.getRootDependencyExternalIds());
+        assertEquals(asSet(npm("nan", "2.11.1")), graph.getChildrenExternalIdsForParent(npm("fsevents", "1.2.4")));
+    }
+
+    @Test
+    public void testProductionOnlyKeepsOptionalDependencies() {
+        final Extraction extraction = extract(true);
+
+        assertEquals(ExtractionResultType.SUCCESS, extraction.result);
+        final DependencyGraph graph = extraction.codeLocations.get(0).getDependencyGraph();
+        assertEquals(asSet(npm("debug", "2.6.9"), npm("fsevents", "1.2.4")), graph.getRootDependencyExternalIds());
+        assertTrue(graph.hasDependency(npm("ms", "2.0.0")));
+        assertFalse(graph.hasDependency(npm("mocha", "5.2.0")));
+    }
+
+    private Extraction extract(final boolean productionOnly) {
+        final DetectConfiguration detectConfiguration = Mockito.mock(DetectConfiguration.class);
+        Mockito.when(detectConfiguration.getBooleanProperty(DetectProperty.DETECT_YARN_PROD_ONLY, PropertyAuthority.None)).thenReturn(productionOnly);
+        final ExecutableRunner executableRunner = Mockito.mock(ExecutableRunner.class);
+
+        final YarnLockParser yarnLockParser = new YarnLockParser();
+        final YarnLockExtractor extractor = new YarnLockExtractor(externalIdFactory, yarnLockParser, new YarnLockGraphTransformer(externalIdFactory), new YarnListParser(externalIdFactory, yarnLockParser),
+            executableRunner, detectConfiguration, new Gson());
+
+        // No yarn executable is given, so a successful extraction came from the package.json roots.
+        return extractor.extract(PROJECT_DIRECTORY, new File(PROJECT_DIRECTORY, "yarn.lock"), new File(PROJECT_DIRECTORY, "package.json"), null);
+    }
+
+    private ExternalId npm(final String name, final String version) {
+        return externalIdFactory.createNameVersionExternalId(Forge.NPM, name, version);
+    }
+
+    private Set<ExternalId> asSet(final ExternalId... externalIds) {
+        return new HashSet<>(Arrays.asList(externalIds));
+    }
+}
@@ -1,8 +1,12 @@
 package com.blackducksoftware.integration.hub.detect.detector.yarn;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -85,4 +89,28 @@ public class YarnLockParserTest {
         assertEquals("0.2.37", lockResolvedVersions.get("cssstyle@>= 0.2.37 < 0.3.0"));
     }
 
+    @Test
+    public void testThatEntriesAreIndexedWithTheirDependencies() throws IOException {
+        final String yarnLockText = String.join("\n",
+            "\"@gulp-sourcemaps/map-sources@1.X\", \"@gulp-sourcemaps/map-sources@^1.0.0\":",
+            "  version \"1.0.0\"",
+            "  dependencies:",
+            "    normalize-path \"^2.0.1\"",
+            "  optionalDependencies:",
+            "    \"@types/node\" \">= 8\"",
+            "",
+            "local@file:scripts/local:",
+            "  version \"0.0.0\"");
+
+        final YarnLockParser yarnLockParser = new YarnLockParser();
+        final YarnLock yarnLock = yarnLockParser.parseYarnLock(new StringReader(yarnLockText));
+
+        final YarnLockEntry entry = yarnLock.findEntry("@gulp-sourcemaps/map-sources@^1.0.0").get();
+        assertEquals("@gulp-sourcemaps/map-sources", entry.getName());
+        assertEquals("1.0.0", entry.getVersion());
+        assertEquals(Arrays.asList("normalize-path@^2.0.1", "@types/node@>= 8"), entry.getDependencyFuzzyIds());
+        assertEquals("0.0.0", yarnLock.findResolvedVersion("local@file:scripts/local").get());
+        assertFalse(yarnLock.findEntry("normalize-path@^2.0.1").isPresent());
+    }
+
 }
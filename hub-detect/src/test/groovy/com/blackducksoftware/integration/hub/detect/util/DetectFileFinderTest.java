@@ -10,6 +10,7 @@ import java.io.File;
 import org.junit.Test;
 
 import com.blackducksoftware.integration.hub.detect.workflow.file.DetectFileFinder;
+import com.blackducksoftware.integration.hub.detect.workflow.file.DirectoryIndex;
 
 public class DetectFileFinderTest {
 
@@ -54,4 +55,20 @@ public class DetectFileFinderTest {
         List<File> filesFound = finder.findAllFilesToDepth(targetDir, new StringBuilder("Maximum search depth hit during test"), 2,"*.txt");
         assertEquals(1, filesFound.size());
     }
+
+    @Test
+    public void testFindFilesFromDirectoryIndex() {
+        final DirectoryIndex directoryIndex = new DirectoryIndex();
+        final DetectFileFinder finder = new DetectFileFinder(directoryIndex);
+        File targetDir = new File("src/test/resources/fileFinder");
+        directoryIndex.indexDirectory(targetDir);
+        assertTrue(directoryIndex.getIndexedChildren(targetDir).isPresent());
+
+        assertEquals(new File(targetDir, "test0.txt"), finder.findFile(targetDir, "*.txt"));
+        assertEquals(new File(targetDir, "test0.txt"), finder.findFile(targetDir, "test?.txt"));
+        assertEquals(2, finder.findFiles(targetDir, "sub*").size());
+        assertEquals(null, finder.findFiles(targetDir, "*.json"));
+        assertTrue(finder.containsAllFiles(targetDir, "test0.txt", "sub1"));
+        assertFalse(finder.containsAllFiles(targetDir, "test0.txt", "test1.txt"));
+    }
 }
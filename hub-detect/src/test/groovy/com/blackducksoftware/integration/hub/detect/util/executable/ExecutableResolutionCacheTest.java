@@ -0,0 +1,104 @@
+package com.blackducksoftware.integration.hub.detect.util.executable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+public class ExecutableResolutionCacheTest {
+
+    @Test
+    public void testResolutionSurvivesNewCacheInstance() throws IOException {
+        final File cacheDirectory = Files.createTempDirectory("executables").toFile();
+        try {
+            final File binDirectory = new File(cacheDirectory, "bin");
+            binDirectory.mkdirs();
+            final File executable = new File(binDirectory, "tool");
+            FileUtils.write(executable, "#!/bin/sh", "UTF-8");
+            final String searchPath = binDirectory.getAbsolutePath();
+
+            new ExecutableResolutionCache(cacheDirectory).putResolvedExecutable("tool", searchPath, executable);
+
+            final ExecutableResolutionCache cache = new ExecutableResolutionCache(cacheDirectory);
+            assertEquals(executable.getAbsolutePath(), cache.getResolvedExecutable("tool", searchPath).get().getAbsolutePath());
+            assertFalse(cache.getResolvedExecutable("tool", searchPath + File.pathSeparator + "other").isPresent());
+        } finally {
+            FileUtils.deleteDirectory(cacheDirectory);
+        }
+    }
+
+    @Test
+    public void testChangedExecutableIsNotTrusted() throws IOException {
+        final File cacheDirectory = Files.createTempDirectory("executables").toFile();
+        try {
+            final File binDirectory = new File(cacheDirectory, "bin");
+            binDirectory.mkdirs();
+            final File executable = new File(binDirectory, "tool");
+            FileUtils.write(executable, "#!/bin/sh", "UTF-8");
+            final String searchPath = binDirectory.getAbsolutePath();
+
+            final ExecutableResolutionCache cache = new ExecutableResolutionCache(cacheDirectory);
+            cache.putResolvedExecutable("tool", searchPath, executable);
+            assertTrue(cache.getResolvedExecutable("tool", searchPath).isPresent());
+
+            assertTrue(executable.setLastModified(executable.lastModified() - 10000));
+            assertFalse(cache.getResolvedExecutable("tool", searchPath).isPresent());
+        } finally {
+            FileUtils.deleteDirectory(cacheDirectory);
+        }
+    }
+
+    @Test
+    public void testChangedSearchDirectoryResolvesAgain() throws IOException {
+        final File cacheDirectory = Files.createTempDirectory("executables").toFile();
+        try {
+            final File earlierDirectory = new File(cacheDirectory, "earlier");
+            final File laterDirectory = new File(cacheDirectory, "later");
+            earlierDirectory.mkdirs();
+            laterDirectory.mkdirs();
+            final File executable = new File(laterDirectory, "tool");
+            FileUtils.write(executable, "#!/bin/sh", "UTF-8");
+            final String searchPath = earlierDirectory.getAbsolutePath() + File.pathSeparator + laterDirectory.getAbsolutePath();
+
+            final ExecutableResolutionCache cache = new ExecutableResolutionCache(cacheDirectory);
+            cache.putResolvedExecutable("tool", searchPath, executable);
+            assertTrue(cache.getResolvedExecutable("tool", searchPath).isPresent());
+
+            // An executable installed earlier on the path changes that directory's modified time
+            FileUtils.write(new File(earlierDirectory, "tool"), "#!/bin/sh", "UTF-8");
+            assertTrue(earlierDirectory.setLastModified(earlierDirectory.lastModified() + 10000));
+            assertFalse(cache.getResolvedExecutable("tool", searchPath).isPresent());
+        } finally {
+            FileUtils.deleteDirectory(cacheDirectory);
+        }
+    }
+
+    @Test
+    public void testVersionOutputIsKeyedByExecutableAndSearchPath() throws IOException {
+        final File cacheDirectory = Files.createTempDirectory("executables").toFile();
+        try {
+            final File binDirectory = new File(cacheDirectory, "bin");
+            binDirectory.mkdirs();
+            final File executable = new File(binDirectory, "tool");
+            FileUtils.write(executable, "#!/bin/sh", "UTF-8");
+            final String searchPath = binDirectory.getAbsolutePath();
+
+            new ExecutableResolutionCache(cacheDirectory).putVersionOutput(executable, searchPath, "1.2.3");
+
+            final ExecutableResolutionCache cache = new ExecutableResolutionCache(cacheDirectory);
+            assertEquals("1.2.3", cache.getVersionOutput(executable, searchPath).get());
+            assertFalse(cache.getVersionOutput(executable, searchPath + File.pathSeparator + "other").isPresent());
+
+            assertTrue(executable.setLastModified(executable.lastModified() - 10000));
+            assertFalse(cache.getVersionOutput(executable, searchPath).isPresent());
+        } finally {
+            FileUtils.deleteDirectory(cacheDirectory);
+        }
+    }
+}
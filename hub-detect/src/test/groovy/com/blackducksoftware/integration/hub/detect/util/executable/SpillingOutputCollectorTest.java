@@ -0,0 +1,115 @@
+package com.blackducksoftware.integration.hub.detect.util.executable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+public class SpillingOutputCollectorTest {
+
+    @Test
+    public void testKeepsSmallOutputInMemory() throws IOException {
+        final File spillDirectory = Files.createTempDirectory("spill").toFile();
+        try {
+            final SpillingOutputCollector collector = new SpillingOutputCollector(spillDirectory, 1000);
+            collector.accept("first");
+            collector.accept("second");
+            collector.close();
+
+            assertFalse(collector.isSpilled());
+            assertEquals("first" + System.lineSeparator() + "second" + System.lineSeparator(), collector.getOutput());
+        } finally {
+            FileUtils.deleteDirectory(spillDirectory);
+        }
+    }
+
+    @Test
+    public void testSpillsLargeOutputToFile() throws IOException {
+        final File spillDirectory = Files.createTempDirectory("spill").toFile();
+        try {
+            final SpillingOutputCollector collector = new SpillingOutputCollector(spillDirectory, 10);
+            collector.accept("first line");
+            collector.accept("second line");
+            collector.accept("third line");
+            collector.close();
+
+            assertTrue(collector.isSpilled());
+            assertEquals("", collector.getOutput());
+
+            final ExecutableOutput output = new ExecutableOutput(0, "", "", collector.getSpillFile());
+            final List<String> lines = new ArrayList<>();
+            output.forEachStandardOutputLine(lines::add);
+            assertEquals(3, lines.size());
+            assertEquals("second line", lines.get(1));
+            assertEquals(3, output.getStandardOutputAsList().size());
+
+            output.deleteStandardOutputFile();
+            assertFalse(collector.getSpillFile().exists());
+        } finally {
+            FileUtils.deleteDirectory(spillDirectory);
+        }
+    }
+
+    @Test
+    public void testDiscardDeletesSpilledOutput() throws IOException {
+        final File spillDirectory = Files.createTempDirectory("spill").toFile();
+        try {
+            final SpillingOutputCollector collector = new SpillingOutputCollector(spillDirectory, 10);
+            collector.accept("first line");
+            collector.accept("second line");
+            collector.discard();
+
+            assertTrue(collector.isSpilled());
+            assertFalse(collector.getSpillFile().exists());
+        } finally {
+            FileUtils.deleteDirectory(spillDirectory);
+        }
+    }
+
+    @Test
+    public void testExecuteSpillingReadsLargeOutputFromFile() throws IOException, ExecutableRunnerException {
+        final File spillDirectory = Files.createTempDirectory("spill").toFile();
+        try {
+            final Executable executable = new Executable(spillDirectory, "sh", Arrays.asList("-c", "echo first line; echo second line; echo third line"));
+            final ExecutableOutput output = new ExecutableRunner().executeSpilling(executable, spillDirectory, 10);
+
+            assertTrue(output.getStandardOutputFile().isPresent());
+            try (Reader reader = output.openStandardOutputReader()) {
+                final String separator = System.lineSeparator();
+                assertEquals("first line" + separator + "second line" + separator + "third line" + separator, IOUtils.toString(reader));
+            }
+
+            output.deleteStandardOutputFile();
+            assertFalse(output.getStandardOutputFile().get().exists());
+        } finally {
+            FileUtils.deleteDirectory(spillDirectory);
+        }
+    }
+
+    @Test
+    public void testExecuteSpillingKeepsSmallOutputInMemory() throws IOException, ExecutableRunnerException {
+        final File spillDirectory = Files.createTempDirectory("spill").toFile();
+        try {
+            final Executable executable = new Executable(spillDirectory, "sh", Arrays.asList("-c", "echo small"));
+            final ExecutableOutput output = new ExecutableRunner().executeSpilling(executable, spillDirectory, 1000);
+
+            assertFalse(output.getStandardOutputFile().isPresent());
+            try (Reader reader = output.openStandardOutputReader()) {
+                assertEquals("small", IOUtils.toString(reader));
+            }
+        } finally {
+            FileUtils.deleteDirectory(spillDirectory);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.blackducksoftware.integration.hub.detect.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Optional;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+public class ArtifactCacheTest {
+    private static final String SOURCE = "https://repo/inspector-1.0.0.jar";
+
+    @Test
+    public void testStoredArtifactIsFoundByNewCache() throws IOException {
+        final File cacheDirectory = Files.createTempDirectory("artifact-cache").toFile();
+        try {
+            final File artifact = new ArtifactCache(cacheDirectory, 0).storeArtifact(SOURCE, "inspector-1.0.0.jar", content("jar"), null);
+            assertEquals("inspector-1.0.0.jar", artifact.getName());
+
+            final Optional<File> found = new ArtifactCache(cacheDirectory, 0).findArtifact(SOURCE);
+            assertTrue(found.isPresent());
+            assertEquals(artifact, found.get());
+        } finally {
+            FileUtils.deleteQuietly(cacheDirectory);
+        }
+    }
+
+    @Test
+    public void testCorruptArtifactIsNotFound() throws IOException {
+        final File cacheDirectory = Files.createTempDirectory("artifact-cache").toFile();
+        try {
+            final ArtifactCache artifactCache = new ArtifactCache(cacheDirectory, 0);
+            final File artifact = artifactCache.storeArtifact(SOURCE, "inspector-1.0.0.jar", content("jar"), null);
+            FileUtils.writeStringToFile(artifact, "ja", StandardCharsets.UTF_8);
+
+            assertFalse(artifactCache.findArtifact(SOURCE).isPresent());
+        } finally {
+            FileUtils.deleteQuietly(cacheDirectory);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testChecksumMismatchIsRejected() throws IOException {
+        final File cacheDirectory = Files.createTempDirectory("artifact-cache").toFile();
+        try {
+            new ArtifactCache(cacheDirectory, 0).storeArtifact(SOURCE, "inspector-1.0.0.jar", content("jar"), "0000");
+        } finally {
+            assertFalse(new ArtifactCache(cacheDirectory, 0).findArtifact(SOURCE).isPresent());
+            FileUtils.deleteQuietly(cacheDirectory);
+        }
+    }
+
+    @Test
+    public void testPropertyFreshness() throws IOException {
+        final File cacheDirectory = Files.createTempDirectory("artifact-cache").toFile();
+        try {
+            new ArtifactCache(cacheDirectory, 60000).putProperty("url", SOURCE, "\"etag\"", null);
+
+            final Optional<ArtifactCache.CachedProperty> fresh = new ArtifactCache(cacheDirectory, 60000).getProperty("url");
+            assertTrue(fresh.isPresent());
+            assertTrue(fresh.get().isFresh());
+            assertEquals(SOURCE, fresh.get().getValue());
+            assertEquals("\"etag\"", fresh.get().getEntityTag());
+
+            final Optional<ArtifactCache.CachedProperty> stale = new ArtifactCache(cacheDirectory, 0).getProperty("url");
+            assertTrue(stale.isPresent());
+            assertFalse(stale.get().isFresh());
+        } finally {
+            FileUtils.deleteQuietly(cacheDirectory);
+        }
+    }
+
+    @Test
+    public void testConcurrentInvocationsKeepEachOthersEntries() throws IOException {
+        final File cacheDirectory = Files.createTempDirectory("artifact-cache").toFile();
+        try {
+            final ArtifactCache firstInvocation = new ArtifactCache(cacheDirectory, 60000);
+            final ArtifactCache secondInvocation = new ArtifactCache(cacheDirectory, 60000);
+            assertFalse(firstInvocation.getProperty("first").isPresent());
+            assertFalse(secondInvocation.getProperty("second").isPresent());
+
+            firstInvocation.putProperty("first", "1.0.0", null, null);
+            secondInvocation.putProperty("second", "2.0.0", null, null);
+
+            final ArtifactCache nextInvocation = new ArtifactCache(cacheDirectory, 60000);
+            assertEquals("1.0.0", nextInvocation.getProperty("first").get().getValue());
+            assertEquals("2.0.0", nextInvocation.getProperty("second").get().getValue());
+        } finally {
+            FileUtils.deleteQuietly(cacheDirectory);
+        }
+    }
+
+    private ByteArrayInputStream content(final String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
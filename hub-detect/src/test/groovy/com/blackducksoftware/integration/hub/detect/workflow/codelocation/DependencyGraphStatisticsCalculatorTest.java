@@ -0,0 +1,51 @@
+package com.blackducksoftware.integration.hub.detect.workflow.codelocation;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.synopsys.integration.bdio.graph.MutableDependencyGraph;
+import com.synopsys.integration.bdio.graph.MutableMapDependencyGraph;
+import com.synopsys.integration.bdio.model.dependency.Dependency;
+import com.synopsys.integration.bdio.model.externalid.ExternalIdFactory;
+
+public class DependencyGraphStatisticsCalculatorTest {
+    private final ExternalIdFactory externalIdFactory = new ExternalIdFactory();
+
+    @Test
+    public void testSharedAndCyclicDependenciesAreCountedOnce() {
+        final Dependency a = createDependency("a");
+        final Dependency b = createDependency("b");
+        final Dependency c = createDependency("c");
+        final Dependency d = createDependency("d");
+
+        final MutableDependencyGraph graph = new MutableMapDependencyGraph();
+        graph.addChildToRoot(a);
+        graph.addChildToRoot(b);
+        graph.addChildWithParents(c, a);
+        graph.addChildWithParents(c, b);
+        graph.addChildWithParents(d, c);
+        graph.addChildWithParents(a, d);
+
+        final DependencyGraphStatistics statistics = new DependencyGraphStatisticsCalculator().calculate(graph);
+
+        assertEquals(4, statistics.getDependencyCount());
+        assertEquals(2, statistics.getDirectDependencyCount());
+        assertEquals(2, statistics.getTransitiveDependencyCount());
+        assertEquals(4, statistics.getRelationshipCount());
+        assertEquals(3, statistics.getMaxDepth());
+    }
+
+    @Test
+    public void testEmptyGraph() {
+        final DependencyGraphStatistics statistics = new DependencyGraphStatisticsCalculator().calculate(new MutableMapDependencyGraph());
+
+        assertEquals(0, statistics.getDependencyCount());
+        assertEquals(0, statistics.getRelationshipCount());
+        assertEquals(0, statistics.getMaxDepth());
+    }
+
+    private Dependency createDependency(final String artifact) {
+        return new Dependency(artifact, "1.0", externalIdFactory.createMavenExternalId("group", artifact, "1.0"));
+    }
+}
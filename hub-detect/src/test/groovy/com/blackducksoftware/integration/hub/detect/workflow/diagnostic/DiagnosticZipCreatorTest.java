@@ -0,0 +1,50 @@
+package com.blackducksoftware.integration.hub.detect.workflow.diagnostic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+public class DiagnosticZipCreatorTest {
+    @Test
+    public void testZipContainsRunAndReferencedFiles() throws IOException {
+        final File runsDirectory = Files.createTempDirectory("diagnostic-zip").toFile();
+        try {
+            final File runDirectory = new File(runsDirectory, "run-id");
+            final File logFile = new File(new File(runDirectory, "logs"), "log.txt");
+            FileUtils.writeStringToFile(logFile, "log", StandardCharsets.UTF_8);
+
+            final File sourceFile = Files.createTempFile("build", ".gradle").toFile();
+            sourceFile.deleteOnExit();
+            FileUtils.writeStringToFile(sourceFile, "relevant", StandardCharsets.UTF_8);
+            final File relevantLocation = new File(new File(new File(runDirectory, "relevant"), "extraction"), "build.gradle");
+
+            final DiagnosticZipCreator zipCreator = new DiagnosticZipCreator();
+            assertTrue(zipCreator.createDiagnosticZip("run-id", runsDirectory, Collections.singletonList(runDirectory), Collections.singletonMap(relevantLocation, sourceFile)));
+
+            try (ZipFile zipFile = new ZipFile(new File(runsDirectory, "detect-run-run-id.zip"))) {
+                final List<String> names = new ArrayList<>();
+                Collections.list(zipFile.entries()).forEach(entry -> names.add(entry.getName()));
+                assertEquals(2, names.size());
+                assertTrue(names.contains("logs/log.txt"));
+
+                final ZipEntry relevantEntry = zipFile.getEntry("relevant/extraction/build.gradle");
+                assertEquals("relevant", IOUtils.toString(zipFile.getInputStream(relevantEntry), StandardCharsets.UTF_8));
+            }
+        } finally {
+            FileUtils.deleteQuietly(runsDirectory);
+        }
+    }
+}
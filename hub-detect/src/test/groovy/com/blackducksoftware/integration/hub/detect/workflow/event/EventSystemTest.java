@@ -0,0 +1,74 @@
+package com.blackducksoftware.integration.hub.detect.workflow.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+public class EventSystemTest {
+    private static final EventType<Integer> NUMBER = new EventType<>(Integer.class);
+
+    @Test
+    public void testAsyncListenerReceivesEventsInOrderAfterFlush() {
+        final EventSystem eventSystem = new EventSystem(2);
+        final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        eventSystem.registerAsyncListener(NUMBER, event -> {
+            threads.add(Thread.currentThread());
+            received.add(event);
+        });
+
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            eventSystem.publishEvent(NUMBER, i);
+            expected.add(i);
+        }
+        eventSystem.flush();
+
+        assertEquals(expected, received);
+        assertNotEquals(Thread.currentThread(), threads.get(0));
+    }
+
+    @Test
+    public void testFlushAfterAsyncListenerThrowsError() {
+        final EventSystem eventSystem = new EventSystem(2);
+        final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        eventSystem.registerAsyncListener(NUMBER, event -> {
+            if (event == 1) {
+                throw new AssertionError("listener failure");
+            }
+            received.add(event);
+        });
+
+        eventSystem.publishEvent(NUMBER, 1);
+        eventSystem.publishEvent(NUMBER, 2);
+        eventSystem.flush();
+
+        assertEquals(Collections.singletonList(2), received);
+    }
+
+    @Test
+    public void testUnregisterAsyncListener() {
+        final EventSystem eventSystem = new EventSystem();
+        final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        final EventListener<Integer> listener = received::add;
+        eventSystem.registerAsyncListener(NUMBER, listener);
+        eventSystem.unregisterListener(NUMBER, listener);
+
+        eventSystem.publishEvent(NUMBER, 1);
+        eventSystem.flush();
+
+        assertEquals(0, received.size());
+    }
+
+    @Test
+    public void testPublishWithoutListeners() {
+        final EventSystem eventSystem = new EventSystem();
+        eventSystem.publishEvent(NUMBER, 1);
+        eventSystem.flush();
+    }
+}
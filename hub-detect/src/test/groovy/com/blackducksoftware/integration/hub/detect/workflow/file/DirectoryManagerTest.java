@@ -0,0 +1,62 @@
+package com.blackducksoftware.integration.hub.detect.workflow.file;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+import com.blackducksoftware.integration.hub.detect.detector.ExtractionId;
+import com.blackducksoftware.integration.hub.detect.workflow.DetectRun;
+
+public class DirectoryManagerTest {
+    private static final int THREADS = 8;
+
+    @Test
+    public void testConcurrentRequestsShareOneExtractionDirectory() throws IOException, InterruptedException, ExecutionException {
+        final File outputDirectory = Files.createTempDirectory("output").toFile();
+        final ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        try {
+            final DirectoryManager directoryManager = new DirectoryManager(new DirectoryOptions(null, outputDirectory.getAbsolutePath(), null, null), new DetectRun("run"));
+            final ExtractionId extractionId = new ExtractionId("TEST", "0");
+
+            final CountDownLatch start = new CountDownLatch(1);
+            final Callable<File> request = () -> {
+                start.await();
+                return directoryManager.getExtractionOutputDirectory(extractionId);
+            };
+            final List<Future<File>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executorService.submit(request));
+            }
+            start.countDown();
+
+            final Set<File> directories = new HashSet<>();
+            for (final Future<File> future : futures) {
+                directories.add(future.get());
+            }
+
+            assertEquals(1, directories.size());
+            final File directory = directories.iterator().next();
+            assertTrue(directory.isDirectory());
+            assertEquals(1, directory.getParentFile().listFiles().length);
+        } finally {
+            executorService.shutdownNow();
+            FileUtils.deleteDirectory(outputDirectory);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.blackducksoftware.integration.hub.detect.workflow.hub;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.blackducksoftware.integration.hub.detect.workflow.file.DetectFileFinder;
+
+public class ExclusionPatternCreatorTest {
+    private final File scanTarget = new File("src/test/resources/fileFinder");
+
+    @Test
+    public void testMatchedDirectoriesArePruned() {
+        final ExclusionPatternCreator creator = new ExclusionPatternCreator(new DetectFileFinder(), scanTarget);
+        final Set<String> patterns = creator.determineExclusionPatterns("Maximum search depth hit during test at %s", 10, "sub*");
+        assertEquals(new HashSet<>(Arrays.asList("/sub1/", "/sub2/")), patterns);
+    }
+
+    @Test
+    public void testNestedMatches() {
+        final ExclusionPatternCreator creator = new ExclusionPatternCreator(new DetectFileFinder(), scanTarget);
+        final Set<String> patterns = creator.determineExclusionPatterns("Maximum search depth hit during test at %s", 10, "subsub", "test0.txt");
+        assertEquals(new HashSet<>(Arrays.asList("/sub1/subsub/", "/sub2/subsub/", "/test0.txt/")), patterns);
+    }
+
+    @Test
+    public void testMaxDepth() {
+        final ExclusionPatternCreator creator = new ExclusionPatternCreator(new DetectFileFinder(), scanTarget);
+        assertEquals(new HashSet<>(Arrays.asList("/test0.txt/")), creator.determineExclusionPatterns("Maximum search depth hit during test at %s", 2, "*.txt"));
+        assertEquals(4, creator.determineExclusionPatterns("Maximum search depth hit during test at %s", 3, "*.txt").size());
+    }
+}
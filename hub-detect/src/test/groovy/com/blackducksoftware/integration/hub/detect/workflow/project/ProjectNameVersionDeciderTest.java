@@ -0,0 +1,32 @@
+package com.blackducksoftware.integration.hub.detect.workflow.project;
+
+import java.util.ArrayList;
+import java.util.Optional;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.synopsys.integration.util.NameVersion;
+
+public class ProjectNameVersionDeciderTest {
+    @Test
+    public void providedWhenNameAndVersionGiven() {
+        final ProjectNameVersionDecider decider = new ProjectNameVersionDecider(new ProjectNameVersionOptions("source", "name", "version", "Default Detect Version", "text", "yyyy"));
+
+        final Optional<NameVersion> provided = decider.findProvidedProjectNameVersion();
+        Assert.assertTrue(provided.isPresent());
+        Assert.assertEquals("name", provided.get().getName());
+        Assert.assertEquals("version", provided.get().getVersion());
+
+        final NameVersion decided = decider.decideProjectNameVersion(null, new ArrayList<>());
+        Assert.assertEquals(provided.get().getName(), decided.getName());
+        Assert.assertEquals(provided.get().getVersion(), decided.getVersion());
+    }
+
+    @Test
+    public void notProvidedWithoutVersion() {
+        final ProjectNameVersionDecider decider = new ProjectNameVersionDecider(new ProjectNameVersionOptions("source", "name", "", "Default Detect Version", "text", "yyyy"));
+
+        Assert.assertFalse(decider.findProvidedProjectNameVersion().isPresent());
+    }
+}
@@ -0,0 +1,12 @@
+# Stands in for pip-inspector.py --batch: each request is answered with a tree for the project name field followed by the
+# end of tree marker, the project name 'exit' ends the process before its tree is finished.
+while IFS= read -r request; do
+    name=$(printf '%s' "$request" | cut -f2)
+    if [ "$name" = "exit" ]; then
+        echo "exit==1.0"
+        exit 0
+    fi
+    echo "${name:-n?}==1.0"
+    echo "    child==2.0"
+    echo "e?"
+done